@@ -0,0 +1,40 @@
+package donnafin.commons.core.types;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link Money#toString()}, which formats every monetary value shown in the client window and saved to
+ * the data file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private Money wholeDollars;
+    private Money withCents;
+
+    @Setup
+    public void setUp() throws Money.MoneyException {
+        wholeDollars = new Money(5_000_000);
+        withCents = new Money(120_000_005);
+    }
+
+    @Benchmark
+    public String toStringWholeDollars() {
+        return wholeDollars.toString();
+    }
+
+    @Benchmark
+    public String toStringWithCents() {
+        return withCents.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package donnafin.logic.parser;
+
+import static donnafin.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static donnafin.logic.parser.CliSyntax.PREFIX_COMMISSION;
+import static donnafin.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static donnafin.logic.parser.CliSyntax.PREFIX_INSURED_VALUE;
+import static donnafin.logic.parser.CliSyntax.PREFIX_INSURER;
+import static donnafin.logic.parser.CliSyntax.PREFIX_NAME;
+import static donnafin.logic.parser.CliSyntax.PREFIX_PHONE;
+import static donnafin.logic.parser.CliSyntax.PREFIX_REMARKS;
+import static donnafin.logic.parser.CliSyntax.PREFIX_TYPE;
+import static donnafin.logic.parser.CliSyntax.PREFIX_VALUE;
+import static donnafin.logic.parser.CliSyntax.PREFIX_YEARLY_PREMIUM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link ArgumentTokenizer#tokenize} on arguments typed for the {@code add} and {@code append} commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ArgumentTokenizerBenchmark {
+
+    private final String addArgs = " n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25";
+    private final String appendPolicyArgs = " n/Full Life Plan i/Prudential iv/$50000 pr/$200.50 c/$1000";
+    private final String appendAssetArgs = " n/Condominium ty/Property v/$1200000 r/Paid off in 2019, rented out";
+    private final String noPrefixArgs = " 12";
+
+    @Benchmark
+    public ArgumentMultimap add() {
+        return ArgumentTokenizer.tokenize(addArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
+    }
+
+    @Benchmark
+    public ArgumentMultimap appendPolicy() {
+        return ArgumentTokenizer.tokenize(appendPolicyArgs,
+                PREFIX_NAME, PREFIX_INSURER, PREFIX_INSURED_VALUE, PREFIX_YEARLY_PREMIUM, PREFIX_COMMISSION);
+    }
+
+    @Benchmark
+    public ArgumentMultimap appendAsset() {
+        return ArgumentTokenizer.tokenize(appendAssetArgs, PREFIX_NAME, PREFIX_TYPE, PREFIX_VALUE, PREFIX_REMARKS);
+    }
+
+    @Benchmark
+    public ArgumentMultimap preambleOnly() {
+        return ArgumentTokenizer.tokenize(noPrefixArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
+    }
+}
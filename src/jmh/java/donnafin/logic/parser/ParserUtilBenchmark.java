@@ -0,0 +1,35 @@
+package donnafin.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import donnafin.commons.core.types.Money;
+import donnafin.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link ParserUtil#parseMoney}, which parses every monetary value of a policy, asset or liability.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ParserUtilBenchmark {
+
+    private final String dollars = "$50000";
+    private final String dollarsAndCents = "$ 1200000.50";
+
+    @Benchmark
+    public Money parseMoneyDollars() throws ParseException {
+        return ParserUtil.parseMoney(dollars);
+    }
+
+    @Benchmark
+    public Money parseMoneyDollarsAndCents() throws ParseException {
+        return ParserUtil.parseMoney(dollarsAndCents);
+    }
+}
@@ -0,0 +1,47 @@
+package donnafin.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import donnafin.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures {@link NameContainsKeywordsPredicate} as used by the {@code find} command, over 1000 clients.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    private static final int CLIENT_COUNT = 1000;
+    private static final long SEED = 42;
+
+    private final NameContainsKeywordsPredicate oneKeyword = new NameContainsKeywordsPredicate(List.of("Tan"));
+    private final NameContainsKeywordsPredicate threeKeywords =
+            new NameContainsKeywordsPredicate(List.of("Priya", "Lim", "Fernandez"));
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = new SyntheticDataGenerator(SEED).generate(CLIENT_COUNT).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long oneKeyword() {
+        return persons.stream().filter(oneKeyword).count();
+    }
+
+    @Benchmark
+    public long threeKeywords() {
+        return persons.stream().filter(threeKeywords).count();
+    }
+}
@@ -0,0 +1,69 @@
+package donnafin.model.person;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import donnafin.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the operations of {@link UniquePersonList} that check for duplicate clients, on lists of several sizes.
+ * The list is left as it was after every benchmark invocation, so that its size does not drift.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private UniquePersonList list;
+    private Person absentPerson;
+    private Person lastPerson;
+    private Person editedLastPerson;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        list = new UniquePersonList();
+        list.setPersons(generator.generate(size).collect(Collectors.toList()));
+        absentPerson = generator.generatePerson(size);
+        lastPerson = generator.generatePerson(size - 1);
+        editedLastPerson = new Person(lastPerson.getName(), new Phone("81234567"), lastPerson.getEmail(),
+                lastPerson.getAddress(), lastPerson.getNotes(), lastPerson.getPolicies(), lastPerson.getLiabilities(),
+                lastPerson.getAssets());
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absentPerson);
+    }
+
+    @Benchmark
+    public void addThenRemove() {
+        list.add(absentPerson);
+        list.remove(absentPerson);
+    }
+
+    @Benchmark
+    public void setPersonAndBack() {
+        list.setPerson(lastPerson, editedLastPerson);
+        list.setPerson(editedLastPerson, lastPerson);
+    }
+}
@@ -0,0 +1,102 @@
+package donnafin.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures reading and writing the data file with {@link JsonAddressBookStorage}, for books of several sizes, with
+ * the data file uncompressed and compressed.
+ * Each invocation takes up to seconds for the largest books, so fewer iterations are run than for other benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonAddressBookStorageBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({"1000", "10000", "100000"})
+    public int clientCount;
+
+    @Param({".json", ".json.gz", ".json.deflate"})
+    public String extension;
+
+    private Path tempDir;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage writeStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("donnafin-benchmark");
+        addressBook = new SyntheticDataGenerator(SEED).generateAddressBook(clientCount);
+        readStorage = new JsonAddressBookStorage(tempDir.resolve("read" + extension));
+        readStorage.saveAddressBook(addressBook);
+        writeStorage = new JsonAddressBookStorage(tempDir.resolve("write" + extension));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(writeStorage.getAddressBookFilePath());
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataConversionException {
+        return readStorage.readAddressBook();
+    }
+
+    /**
+     * Saves with a storage that has saved the same clients before, as after a command that changed nothing.
+     */
+    @Benchmark
+    public void write() throws IOException {
+        writeStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves after one client has been replaced, as after a command that edited a client.
+     */
+    @Benchmark
+    public void writeOneChanged() throws IOException {
+        Person person = addressBook.getPersonList().get(0);
+        addressBook.setPerson(person, new Person(person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getNotes(), person.getPolicies(), person.getLiabilities(),
+                person.getAssets()));
+        writeStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves with a new storage, which has to encode every client, as at the first save.
+     */
+    @Benchmark
+    public void writeUncached() throws IOException {
+        new JsonAddressBookStorage(writeStorage.getAddressBookFilePath()).saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,134 @@
+package donnafin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import donnafin.commons.core.Config;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.ConfigUtil;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.UserPrefs;
+import donnafin.storage.AddressBookStorage;
+import donnafin.storage.BackupStore;
+import donnafin.storage.JsonUserPrefsStorage;
+import donnafin.storage.StorageManager;
+
+/**
+ * Lists or restores the backups of a data file without starting the GUI.
+ *
+ * Usage: {@code BackupMain list [DATA_FILE]} or {@code BackupMain restore SNAPSHOT [DATA_FILE]}
+ *
+ * The data file is {@code data/donnafin.json} if none is given. It is stored as {@code config.json} and
+ * {@code preferences.json} set, and locked while it is written, as when DonnaFin saves it. Before a backup is restored
+ * over the data file, the data file is copied as it is to a directory beside it, without being read, so that
+ * restoring can be undone even if the data file is damaged. As many backups are kept as {@code config.json} sets.
+ */
+public class BackupMain {
+
+    static final String DEFAULT_FILE = "data/donnafin.json";
+
+    static final String MESSAGE_USAGE = "Usage: BackupMain list [DATA_FILE]\n"
+            + "       BackupMain restore SNAPSHOT [DATA_FILE]\n"
+            + "Lists the backups of DATA_FILE (default " + DEFAULT_FILE + "), or restores the backup SNAPSHOT to it.";
+    static final String MESSAGE_NO_BACKUPS = "There are no backups in %1$s";
+    static final String MESSAGE_RESTORED = "Restored %1$d clients from %2$s to %3$s. The data it replaced was copied "
+            + "to %4$s";
+    static final String RESTORE_COPY_SUFFIX = "-before-restore-";
+
+    private static final DateTimeFormatter RESTORE_COPY_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    public static void main(String[] args) {
+        boolean isList = args.length >= 1 && args.length <= 2 && args[0].equals("list");
+        boolean isRestore = args.length >= 2 && args.length <= 3 && args[0].equals("restore");
+        if (!isList && !isRestore) {
+            exitWithError(MESSAGE_USAGE);
+        }
+
+        int dataFileIndex = isList ? 1 : 2;
+        Path filePath = Paths.get(args.length > dataFileIndex ? args[dataFileIndex] : DEFAULT_FILE);
+        try {
+            Config config = ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElseGet(Config::new);
+            BackupStore backupStore = new BackupStore(BackupStore.getBackupDirectory(filePath),
+                    getRetentionCount(config));
+            if (isList) {
+                System.out.println(list(backupStore));
+            } else {
+                AddressBookStorage storage = StorageManager.createAddressBookStorage(filePath,
+                        readStorageType(config), config.getAddressBookShardCount());
+                Path copyDirectory = getRestoreCopyDirectory(filePath, Instant.now());
+                int restoredCount = restore(backupStore, args[1], storage, copyDirectory);
+                System.out.println(String.format(MESSAGE_RESTORED, restoredCount, args[1], filePath,
+                        copyDirectory));
+            }
+        } catch (IOException | DataConversionException e) {
+            exitWithError("Could not " + args[0] + " backups of " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of backups to keep, as set by {@code config}, or the default if backups are turned off.
+     */
+    private static int getRetentionCount(Config config) {
+        int retentionCount = config.getBackupRetentionCount();
+        return retentionCount > 0 ? retentionCount : BackupStore.DEFAULT_RETENTION_COUNT;
+    }
+
+    /**
+     * Returns how the address book is stored, as set by the preferences file that {@code config} names.
+     */
+    private static UserPrefs.StorageType readStorageType(Config config) throws DataConversionException {
+        return new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs()
+                .orElseGet(UserPrefs::new)
+                .getAddressBookStorageType();
+    }
+
+    /**
+     * Returns the directory beside the data file at {@code filePath} that its data is copied to when a backup is
+     * restored over it at {@code time}, e.g. {@code data/donnafin-before-restore-20260101-120000-000}.
+     */
+    static Path getRestoreCopyDirectory(Path filePath, Instant time) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + RESTORE_COPY_SUFFIX + RESTORE_COPY_TIME_FORMAT.format(time));
+    }
+
+    /**
+     * Returns a list of the backups in {@code backupStore}, one per line from oldest to newest.
+     */
+    static String list(BackupStore backupStore) throws IOException {
+        List<BackupStore.Snapshot> snapshots = backupStore.getSnapshots();
+        if (snapshots.isEmpty()) {
+            return String.format(MESSAGE_NO_BACKUPS, backupStore.getDirectory());
+        }
+        StringBuilder builder = new StringBuilder();
+        for (BackupStore.Snapshot snapshot : snapshots) {
+            builder.append(snapshot).append('\n');
+        }
+        return builder.toString().stripTrailing();
+    }
+
+    /**
+     * Copies the data files of {@code storage} as they are to {@code copyDirectory}, without reading them, and then
+     * overwrites them with the backup {@code snapshotId}.
+     *
+     * @return the number of clients restored.
+     */
+    static int restore(BackupStore backupStore, String snapshotId, AddressBookStorage storage, Path copyDirectory)
+            throws IOException, DataConversionException {
+        ReadOnlyAddressBook restored = backupStore.restore(snapshotId);
+        storage.replaceAddressBook(restored, copyDirectory);
+        return restored.getPersonList().size();
+    }
+
+    private static void exitWithError(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,73 @@
+package donnafin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import donnafin.model.util.SyntheticDataGenerator;
+import donnafin.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a data file of synthetic clients without starting the GUI, e.g. for load testing.
+ *
+ * Usage: {@code DataGeneratorMain NUMBER_OF_CLIENTS [SEED] [FILE]}
+ *
+ * The same number of clients and seed always give the same file. Clients are written as they are generated, so the
+ * memory used does not grow with the number of clients.
+ */
+public class DataGeneratorMain {
+
+    static final long DEFAULT_SEED = 42;
+    static final String DEFAULT_FILE = "data/synthetic.json";
+
+    static final String MESSAGE_USAGE = "Usage: DataGeneratorMain NUMBER_OF_CLIENTS [SEED] [FILE]\n"
+            + "Writes NUMBER_OF_CLIENTS synthetic clients, generated from SEED (default "
+            + DEFAULT_SEED + "), to FILE (default " + DEFAULT_FILE + ").";
+    static final String MESSAGE_SUCCESS = "Wrote %1$d clients to %2$s in %3$d ms";
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            exitWithUsage();
+        }
+
+        int count = 0;
+        long seed = DEFAULT_SEED;
+        try {
+            count = Integer.parseInt(args[0]);
+            if (args.length > 1) {
+                seed = Long.parseLong(args[1]);
+            }
+        } catch (NumberFormatException e) {
+            exitWithUsage();
+        }
+        if (count < 0) {
+            exitWithUsage();
+        }
+        Path filePath = Paths.get(args.length > 2 ? args[2] : DEFAULT_FILE);
+
+        long start = System.nanoTime();
+        try {
+            long written = generate(count, seed, filePath);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(String.format(MESSAGE_SUCCESS, written, filePath.toAbsolutePath(), elapsedMillis));
+        } catch (IOException e) {
+            System.err.println("Could not write " + filePath + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Writes {@code count} clients generated from {@code seed} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @return the number of clients written.
+     */
+    static long generate(int count, long seed, Path filePath) throws IOException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        return new JsonAddressBookStorage(filePath).saveAddressBook(generator.generate(count).iterator(), filePath);
+    }
+
+    private static void exitWithUsage() {
+        System.err.println(MESSAGE_USAGE);
+        System.exit(1);
+    }
+}
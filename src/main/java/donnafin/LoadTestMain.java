@@ -0,0 +1,93 @@
+package donnafin;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import donnafin.commons.core.Config;
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.JsonUtil;
+import donnafin.loadtest.LoadProfile;
+import donnafin.loadtest.LoadTest;
+import donnafin.loadtest.LoadTestResult;
+
+/**
+ * Runs a {@link LoadTest} without the GUI, and exits with a non-zero status if it exceeds its latency budgets.
+ *
+ * Usage: {@code LoadTestMain [PROFILE_FILE] [REPORT_FILE]}
+ *
+ * The profile is read from PROFILE_FILE, or the default profile is used if none is given. The result is printed,
+ * and also written to REPORT_FILE as JSON if one is given.
+ */
+public class LoadTestMain {
+
+    static final String MESSAGE_USAGE = "Usage: LoadTestMain [PROFILE_FILE] [REPORT_FILE]";
+
+    public static void main(String[] args) {
+        if (args.length > 2) {
+            exitWithError(MESSAGE_USAGE);
+        }
+
+        // Every command is logged at INFO, which would slow the commands down and hide the result.
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        LoadTestResult result;
+        try {
+            LoadProfile profile = args.length > 0 ? readProfile(Paths.get(args[0])) : new LoadProfile();
+            System.out.println("Running load test: " + profile);
+            result = runInTempDirectory(profile);
+            System.out.println(result);
+            if (args.length > 1) {
+                result.saveReport(Paths.get(args[1]));
+            }
+        } catch (IOException | DataConversionException | IllegalArgumentException e) {
+            exitWithError("Load test could not be run: " + e.getMessage());
+            return;
+        }
+
+        if (!result.isWithinBudget()) {
+            exitWithError("Load test failed:\n" + String.join("\n", result.getBudgetViolations()));
+        }
+        LogsCenter.flush();
+        System.out.println("All latency budgets were met.");
+    }
+
+    private static LoadProfile readProfile(Path profileFile) throws DataConversionException, IOException {
+        Optional<LoadProfile> profile = JsonUtil.readJsonFile(profileFile, LoadProfile.class);
+        return profile.orElseThrow(() -> new IOException("Profile file not found: " + profileFile));
+    }
+
+    /**
+     * Runs a load test of {@code profile} with its data files in a temporary directory, which is deleted afterwards.
+     */
+    private static LoadTestResult runInTempDirectory(LoadProfile profile) throws IOException, DataConversionException {
+        Path dataDirectory = Files.createTempDirectory("donnafin-loadtest");
+        try {
+            return new LoadTest(profile, dataDirectory).run();
+        } finally {
+            List<Path> paths;
+            try (Stream<Path> walk = Files.walk(dataDirectory)) {
+                paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            }
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static void exitWithError(String message) {
+        LogsCenter.flush();
+        System.err.println(message);
+        System.exit(1);
+    }
+}
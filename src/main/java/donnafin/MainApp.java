@@ -1,34 +1,45 @@
 package donnafin;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import javax.management.JMException;
 
 import donnafin.commons.core.Config;
 import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
 import donnafin.commons.core.Version;
 import donnafin.commons.exceptions.DataConversionException;
 import donnafin.commons.util.ConfigUtil;
 import donnafin.commons.util.StringUtil;
+import donnafin.logic.AddressBookLoader;
 import donnafin.logic.Logic;
 import donnafin.logic.LogicManager;
+import donnafin.management.DonnaFinMonitor;
 import donnafin.model.AddressBook;
 import donnafin.model.Model;
 import donnafin.model.ModelManager;
 import donnafin.model.ReadOnlyAddressBook;
 import donnafin.model.ReadOnlyUserPrefs;
 import donnafin.model.UserPrefs;
+import donnafin.model.person.MergeResult;
+import donnafin.model.person.Name;
 import donnafin.model.util.SampleDataUtil;
 import donnafin.storage.AddressBookStorage;
-import donnafin.storage.JsonAddressBookStorage;
+import donnafin.storage.BackedUpAddressBookStorage;
+import donnafin.storage.BackupStore;
 import donnafin.storage.JsonUserPrefsStorage;
 import donnafin.storage.Storage;
 import donnafin.storage.StorageManager;
 import donnafin.storage.UserPrefsStorage;
+import donnafin.storage.WatchedAddressBookStorage;
 import donnafin.ui.Ui;
 import donnafin.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -45,6 +56,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AddressBookLoader addressBookLoader;
+    protected WatchedAddressBookStorage watchedAddressBookStorage;
 
     @Override
     public void init() throws Exception {
@@ -56,16 +69,60 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = createAddressBookStorage(config, userPrefs);
+        if (config.getBackupRetentionCount() > 0) {
+            addressBookStorage = new BackedUpAddressBookStorage(addressBookStorage, new BackupStore(
+                    BackupStore.getBackupDirectory(userPrefs.getAddressBookFilePath()),
+                    config.getBackupRetentionCount()));
+        }
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model);
+        if (config.isProgressiveStartup()) {
+            model = new ModelManager(new AddressBook(), userPrefs, storage);
+            addressBookLoader = new AddressBookLoader(model, storage, Platform::runLater);
+            logic = new LogicManager(model, addressBookLoader);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model);
+        }
 
         ui = new UiManager(logic);
+
+        // Saving or reloading through the MBean while clients are still being loaded would lose clients.
+        if (addressBookLoader == null) {
+            initManagement();
+        }
+    }
+
+    /**
+     * Registers a {@code DonnaFinMonitor} with the platform MBean server, so that the app can be monitored with
+     * JConsole or VisualVM. The app runs without it if it cannot be registered.
+     */
+    private void initManagement() {
+        DonnaFinMonitor monitor = new DonnaFinMonitor(model, storage, () -> ui.getUiState().name(),
+                () -> logic.getParserStrategy().getClass().getSimpleName(), Platform::runLater);
+        try {
+            monitor.register(ManagementFactory.getPlatformMBeanServer());
+        } catch (JMException e) {
+            logger.warning("Failed to register MBean " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the storage of the address book that {@code userPrefs} and {@code config} choose: a database, a Json
+     * file split into shards, or a single Json file. The data file of a Json address book is locked while it is read
+     * or written, and watched for changes by other copies of the app.
+     */
+    private AddressBookStorage createAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookStorageType(),
+                config.getAddressBookShardCount());
+        if (addressBookStorage instanceof WatchedAddressBookStorage) {
+            watchedAddressBookStorage = (WatchedAddressBookStorage) addressBookStorage;
+        }
+        return addressBookStorage;
     }
 
     /**
@@ -74,6 +131,7 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        verifyAddressBook(storage);
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -83,8 +141,8 @@ public class MainApp extends Application {
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+            logger.warning("Data file not in the correct format. Will be starting with the clients that are valid");
+            initialData = salvageAddressBook(storage);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
@@ -93,6 +151,30 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs, storage);
     }
 
+    /**
+     * Checks {@code storage}'s address book against its checksums, which logs any damage found.
+     */
+    private void verifyAddressBook(AddressBookStorage storage) {
+        try {
+            storage.verifyAddressBook();
+        } catch (IOException e) {
+            logger.warning("Could not verify the data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the valid clients in {@code storage}, or an empty address book if none can be salvaged.
+     */
+    private ReadOnlyAddressBook salvageAddressBook(Storage storage) {
+        try {
+            return storage.salvageAddressBook().orElseGet(AddressBook::new);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not salvage the data file. Will be starting with an empty AddressBook "
+                    + StringUtil.getDetails(e));
+            return new AddressBook();
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -169,6 +251,44 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (addressBookLoader != null) {
+            addressBookLoader.whenLoaded(this::initManagement);
+            addressBookLoader.whenLoaded(this::startWatchingDataFile);
+            addressBookLoader.start();
+        } else {
+            startWatchingDataFile();
+        }
+    }
+
+    /**
+     * Merges changes made to the data file by other copies of the app into the model as they are made, and saves
+     * the merged address book if it kept changes made here.
+     */
+    private void startWatchingDataFile() {
+        if (watchedAddressBookStorage == null) {
+            return;
+        }
+        try {
+            watchedAddressBookStorage.startWatching(Platform::runLater, this::mergeAddressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to watch data file for changes " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void mergeAddressBook(ReadOnlyAddressBook base, ReadOnlyAddressBook changed) {
+        MergeResult result = model.mergeAddressBook(base, changed);
+        if (!result.getConflicts().isEmpty()) {
+            ui.showMessage(String.format(WatchedAddressBookStorage.MESSAGE_MERGE_CONFLICTS, result.getConflicts()
+                    .stream().map(Name::toString).collect(Collectors.joining(", "))));
+        }
+        if (result.hasLocalChanges()) {
+            try {
+                model.saveAddressBook();
+            } catch (IOException e) {
+                logger.warning("Failed to save the merged address book " + StringUtil.getDetails(e));
+                ui.showMessage(LogicManager.FILE_OPS_ERROR_MESSAGE + e.getMessage());
+            }
+        }
     }
 
     @Override
@@ -179,5 +299,19 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            MetricsCenter.saveMetrics(config.getMetricsFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to save metrics " + StringUtil.getDetails(e));
+        }
+        model.getPersonChangePublisher().close();
+        if (watchedAddressBookStorage != null) {
+            try {
+                watchedAddressBookStorage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching data file " + StringUtil.getDetails(e));
+            }
+        }
+        LogsCenter.flush();
     }
 }
@@ -0,0 +1,51 @@
+package donnafin;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import donnafin.commons.util.JsonChecksums;
+import donnafin.storage.JsonAddressBookStorage;
+
+/**
+ * Checks a data file for damage against the checksums saved with it, without starting the GUI or reading any
+ * client. Exits with status 1 if any damage is found.
+ *
+ * Usage: {@code VerifyMain [DATA_FILE]}
+ *
+ * The data file is {@code data/donnafin.json} if none is given.
+ */
+public class VerifyMain {
+
+    static final String DEFAULT_FILE = "data/donnafin.json";
+
+    static final String MESSAGE_USAGE = "Usage: VerifyMain [DATA_FILE]\n"
+            + "Checks DATA_FILE (default " + DEFAULT_FILE + ") for damage against its checksums.";
+    static final String MESSAGE_NOT_FOUND = "%1$s not found";
+
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            exitWithError(MESSAGE_USAGE);
+        }
+
+        Path filePath = Paths.get(args.length == 1 ? args[0] : DEFAULT_FILE);
+        try {
+            Optional<JsonChecksums.Report> report = new JsonAddressBookStorage(filePath).verifyAddressBook();
+            if (report.isEmpty()) {
+                exitWithError(String.format(MESSAGE_NOT_FOUND, filePath));
+            }
+            System.out.println(filePath + ": " + report.get());
+            if (!report.get().isIntact()) {
+                System.exit(1);
+            }
+        } catch (IOException e) {
+            exitWithError("Could not verify " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private static void exitWithError(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+}
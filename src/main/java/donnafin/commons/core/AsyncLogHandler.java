@@ -0,0 +1,216 @@
+package donnafin.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers from a single background thread, so that a thread
+ * that logs does not wait for the records to be formatted and written.
+ * <p>
+ * Records are held in a bounded queue until the writer thread takes them. The writer takes every record that is
+ * waiting, up to {@value #MAX_BATCH_SIZE} at a time, and flushes the other handlers once per batch rather than
+ * once per record. What happens to a record when the queue is full is decided by the {@link QueueFullPolicy}.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is logged while the queue is full.
+     */
+    public enum QueueFullPolicy {
+        /** Wait until the writer has made room for the record. No record is lost. */
+        BLOCK,
+        /** Discard the record. The number of discarded records is reported in the log later. */
+        DROP
+    }
+
+    static final int MAX_BATCH_SIZE = 256;
+    static final String MESSAGE_DROPPED_RECORDS = "%1$d log records were dropped because the log queue was full";
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> queue;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong unreportedDropCount = new AtomicLong();
+    private final Object progressLock = new Object();
+
+    private volatile QueueFullPolicy queueFullPolicy;
+    private volatile boolean isClosed = false;
+
+    /** Records queued so far. Guarded by {@code progressLock}. */
+    private long queuedCount = 0;
+    /** Records passed on to the other handlers so far. Guarded by {@code progressLock}. */
+    private long writtenCount = 0;
+
+    /**
+     * Creates a handler, and starts its writer thread, that passes records on to {@code handlers}.
+     *
+     * @param capacity the number of records that can wait in the queue.
+     */
+    public AsyncLogHandler(int capacity, QueueFullPolicy queueFullPolicy, List<Handler> handlers) {
+        requireNonNull(queueFullPolicy);
+        requireNonNull(handlers);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.queueFullPolicy = queueFullPolicy;
+        this.handlers = List.copyOf(handlers);
+        this.writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public QueueFullPolicy getQueueFullPolicy() {
+        return queueFullPolicy;
+    }
+
+    public void setQueueFullPolicy(QueueFullPolicy queueFullPolicy) {
+        requireNonNull(queueFullPolicy);
+        this.queueFullPolicy = queueFullPolicy;
+    }
+
+    /** Returns the number of records discarded so far because the queue was full. */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Queues {@code record} to be passed on to the other handlers.
+     * Under {@link QueueFullPolicy#BLOCK}, waits for room in the queue if it is full.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The source of a record is worked out from the stack of the thread that logs it, so it must be found here
+        // rather than on the writer thread.
+        record.getSourceClassName();
+
+        synchronized (progressLock) {
+            queuedCount++;
+        }
+        if (!enqueue(record)) {
+            droppedCount.incrementAndGet();
+            unreportedDropCount.incrementAndGet();
+            markWritten(1);
+        }
+    }
+
+    /**
+     * Waits until every record queued before this call has been passed on, then flushes the other handlers.
+     * Gives up waiting after a few seconds, so that a stuck handler cannot stop the application from exiting.
+     */
+    @Override
+    public void flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (progressLock) {
+            long target = queuedCount;
+            long remaining = FLUSH_TIMEOUT_MILLIS;
+            while (writtenCount < target && remaining > 0 && writer.isAlive()) {
+                try {
+                    progressLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Passes on every queued record, stops the writer thread and closes the other handlers.
+     * Records published after this call are ignored.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    private boolean enqueue(LogRecord record) {
+        if (queueFullPolicy == QueueFullPolicy.DROP) {
+            return queue.offer(record);
+        }
+        try {
+            queue.put(record);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Runs on the writer thread until the handler is closed, then writes whatever is left in the queue.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!isClosed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch(batch);
+        }
+        while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch) {
+        reportDroppedRecords();
+        for (LogRecord record : batch) {
+            for (Handler handler : handlers) {
+                handler.publish(record);
+            }
+        }
+        handlers.forEach(Handler::flush);
+        markWritten(batch.size());
+        batch.clear();
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = unreportedDropCount.getAndSet(0);
+        if (dropped == 0) {
+            return;
+        }
+        LogRecord warning = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED_RECORDS, dropped));
+        warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        warning.setSourceClassName(AsyncLogHandler.class.getName());
+        warning.setSourceMethodName("publish");
+        for (Handler handler : handlers) {
+            handler.publish(warning);
+        }
+    }
+
+    private void markWritten(long count) {
+        synchronized (progressLock) {
+            writtenCount += count;
+            progressLock.notifyAll();
+        }
+    }
+}
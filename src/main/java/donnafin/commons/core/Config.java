@@ -15,6 +15,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private AsyncLogHandler.QueueFullPolicy logQueueFullPolicy = AsyncLogHandler.QueueFullPolicy.BLOCK;
+    private Path metricsFilePath = Paths.get("metrics.json");
+    private boolean progressiveStartup = false;
+    private int addressBookShardCount = 0;
+    private int backupRetentionCount = 10;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +37,56 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public AsyncLogHandler.QueueFullPolicy getLogQueueFullPolicy() {
+        return logQueueFullPolicy;
+    }
+
+    public void setLogQueueFullPolicy(AsyncLogHandler.QueueFullPolicy logQueueFullPolicy) {
+        this.logQueueFullPolicy = logQueueFullPolicy;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns true if the main window should be shown before the address book has been loaded, with clients
+     * appearing as they are read.
+     */
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
+    /**
+     * Returns the number of files that the address book is split into, or 0 if it is kept in a single file.
+     */
+    public int getAddressBookShardCount() {
+        return addressBookShardCount;
+    }
+
+    public void setAddressBookShardCount(int addressBookShardCount) {
+        this.addressBookShardCount = addressBookShardCount;
+    }
+
+    /**
+     * Returns the number of backups of the address book that are kept, or 0 if it is not backed up.
+     */
+    public int getBackupRetentionCount() {
+        return backupRetentionCount;
+    }
+
+    public void setBackupRetentionCount(int backupRetentionCount) {
+        this.backupRetentionCount = backupRetentionCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +99,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(logQueueFullPolicy, o.logQueueFullPolicy)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && progressiveStartup == o.progressiveStartup
+                && addressBookShardCount == o.addressBookShardCount
+                && backupRetentionCount == o.backupRetentionCount;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, logQueueFullPolicy, metricsFilePath, progressiveStartup,
+                addressBookShardCount, backupRetentionCount);
     }
 
     @Override
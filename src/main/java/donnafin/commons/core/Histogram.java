@@ -0,0 +1,167 @@
+package donnafin.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often values, such as latencies in nanoseconds or sizes in bytes, fall into each of a fixed set of
+ * buckets, so that percentiles can be estimated without keeping every value.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} have a bucket each. Above that, every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} equal buckets, so a percentile is never more than about 3% above the true value.
+ * Recording a value only updates atomic counters, so any number of threads can record at once without locking.
+ */
+public class Histogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    private volatile long last;
+
+    /**
+     * Records {@code value}. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long nonNegativeValue = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(nonNegativeValue));
+        totalCount.increment();
+        sum.add(nonNegativeValue);
+        max.accumulateAndGet(nonNegativeValue, Math::max);
+        last = nonNegativeValue;
+    }
+
+    /**
+     * Records the time from {@code startNanos}, a value of {@link System#nanoTime()}, until now.
+     */
+    public void recordNanosSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /** Returns the value recorded most recently, or 0 if no value has been recorded. */
+    public long getLast() {
+        return last;
+    }
+
+    /** Returns the mean of the recorded values, or 0 if no value has been recorded. */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Returns an estimate of the value that {@code percentile} percent of the recorded values are at or below.
+     * The estimate is the largest value in the bucket of the percentile, but no larger than the maximum.
+     * Returns 0 if no value has been recorded.
+     *
+     * @param percentile between 0 and 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /** Returns the summary of the values recorded so far. */
+    public Summary getSummary() {
+        return new Summary(getCount(), getValueAtPercentile(50), getValueAtPercentile(99), getMax(), getMean());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowestValue = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+
+    /**
+     * The count, median, 99th percentile, maximum and mean of a {@code Histogram} at one point in time.
+     */
+    public static class Summary {
+        private final long count;
+        private final long p50;
+        private final long p99;
+        private final long max;
+        private final double mean;
+
+        /**
+         * Creates a summary with the given values.
+         */
+        public Summary(long count, long p50, long p99, long max, double mean) {
+            this.count = count;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+            this.mean = mean;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package donnafin.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,60 +17,67 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written to the console and the file on a background thread by an {@link AsyncLogHandler}, so logging
+ *   does not wait on I/O. Call {@link #flush()} before the application exits so that no records are lost.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "donnafin.log";
+    private static final int LOG_QUEUE_CAPACITY = 8192;
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler.QueueFullPolicy currentQueueFullPolicy = AsyncLogHandler.QueueFullPolicy.BLOCK;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
      * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
      * Logging levels for existing loggers will only be updated if the logger with the same name
      * is requested again from the LogsCenter.
+     * The log level of the console and the log file, and the log queue policy, apply to all loggers immediately.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        currentQueueFullPolicy = config.getLogQueueFullPolicy();
+        if (asyncHandler != null) {
+            asyncHandler.setLevel(currentLogLevel);
+            asyncHandler.setQueueFullPolicy(currentQueueFullPolicy);
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
+        logger.info("currentQueueFullPolicy: " + currentQueueFullPolicy);
     }
 
     /**
      * Creates a logger with the given name.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
 
     /**
-     * Creates a Logger for the given class name.
+     * Waits until every record logged so far has been written to the console and the log file.
      */
-    public static <T> Logger getLogger(Class<T> clazz) {
-        if (clazz == null) {
-            return Logger.getLogger("");
+    public static synchronized void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
         }
-        return getLogger(clazz.getSimpleName());
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Creates a Logger for the given class name.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    public static <T> Logger getLogger(Class<T> clazz) {
+        if (clazz == null) {
+            return Logger.getLogger("");
         }
-        logger.addHandler(consoleHandler);
+        return getLogger(clazz.getSimpleName());
     }
 
     /**
@@ -79,18 +89,29 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            List<Handler> handlers = new ArrayList<>();
+            handlers.add(createConsoleHandler());
+            boolean hasFileHandler = false;
+            try {
+                handlers.add(createFileHandler());
+                hasFileHandler = true;
+            } catch (IOException e) {
+                // reported below, once the console handler is in place
+            }
+            asyncHandler = new AsyncLogHandler(LOG_QUEUE_CAPACITY, currentQueueFullPolicy, handlers);
+            asyncHandler.setLevel(currentLogLevel);
+            logger.addHandler(asyncHandler);
+            if (!hasFileHandler) {
+                logger.warning("Error adding file handler for logger.");
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            return;
         }
+        logger.addHandler(asyncHandler);
     }
 
     /**
@@ -100,13 +121,14 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        // Records are filtered by level in the asyncHandler, whose level may change after this handler is created.
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
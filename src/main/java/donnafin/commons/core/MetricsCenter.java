@@ -0,0 +1,96 @@
+package donnafin.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import donnafin.commons.util.JsonUtil;
+
+/**
+ * Keeps the {@link Histogram}s that measure where DonnaFin spends its time and how much data it writes.
+ * Named histograms can be obtained from this class, and are created the first time they are requested.<br>
+ * Timers record latencies in nanoseconds, e.g. {@code MetricsCenter.getTimer("command.add")}, and sizes record
+ *   amounts in bytes, e.g. {@code MetricsCenter.getSize("storage.save.bytes")}.<br>
+ * The metrics are kept in memory until the application exits, when they are written to a file by
+ *   {@link #saveMetrics(Path)}.
+ */
+public class MetricsCenter {
+
+    public static final String COMMAND_TIMER_PREFIX = "command.";
+    public static final String INVALID_COMMAND_TIMER = "command.invalid";
+    public static final String PARSE_TIMER = "logic.parse";
+    public static final String SAVE_TIMER = "storage.save";
+    public static final String LOAD_TIMER = "storage.load";
+    public static final String SAVE_SIZE = "storage.save.bytes";
+
+    private static final ConcurrentMap<String, Histogram> timers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histogram> sizes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the timer with the given name, creating it if it does not exist yet.
+     */
+    public static Histogram getTimer(String name) {
+        requireNonNull(name);
+        return timers.computeIfAbsent(name, unused -> new Histogram());
+    }
+
+    /**
+     * Returns the size histogram with the given name, creating it if it does not exist yet.
+     */
+    public static Histogram getSize(String name) {
+        requireNonNull(name);
+        return sizes.computeIfAbsent(name, unused -> new Histogram());
+    }
+
+    /** Returns the summaries of all timers, sorted by name. Latencies are in nanoseconds. */
+    public static Map<String, Histogram.Summary> getTimerSummaries() {
+        return summarise(timers);
+    }
+
+    /** Returns the summaries of all size histograms, sorted by name. Sizes are in bytes. */
+    public static Map<String, Histogram.Summary> getSizeSummaries() {
+        return summarise(sizes);
+    }
+
+    /**
+     * Writes the summaries of all histograms to {@code filePath} as JSON, overwriting the file if it exists.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void saveMetrics(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.saveJsonFile(new MetricsReport(getTimerSummaries(), getSizeSummaries()), filePath);
+    }
+
+    /**
+     * Removes all histograms.
+     */
+    public static void clear() {
+        timers.clear();
+        sizes.clear();
+    }
+
+    private static Map<String, Histogram.Summary> summarise(Map<String, Histogram> histograms) {
+        Map<String, Histogram.Summary> summaries = new TreeMap<>();
+        histograms.forEach((name, histogram) -> summaries.put(name, histogram.getSummary()));
+        return summaries;
+    }
+
+    /**
+     * The contents of a metrics file.
+     */
+    private static class MetricsReport {
+        private final Map<String, Histogram.Summary> timersInNanoseconds;
+        private final Map<String, Histogram.Summary> sizesInBytes;
+
+        MetricsReport(Map<String, Histogram.Summary> timersInNanoseconds, Map<String, Histogram.Summary> sizesInBytes) {
+            this.timersInNanoseconds = timersInNanoseconds;
+            this.sizesInBytes = sizesInBytes;
+        }
+    }
+}
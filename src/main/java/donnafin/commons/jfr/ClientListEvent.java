@@ -0,0 +1,28 @@
+package donnafin.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for a change to the list of clients.
+ */
+@Name("donnafin.ClientListChange")
+@Label("Client List Change")
+@Category({"DonnaFin", "Model"})
+@Description("Addition, replacement or removal of clients")
+public class ClientListEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Changed Count")
+    @Description("Number of clients added, replaced or removed")
+    public int changedCount;
+
+    @Label("Client Count")
+    @Description("Number of clients after the change")
+    public int clientCount;
+}
@@ -0,0 +1,31 @@
+package donnafin.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for the execution of one command, from parsing it to saving the data file.
+ * <p>
+ * Like the other events in this package, it is begun and ended around the work it measures, and its fields are only
+ * filled in if {@code shouldCommit()} is true. Outside a recording {@code shouldCommit()} is false and the JIT
+ * compiler removes the event entirely, so it costs nothing.
+ */
+@Name("donnafin.Command")
+@Label("Command")
+@Category({"DonnaFin", "Logic"})
+@Description("Execution of a command entered by the user")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("Client Count")
+    @Description("Number of clients after the command")
+    public int clientCount;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,34 @@
+package donnafin.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for the reading or writing of a JSON file.
+ */
+@Name("donnafin.JsonFile")
+@Label("JSON File")
+@Category({"DonnaFin", "Storage"})
+@Description("Reading or writing of a JSON file, such as the data file")
+public class JsonFileEvent extends Event {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
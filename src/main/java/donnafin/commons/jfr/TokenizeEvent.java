@@ -0,0 +1,26 @@
+package donnafin.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event for the tokenizing of the arguments of a command.
+ */
+@Name("donnafin.Tokenize")
+@Label("Tokenize Arguments")
+@Category({"DonnaFin", "Logic"})
+@Description("Splitting of command arguments by their prefixes")
+public class TokenizeEvent extends Event {
+
+    @Label("Arguments Length")
+    @DataAmount(DataAmount.BYTES)
+    public int argumentsLength;
+
+    @Label("Prefix Count")
+    @Description("Number of prefixes that were looked for")
+    public int prefixCount;
+}
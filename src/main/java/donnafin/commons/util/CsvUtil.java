@@ -0,0 +1,133 @@
+package donnafin.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import donnafin.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads and writes single records of comma separated values.
+ * Fields may be wrapped in double quotes so that they can contain commas and line breaks, and a double quote
+ * inside a quoted field is escaped by doubling it, e.g. {@code "311, Clementi Ave 2","He said ""hi"""}.
+ * A record with a line break in a quoted field spans several lines of a file; see {@link #endsInQuotedField}.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field is not terminated";
+    public static final String MESSAGE_UNEXPECTED_QUOTE = "Unexpected character after closing quote";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields. Surrounding quotes are removed and escaped quotes are unescaped.
+     * An empty line is treated as a single empty field.
+     *
+     * @throws IllegalValueException if a quoted field is not terminated or is followed by other characters.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        int length = line.length();
+
+        while (true) {
+            if (i < length && line.charAt(i) == QUOTE) {
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+                    }
+                    char c = line.charAt(i++);
+                    if (c != QUOTE) {
+                        field.append(c);
+                    } else if (i < length && line.charAt(i) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < length && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_UNEXPECTED_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? length : end;
+                field.append(line, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= length) {
+                return fields;
+            }
+            i++; // skip the separator
+        }
+    }
+
+    /**
+     * Returns true if a record ends inside a quoted field after {@code line}, i.e. the record continues on the next
+     * line. {@code isInQuotes} is whether the record was inside a quoted field before {@code line}: false for the
+     * first line of a record, and the result for the line before for each line after. So a record of many lines is
+     * only scanned once.
+     * <p>
+     * As in {@link #parseLine}, only a quote at the start of a field opens a quoted field, so a stray quote inside an
+     * unquoted field, e.g. {@code O"Brien}, does not.
+     */
+    public static boolean endsInQuotedField(String line, boolean isInQuotes) {
+        requireNonNull(line);
+        boolean isFieldStart = !isInQuotes;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    i++; // an escaped quote
+                } else if (c == QUOTE) {
+                    isInQuotes = false;
+                }
+            } else {
+                isInQuotes = isFieldStart && c == QUOTE;
+                isFieldStart = c == SEPARATOR;
+            }
+        }
+        return isInQuotes;
+    }
+
+    /**
+     * Joins {@code fields} into a single record, quoting only the fields that need it.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            appendField(builder, fields.get(i));
+        }
+        return builder.toString();
+    }
+
+    private static void appendField(StringBuilder builder, String field) {
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || field.indexOf('\n') != -1 || field.indexOf('\r') != -1;
+        if (!needsQuotes) {
+            builder.append(field);
+            return;
+        }
+        builder.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                builder.append(QUOTE);
+            }
+            builder.append(c);
+        }
+        builder.append(QUOTE);
+    }
+}
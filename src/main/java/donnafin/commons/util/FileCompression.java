@@ -0,0 +1,165 @@
+package donnafin.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * How a file is compressed, which is chosen by the extension of its name, e.g. {@code donnafin.json.gz} is compressed
+ * with GZIP. Files are compressed and decompressed as they are streamed, so their contents never have to be in memory
+ * at the same time.
+ */
+public enum FileCompression {
+    NONE(""),
+    GZIP(".gz"),
+    DEFLATE(".deflate");
+
+    /** The size of the buffers of compressed and uncompressed data. */
+    static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * Saves are on the app thread, so compression favours speed. Json of clients is repetitive enough that this still
+     * makes files several times smaller.
+     */
+    static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+    private final String extension;
+
+    FileCompression(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the extension of the names of files compressed this way, e.g. {@code ".gz"}, or an empty string if
+     * they are not compressed.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the compression of the file at {@code filePath}, by the extension of its name.
+     */
+    public static FileCompression of(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        for (FileCompression compression : values()) {
+            if (compression != NONE && fileName.endsWith(compression.extension)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns {@code fileName} without the extension of this compression, e.g. {@code donnafin.json} for
+     * {@code donnafin.json.gz}.
+     */
+    public String stripExtension(String fileName) {
+        requireNonNull(fileName);
+        return fileName.endsWith(extension) ? fileName.substring(0, fileName.length() - extension.length())
+                : fileName;
+    }
+
+    /**
+     * Opens the file at {@code filePath} for reading its decompressed contents.
+     * The stream is buffered, and must be closed.
+     *
+     * @throws IOException if the file cannot be opened, or does not start as a file compressed this way should.
+     */
+    public static InputStream newInputStream(Path filePath) throws IOException {
+        FileCompression compression = of(filePath);
+        InputStream file = Files.newInputStream(filePath);
+        try {
+            switch (compression) {
+            case GZIP:
+                return new GZIPInputStream(file, BUFFER_SIZE);
+            case DEFLATE:
+                return new EndingInflaterInputStream(file);
+            default:
+                return new BufferedInputStream(file, BUFFER_SIZE);
+            }
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the file at {@code filePath} for writing contents that are compressed as they are written.
+     * Overwrites the file if it exists, and creates it if it doesn't. The stream is buffered, and must be closed to
+     * finish the compressed data.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public static OutputStream newOutputStream(Path filePath) throws IOException {
+        FileCompression compression = of(filePath);
+        OutputStream file = Files.newOutputStream(filePath);
+        switch (compression) {
+        case GZIP:
+            return new BufferedOutputStream(new FastGzipOutputStream(file), BUFFER_SIZE);
+        case DEFLATE:
+            return new BufferedOutputStream(new EndingDeflaterOutputStream(file), BUFFER_SIZE);
+        default:
+            return new BufferedOutputStream(file, BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses at {@link #COMPRESSION_LEVEL}.
+     */
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(COMPRESSION_LEVEL);
+        }
+    }
+
+    /**
+     * A {@code DeflaterOutputStream} that compresses at {@link #COMPRESSION_LEVEL}, and releases its
+     * {@code Deflater} when closed.
+     */
+    private static class EndingDeflaterOutputStream extends DeflaterOutputStream {
+        EndingDeflaterOutputStream(OutputStream out) {
+            super(out, new Deflater(COMPRESSION_LEVEL), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+
+    /**
+     * An {@code InflaterInputStream} that releases its {@code Inflater} when closed.
+     */
+    private static class EndingInflaterInputStream extends InflaterInputStream {
+        EndingInflaterInputStream(InputStream in) {
+            super(in, new Inflater(), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
+            }
+        }
+    }
+}
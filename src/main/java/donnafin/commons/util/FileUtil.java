@@ -5,6 +5,8 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
 
 /**
  * Writes and reads files
@@ -65,6 +67,25 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Copies the file or directory {@code source}, with everything in the directory, to {@code target}, replacing
+     * the files already there.
+     */
+    public static void copy(Path source, Path target) throws IOException {
+        createParentDirsOfFile(target);
+        try (Stream<Path> paths = Files.walk(source)) {
+            // Each directory is walked before its contents
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path copy = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(copy);
+                } else {
+                    Files.copy(path, copy, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
     /**
      * Assumes file exists
      */
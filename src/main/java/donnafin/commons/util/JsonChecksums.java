@@ -0,0 +1,353 @@
+package donnafin.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The CRC32C checksums of a Json array file, which {@link JsonUtil#saveChecksummedRawJsonArrayFile} writes after the
+ * array: one for each value of the array, and one for the file up to the end of the array. A file is checked against
+ * them by {@link #verify(Path, String)}, which finds the text of each value without mapping it to an object, so it is
+ * much faster than reading the file.
+ */
+public class JsonChecksums {
+
+    /** The field after the array that holds the checksums. */
+    public static final String FIELD = "checksums";
+
+    static final String ALGORITHM_FIELD = "algorithm";
+    static final String ALGORITHM = "CRC32C";
+    static final String RECORDS_FIELD = "records";
+    static final String FILE_FIELD = "file";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Returns the checksum of {@code json} as it is written to a file, in UTF-8.
+     */
+    public static int checksum(String json) {
+        requireNonNull(json);
+        CRC32C crc = new CRC32C();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+
+    static String toHex(int checksum) {
+        String hex = Integer.toHexString(checksum);
+        return "00000000".substring(hex.length()) + hex;
+    }
+
+    /**
+     * Writes the field {@link #FIELD} with the checksums of the values in the array before it, and the checksum of
+     * the file up to the end of that array.
+     */
+    static void writeTrailer(JsonGenerator generator, List<String> recordChecksums, int fileChecksum)
+            throws IOException {
+        generator.writeObjectFieldStart(FIELD);
+        generator.writeStringField(ALGORITHM_FIELD, ALGORITHM);
+        generator.writeArrayFieldStart(RECORDS_FIELD);
+        for (String recordChecksum : recordChecksums) {
+            generator.writeString(recordChecksum);
+        }
+        generator.writeEndArray();
+        generator.writeStringField(FILE_FIELD, toHex(fileChecksum));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Checks each value of the array in the field {@code fieldName} of the Json object in the given file against its
+     * checksum, and the file up to the end of the array against the file checksum. As much of the file is checked as
+     * can be read, so a file that ends early or stops being valid Json partway is reported rather than failing.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened, or does not start as a file compressed as its name says.
+     */
+    public static Report verify(Path filePath, String fieldName) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+
+        List<Integer> recordChecksums = new ArrayList<>();
+        long arrayEnd = -1;
+        int fileChecksum = 0;
+        List<String> expectedRecordChecksums = null;
+        String expectedFileChecksum = null;
+        String readError = null;
+        InputStream file = FileCompression.newInputStream(filePath);
+        try (ChecksummingInputStream in = new ChecksummingInputStream(file);
+                JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (arrayEnd < 0 && name.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    while (nextToken(parser) != JsonToken.END_ARRAY) {
+                        long start = parser.getTokenLocation().getByteOffset();
+                        parser.skipChildren();
+                        // Reads the rest of a string value, so that the location is after its closing quote.
+                        parser.getText();
+                        long end = parser.getCurrentLocation().getByteOffset();
+                        recordChecksums.add(in.checksum(start, end));
+                        in.release(end);
+                    }
+                    arrayEnd = parser.getCurrentLocation().getByteOffset();
+                    fileChecksum = in.finishFileChecksum(arrayEnd);
+                } else if (name.equals(FIELD) && value == JsonToken.START_OBJECT) {
+                    expectedRecordChecksums = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String checksumName = parser.getCurrentName();
+                        JsonToken checksumValue = parser.nextToken();
+                        if (checksumName.equals(RECORDS_FIELD) && checksumValue == JsonToken.START_ARRAY) {
+                            while (nextToken(parser) != JsonToken.END_ARRAY) {
+                                expectedRecordChecksums.add(parser.getValueAsString());
+                            }
+                        } else if (checksumName.equals(FILE_FIELD)) {
+                            expectedFileChecksum = parser.getValueAsString();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                    parser.getText();
+                    in.release(parser.getCurrentLocation().getByteOffset());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            readError = "The file is not valid Json after record " + recordChecksums.size() + ": "
+                    + e.getOriginalMessage();
+        } catch (IOException e) {
+            readError = "The file could not be read after record " + recordChecksums.size() + ": " + e.getMessage();
+        }
+
+        List<Integer> damagedRecords = new ArrayList<>();
+        if (readError != null && arrayEnd < 0) {
+            // The record being read when the file became unreadable is damaged, and any after it are lost.
+            damagedRecords.add(recordChecksums.size());
+        }
+        if (expectedRecordChecksums != null) {
+            for (int i = 0; i < recordChecksums.size(); i++) {
+                if (i >= expectedRecordChecksums.size()
+                        || !toHex(recordChecksums.get(i)).equals(expectedRecordChecksums.get(i))) {
+                    damagedRecords.add(i);
+                }
+            }
+            Collections.sort(damagedRecords);
+        }
+
+        boolean isFileChecksumValid = expectedFileChecksum == null
+                || (arrayEnd >= 0 && toHex(fileChecksum).equals(expectedFileChecksum));
+        int checksummedRecordCount = expectedRecordChecksums == null ? -1 : expectedRecordChecksums.size();
+        return new Report(recordChecksums.size(), checksummedRecordCount, damagedRecords, isFileChecksumValid,
+                readError);
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of file");
+        }
+        return token;
+    }
+
+    /**
+     * An input stream that keeps the checksum of everything read through it up to a given offset, and keeps the
+     * bytes after that offset until they are released, so that the checksum of any range of them can be taken. Only
+     * the bytes not yet released are held, so a file of any size can be checked in the memory of its largest record.
+     */
+    private static class ChecksummingInputStream extends FilterInputStream {
+        private final CRC32C fileCrc = new CRC32C();
+        private byte[] buffer = new byte[1 << 16];
+        // The held bytes are buffer[start, end), and are the bytes of the stream from offset heldFrom.
+        private int start;
+        private int end;
+        private long heldFrom;
+        private boolean isHolding = true;
+
+        ChecksummingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                hold(new byte[] {(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                hold(bytes, offset, count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes must still be checksummed, so they are read instead.
+            byte[] skipped = new byte[(int) Math.min(n, 8192)];
+            int count = read(skipped, 0, skipped.length);
+            return Math.max(count, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void hold(byte[] bytes, int offset, int length) {
+            if (!isHolding) {
+                return;
+            }
+            if (end + length > buffer.length) {
+                int heldLength = end - start;
+                byte[] target = heldLength + length > buffer.length
+                        ? new byte[Math.max(buffer.length * 2, heldLength + length)]
+                        : buffer;
+                System.arraycopy(buffer, start, target, 0, heldLength);
+                buffer = target;
+                start = 0;
+                end = heldLength;
+            }
+            System.arraycopy(bytes, offset, buffer, end, length);
+            end += length;
+        }
+
+        /**
+         * Returns the checksum of the bytes from offset {@code from} to offset {@code to} of the stream, which must
+         * not have been released.
+         */
+        int checksum(long from, long to) {
+            assert from >= heldFrom && to <= heldFrom + (end - start);
+            CRC32C crc = new CRC32C();
+            crc.update(buffer, start + (int) (from - heldFrom), (int) (to - from));
+            return (int) crc.getValue();
+        }
+
+        /**
+         * Adds the bytes up to offset {@code to} of the stream to the file checksum, and stops holding them.
+         */
+        void release(long to) {
+            if (!isHolding) {
+                return;
+            }
+            int length = (int) (to - heldFrom);
+            fileCrc.update(buffer, start, length);
+            start += length;
+            heldFrom = to;
+        }
+
+        /**
+         * Returns the checksum of the stream up to offset {@code to}, after which no more bytes are held.
+         */
+        int finishFileChecksum(long to) {
+            release(to);
+            isHolding = false;
+            buffer = null;
+            return (int) fileCrc.getValue();
+        }
+    }
+
+    /**
+     * The result of checking a file against its checksums.
+     */
+    public static class Report {
+        private final int recordCount;
+        // The number of records that the file has checksums for, or -1 if it has none.
+        private final int checksummedRecordCount;
+        private final List<Integer> damagedRecords;
+        private final boolean isFileChecksumValid;
+        private final String readError;
+
+        Report(int recordCount, int checksummedRecordCount, List<Integer> damagedRecords,
+                boolean isFileChecksumValid, String readError) {
+            this.recordCount = recordCount;
+            this.checksummedRecordCount = checksummedRecordCount;
+            this.damagedRecords = Collections.unmodifiableList(damagedRecords);
+            this.isFileChecksumValid = isFileChecksumValid;
+            this.readError = readError;
+        }
+
+        /**
+         * Returns the number of records that were read, which does not count any after the file became unreadable.
+         */
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Returns true if the file has checksums. Files saved before checksums were added, or edited by hand and
+         * saved without them, do not.
+         */
+        public boolean isChecksummed() {
+            return checksummedRecordCount >= 0;
+        }
+
+        /**
+         * Returns the positions in the array, from 0, of the records that do not match their checksums, or that the
+         * file became unreadable in.
+         */
+        public List<Integer> getDamagedRecords() {
+            return damagedRecords;
+        }
+
+        /**
+         * Returns why the file could not be read to the end, if it could not.
+         */
+        public Optional<String> getReadError() {
+            return Optional.ofNullable(readError);
+        }
+
+        /**
+         * Returns true if no damage was found. A file without checksums is intact if it can be read to the end.
+         */
+        public boolean isIntact() {
+            return readError == null && damagedRecords.isEmpty() && isFileChecksumValid
+                    && (!isChecksummed() || checksummedRecordCount == recordCount);
+        }
+
+        @Override
+        public String toString() {
+            if (isIntact()) {
+                return isChecksummed()
+                        ? "All " + recordCount + " records match their checksums"
+                        : "All " + recordCount + " records could be read, but the file has no checksums";
+            }
+            List<String> problems = new ArrayList<>();
+            if (!damagedRecords.isEmpty()) {
+                problems.add("Damaged records (counting from 0): " + damagedRecords.stream()
+                        .map(String::valueOf).collect(Collectors.joining(", ")));
+            }
+            if (readError != null) {
+                problems.add(readError);
+            } else if (isChecksummed() && checksummedRecordCount != recordCount) {
+                problems.add("The file has " + recordCount + " records, but was saved with " + checksummedRecordCount);
+            } else if (!isFileChecksumValid) {
+                problems.add("The file does not match its checksum");
+            }
+            return String.join("\n", problems);
+        }
+    }
+}
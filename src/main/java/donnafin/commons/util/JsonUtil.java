@@ -3,18 +3,36 @@ package donnafin.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +40,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import donnafin.commons.core.LogsCenter;
 import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.jfr.JsonFileEvent;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,12 +59,16 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = FileCompression.newOutputStream(jsonFile)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileCompression.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -65,17 +88,64 @@ public class JsonUtil {
         }
 
         T jsonFile;
-
+        JsonFileEvent event = new JsonFileEvent();
+        event.begin();
         try {
             jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            commitEvent(event, JsonFileEvent.READ, filePath, false);
             throw new DataConversionException(e);
         }
 
+        commitEvent(event, JsonFileEvent.READ, filePath, true);
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns an iterator over the elements of the array in the field {@code fieldName} of the Json object in the
+     * given file. Each element is only read from the file when the iterator reaches it, so the elements never have
+     * to be in memory at the same time. The iterator is empty if the object has no such field.
+     * The iterator must be closed, which closes the file.
+     * @param filePath cannot be null.
+     * @param elementClass each element has to correspond to the structure in the class given here.
+     * @throws IOException if the file cannot be read, or is not an object whose field is an array.
+     */
+    public static <T> MappingIterator<T> readJsonArrayFile(Path filePath, String fieldName, Class<T> elementClass)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+        requireNonNull(elementClass);
+
+        JsonParser parser = objectMapper.getFactory().createParser(FileCompression.newInputStream(filePath));
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!name.equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + fieldName + " to be an array");
+                }
+                // The iterator reads values from the current token, so it is moved into the array.
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    break;
+                }
+                return objectMapper.readerFor(elementClass).readValues(parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+        parser.close();
+        return MappingIterator.emptyIterator();
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -87,7 +157,142 @@ public class JsonUtil {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        JsonFileEvent event = new JsonFileEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            serializeObjectToJsonFile(filePath, jsonFile);
+            isSuccessful = true;
+        } finally {
+            commitEvent(event, JsonFileEvent.WRITE, filePath, isSuccessful);
+        }
+    }
+
+    /**
+     * Saves {@code values} to the specified file as a Json object with the single field {@code fieldName}, whose
+     * value is the array of {@code values}. Each value is written as soon as it is taken from {@code values}, so the
+     * values never have to be in memory at the same time.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @return the number of values written
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> long saveJsonArrayFile(String fieldName, Iterator<T> values, Path filePath)
+            throws IOException {
+        requireNonNull(values);
+        ObjectWriter valueWriter = createArrayValueWriter();
+        return writeJsonArrayFile(fieldName, values, filePath,
+                (generator, value) -> valueWriter.writeValue(generator, value), null);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(String, Iterator, Path)}, but with values that are already Json, as
+     * returned by {@link #toJsonArrayElement(String, Object)} for the same {@code fieldName}. The values are written
+     * as they are, so the file is the same as if the objects they were made from had been saved.
+     */
+    public static long saveRawJsonArrayFile(String fieldName, Iterator<String> jsonValues, Path filePath)
+            throws IOException {
+        requireNonNull(jsonValues);
+        return writeJsonArrayFile(fieldName, jsonValues, filePath, JsonGenerator::writeRawValue, null);
+    }
+
+    /**
+     * Similar to {@link #saveRawJsonArrayFile(String, Iterator, Path)}, but the array is followed by the field
+     * {@link JsonChecksums#FIELD}, which holds the checksum of each value and of the file up to the end of the array,
+     * so that damage to the file can be found by {@link JsonChecksums#verify(Path, String)}.
+     */
+    public static long saveChecksummedRawJsonArrayFile(String fieldName, Iterator<String> jsonValues, Path filePath)
+            throws IOException {
+        requireNonNull(jsonValues);
+        List<String> recordChecksums = new ArrayList<>();
+        return writeJsonArrayFile(fieldName, jsonValues, filePath, (generator, json) -> {
+            generator.writeRawValue(json);
+            recordChecksums.add(JsonChecksums.toHex(JsonChecksums.checksum(json)));
+        }, (generator, fileChecksum) -> JsonChecksums.writeTrailer(generator, recordChecksums, fileChecksum));
+    }
+
+    /**
+     * Returns {@code value} as Json, exactly as it is written by {@link #saveJsonArrayFile(String, Iterator, Path)}
+     * as an element of the array in the field {@code fieldName}. Values are indented by how deeply they are nested,
+     * so the Json can only be used in an array at the same place.
+     */
+    public static String toJsonArrayElement(String fieldName, Object value) throws IOException {
+        requireNonNull(fieldName);
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            generator.flush();
+            int start = writer.getBuffer().length();
+            createArrayValueWriter().writeValue(generator, value);
+            generator.flush();
+            // Drops the space that the pretty printer writes before the first value of an array.
+            return writer.getBuffer().substring(start).stripLeading();
+        }
+    }
+
+    private static ObjectWriter createArrayValueWriter() {
+        // The generator, not each value, is given the pretty printer, so that values are indented within the array.
+        // Flushing after every value would write each one to the file separately.
+        return objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes {@code values} as the array in the field {@code fieldName} of a Json object, followed by the fields
+     * that {@code trailerWriter} writes, if it is not null.
+     */
+    private static <T> long writeJsonArrayFile(String fieldName, Iterator<T> values, Path filePath,
+            ArrayValueWriter<T> valueWriter, TrailerWriter trailerWriter) throws IOException {
+        requireNonNull(fieldName);
+        requireNonNull(filePath);
+
+        JsonFileEvent event = new JsonFileEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        long count = 0;
+        try (OutputStream file = FileCompression.newOutputStream(filePath);
+                CheckedOutputStream out = new CheckedOutputStream(file, new CRC32C());
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // Flushing to take the checksum must not also flush the compressor.
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            while (values.hasNext()) {
+                valueWriter.write(generator, values.next());
+                count++;
+            }
+            generator.writeEndArray();
+            if (trailerWriter != null) {
+                generator.flush();
+                trailerWriter.write(generator, (int) out.getChecksum().getValue());
+            }
+            generator.writeEndObject();
+            isSuccessful = true;
+        } finally {
+            commitEvent(event, JsonFileEvent.WRITE, filePath, isSuccessful);
+        }
+        return count;
+    }
+
+    /**
+     * Ends {@code event} and, if it is being recorded, commits it with the size of the file at {@code filePath}.
+     */
+    private static void commitEvent(JsonFileEvent event, String operation, Path filePath, boolean isSuccessful) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.path = filePath.toString();
+        event.succeeded = isSuccessful;
+        try {
+            event.bytes = Files.size(filePath);
+        } catch (IOException e) {
+            event.bytes = 0;
+        }
+        event.commit();
     }
 
 
@@ -100,6 +305,24 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Converts a Json value that has already been read, e.g. an element read by
+     * {@link #readJsonArrayFile(Path, String, Class)} as a {@code JsonNode}, to an instance of a class.
+     * @throws IOException if the value does not correspond to the structure of the class.
+     */
+    public static <T> T fromJsonNode(JsonNode node, Class<T> instanceClass) throws IOException {
+        requireNonNull(node);
+        return objectMapper.treeToValue(node, instanceClass);
+    }
+
+    /**
+     * Converts an instance of a class to a Json value, e.g. to be kept whole in a file of other Json values.
+     */
+    public static JsonNode toJsonNode(Object instance) {
+        requireNonNull(instance);
+        return objectMapper.valueToTree(instance);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +333,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a writer that writes each value given to it to {@code writer} as a single line of JSON,
+     * i.e. in the JSON Lines format. Closing the returned writer also closes {@code writer}.
+     * @param writer The destination of the JSON Lines
+     */
+    public static SequenceWriter createJsonLinesWriter(Writer writer) throws IOException {
+        requireNonNull(writer);
+        return objectMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -140,4 +373,18 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Writes a value of an array to a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    private interface ArrayValueWriter<T> {
+        void write(JsonGenerator generator, T value) throws IOException;
+    }
+
+    /**
+     * Writes the fields after the array, given the checksum of the file up to the end of the array.
+     */
+    private interface TrailerWriter {
+        void write(JsonGenerator generator, int fileChecksum) throws IOException;
+    }
 }
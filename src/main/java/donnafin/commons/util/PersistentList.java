@@ -0,0 +1,251 @@
+package donnafin.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A list that never changes, and is instead changed by making a new version of it. A new version shares all but
+ * O(log n) of its nodes with the version it was made from, so it takes O(log n) time and memory to make, and any
+ * number of versions can be kept. A version that is no longer referenced is reclaimed by the garbage collector like
+ * any other object, except for the nodes that later versions still share.
+ * <p>
+ * The elements are kept in a balanced (AVL) binary tree ordered by position, so getting, replacing, inserting or
+ * removing the element at any position takes O(log n) time. Iterating takes O(n) time.
+ * <p>
+ * As a version never changes, it can be read from any thread once it has been safely published, e.g. through a
+ * volatile field. Its mutating {@code List} methods throw {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in order, in O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> persistentList = (PersistentList<E>) elements;
+            return persistentList;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> update(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(update(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}, before the element that was
+     * there.
+     */
+    public PersistentList<E> insert(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} added at the end.
+     */
+    public PersistentList<E> append(E element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Returns a version of this list without the element at {@code index}.
+     */
+    public PersistentList<E> removeAt(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(removeAt(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            // The nodes whose value and right subtree are still to be iterated, the next one on top.
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            private void pushLeftSpine(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    //// tree operations, which return the root of a new tree and leave the tree given to them unchanged
+
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E value = (E) elements[middle];
+        return new Node<>(value, build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> update(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, update(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, update(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> removeAt(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeAt(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // The node is replaced by the first node of its right subtree.
+            Node<E> first = node.right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return balance(first.value, node.left, removeAt(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node with {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never changed once made.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
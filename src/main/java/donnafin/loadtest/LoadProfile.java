@@ -0,0 +1,133 @@
+package donnafin.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Settings of a {@link LoadTest}: how large the address book is, how many commands are run, how often each kind of
+ * command is chosen, and how long commands may take. Read from a JSON file, in which any setting may be left out to
+ * use its default.
+ */
+public class LoadProfile {
+
+    private int clientCount = 10000;
+    private long seed = 42;
+    private int commandCount = 500;
+    private int shardCount = 0;
+    private Map<String, Integer> commandMix = createDefaultCommandMix();
+    private Map<String, Map<String, Double>> latencyBudgetsInMillis = createDefaultLatencyBudgets();
+
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    public void setClientCount(int clientCount) {
+        this.clientCount = clientCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public void setCommandCount(int commandCount) {
+        this.commandCount = commandCount;
+    }
+
+    /**
+     * Returns the number of files that the address book is split into, or 0 if it is kept in a single file.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the relative weight of each kind of command, by the name of the kind, e.g. {@code "view"}.
+     * Kinds of commands that are left out are never chosen.
+     */
+    public Map<String, Integer> getCommandMix() {
+        return commandMix;
+    }
+
+    public void setCommandMix(Map<String, Integer> commandMix) {
+        this.commandMix = commandMix;
+    }
+
+    /**
+     * Returns the longest that each kind of command may take, by the name of the kind, and then by percentile,
+     * e.g. {@code "p99"}. A load test fails if any of these is exceeded.
+     */
+    public Map<String, Map<String, Double>> getLatencyBudgetsInMillis() {
+        return latencyBudgetsInMillis;
+    }
+
+    public void setLatencyBudgetsInMillis(Map<String, Map<String, Double>> latencyBudgetsInMillis) {
+        this.latencyBudgetsInMillis = latencyBudgetsInMillis;
+    }
+
+    /**
+     * Returns a mix that resembles an advisor's session: mostly viewing clients and moving between their tabs, with
+     * occasional changes to their details.
+     */
+    private static Map<String, Integer> createDefaultCommandMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("view", 20);
+        mix.put("tab", 25);
+        mix.put("append", 10);
+        mix.put("notes", 10);
+        mix.put("edit", 5);
+        mix.put("home", 15);
+        mix.put("find", 10);
+        mix.put("list", 5);
+        return mix;
+    }
+
+    private static Map<String, Map<String, Double>> createDefaultLatencyBudgets() {
+        Map<String, Map<String, Double>> budgets = new LinkedHashMap<>();
+        for (String action : createDefaultCommandMix().keySet()) {
+            budgets.put(action, Map.of("p95", 500.0, "p99", 1000.0));
+        }
+        return budgets;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof LoadProfile)) {
+            return false;
+        }
+
+        LoadProfile o = (LoadProfile) other;
+        return clientCount == o.clientCount
+                && seed == o.seed
+                && commandCount == o.commandCount
+                && shardCount == o.shardCount
+                && Objects.equals(commandMix, o.commandMix)
+                && Objects.equals(latencyBudgetsInMillis, o.latencyBudgetsInMillis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientCount, seed, commandCount, shardCount, commandMix, latencyBudgetsInMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "Clients: " + clientCount + ", seed: " + seed + ", commands: " + commandCount
+                + ", shards: " + shardCount + ", mix: " + commandMix;
+    }
+}
@@ -0,0 +1,256 @@
+package donnafin.loadtest;
+
+import static donnafin.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import donnafin.commons.core.Histogram;
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.logic.LogicManager;
+import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.AddressBookParser;
+import donnafin.logic.parser.AssetsTabParser;
+import donnafin.logic.parser.ClientViewParser;
+import donnafin.logic.parser.ContactTabParser;
+import donnafin.logic.parser.LiabilitiesTabParser;
+import donnafin.logic.parser.NotesTabParser;
+import donnafin.logic.parser.ParserStrategy;
+import donnafin.logic.parser.PolicyTabParser;
+import donnafin.logic.parser.exceptions.ParseException;
+import donnafin.model.Model;
+import donnafin.model.ModelManager;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.UserPrefs;
+import donnafin.model.person.Notes;
+import donnafin.model.person.Person;
+import donnafin.model.util.SyntheticDataGenerator;
+import donnafin.storage.AddressBookStorage;
+import donnafin.storage.JsonAddressBookStorage;
+import donnafin.storage.JsonUserPrefsStorage;
+import donnafin.storage.ShardedJsonAddressBookStorage;
+import donnafin.storage.Storage;
+import donnafin.storage.StorageManager;
+
+/**
+ * Replays a session of an advisor against {@link LogicManager}, without the GUI, and measures how long each kind of
+ * command takes and how much is written to disk.
+ * <p>
+ * The address book is generated by {@link SyntheticDataGenerator} and saved in a data directory, from which it is
+ * loaded as at startup. Then, at each step, a kind of command is chosen from those that can be run in the current
+ * window or tab, with the probabilities of the {@link LoadProfile}. The same profile always runs the same commands.
+ */
+public class LoadTest {
+
+    static final String MESSAGE_UNKNOWN_ACTION = "Unknown kind of command in the command mix: %1$s";
+
+    private static final String DATA_FILE = "donnafin.json";
+    private static final String USER_PREFS_FILE = "preferences.json";
+    private static final String[] TABS = {"contact", "policies", "assets", "liabilities", "notes"};
+
+    private static final Logger logger = LogsCenter.getLogger(LoadTest.class);
+
+    /**
+     * The kinds of command that a session is made of.
+     */
+    enum Action {
+        VIEW, TAB, APPEND, NOTES, EDIT, HOME, FIND, LIST;
+
+        /** Returns the name of this kind of command in a {@link LoadProfile}. */
+        String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final LoadProfile profile;
+    private final Path dataDirectory;
+
+    /**
+     * Creates a load test of {@code profile}, which keeps its data files in {@code dataDirectory}.
+     *
+     * @throws IllegalArgumentException if the profile names a kind of command that does not exist, or has a latency
+     *     budget that is not for a percentile.
+     */
+    public LoadTest(LoadProfile profile, Path dataDirectory) {
+        requireNonNull(profile);
+        requireNonNull(dataDirectory);
+        checkArgument(profile.getClientCount() > 0, "There must be at least one client");
+        checkArgument(profile.getCommandCount() >= 0, "Number of commands cannot be negative");
+        checkArgument(profile.getShardCount() >= 0, "Number of shards cannot be negative");
+        for (String name : profile.getCommandMix().keySet()) {
+            checkArgument(findAction(name) != null, String.format(MESSAGE_UNKNOWN_ACTION, name));
+        }
+        profile.getLatencyBudgetsInMillis().values()
+                .forEach(budgets -> budgets.keySet().forEach(LoadTestResult::parsePercentile));
+        this.profile = profile;
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Generates the address book, loads it, and runs the commands of the profile.
+     *
+     * @throws IOException if the data files cannot be written or read.
+     * @throws DataConversionException if the generated data file cannot be read back.
+     */
+    public LoadTestResult run() throws IOException, DataConversionException {
+        Path dataFile = dataDirectory.resolve(DATA_FILE);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFile);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(profile.getSeed());
+        addressBookStorage.saveAddressBook(generator.generate(profile.getClientCount()).iterator(), dataFile);
+
+        AddressBookStorage loadedStorage = addressBookStorage;
+        if (profile.getShardCount() > 0) {
+            // Splits the generated file into shards first, so that only reading the shards is timed.
+            new ShardedJsonAddressBookStorage(dataFile, profile.getShardCount()).readAddressBook();
+            loadedStorage = new ShardedJsonAddressBookStorage(dataFile, profile.getShardCount());
+        }
+        Storage storage = new StorageManager(loadedStorage,
+                new JsonUserPrefsStorage(dataDirectory.resolve(USER_PREFS_FILE)));
+        long loadStart = System.nanoTime();
+        ReadOnlyAddressBook addressBook = storage.readAddressBook()
+                .orElseThrow(() -> new IOException("Generated data file not found: " + dataFile));
+        long loadNanos = System.nanoTime() - loadStart;
+        Model model = new ModelManager(addressBook, new UserPrefs(), storage);
+        LogicManager logic = new LogicManager(model);
+
+        Histogram savedBytes = MetricsCenter.getSize(MetricsCenter.SAVE_SIZE);
+        long savedBytesBefore = savedBytes.getSum();
+        Map<String, Histogram> latencies = new TreeMap<>();
+        List<String> failures = new ArrayList<>();
+        Random random = new Random(profile.getSeed());
+        for (int step = 0; step < profile.getCommandCount(); step++) {
+            Action action = chooseAction(random, logic.getParserStrategy(), model);
+            long start = System.nanoTime();
+            try {
+                perform(action, random, step, logic, model);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                failures.add(action.getName() + ": " + e.getMessage());
+                logger.warning(() -> "Command " + action.getName() + " failed: " + e.getMessage());
+            }
+            latencies.computeIfAbsent(action.getName(), unused -> new Histogram()).recordNanosSince(start);
+        }
+
+        return new LoadTestResult(latencies, savedBytes.getSum() - savedBytesBefore, loadNanos, failures,
+                profile.getLatencyBudgetsInMillis());
+    }
+
+    /**
+     * Returns a kind of command that can be run with {@code parser}, chosen with the weights of the command mix.
+     * If none of the weighted kinds can be run, returns the kind of command that leaves the current window.
+     */
+    private Action chooseAction(Random random, ParserStrategy parser, Model model) {
+        List<Action> available = getAvailableActions(parser, model);
+        int totalWeight = 0;
+        for (Action action : available) {
+            totalWeight += getWeight(action);
+        }
+        if (totalWeight == 0) {
+            return parser instanceof AddressBookParser ? Action.LIST : Action.HOME;
+        }
+
+        int remaining = random.nextInt(totalWeight);
+        for (Action action : available) {
+            remaining -= getWeight(action);
+            if (remaining < 0) {
+                return action;
+            }
+        }
+        throw new AssertionError("Weights must not be negative");
+    }
+
+    private int getWeight(Action action) {
+        return Math.max(0, profile.getCommandMix().getOrDefault(action.getName(), 0));
+    }
+
+    private static List<Action> getAvailableActions(ParserStrategy parser, Model model) {
+        List<Action> actions = new ArrayList<>();
+        if (parser instanceof AddressBookParser) {
+            actions.add(Action.FIND);
+            actions.add(Action.LIST);
+            if (!model.getFilteredPersonList().isEmpty()) {
+                actions.add(Action.VIEW);
+            }
+            return actions;
+        }
+
+        actions.add(Action.TAB);
+        actions.add(Action.HOME);
+        if (parser instanceof PolicyTabParser || parser instanceof AssetsTabParser
+                || parser instanceof LiabilitiesTabParser) {
+            actions.add(Action.APPEND);
+        } else if (parser instanceof NotesTabParser) {
+            actions.add(Action.NOTES);
+        } else if (parser instanceof ContactTabParser) {
+            actions.add(Action.EDIT);
+        }
+        return actions;
+    }
+
+    /**
+     * Runs a command of the kind {@code action}, with arguments that depend on {@code random} and {@code step}.
+     */
+    private static void perform(Action action, Random random, int step, LogicManager logic, Model model)
+            throws CommandException, ParseException {
+        switch (action) {
+        case VIEW:
+            logic.execute("view " + (1 + random.nextInt(model.getFilteredPersonList().size())));
+            break;
+        case TAB:
+            logic.execute("tab " + TABS[random.nextInt(TABS.length)]);
+            break;
+        case APPEND:
+            // Values differ at every step, so that nothing appended is a duplicate.
+            if (logic.getParserStrategy() instanceof PolicyTabParser) {
+                logic.execute(String.format("append n/Load Test Plan i/AIA iv/$%d pr/$%d c/$%d",
+                        100000 + step, 1000 + step, 100 + step));
+            } else {
+                logic.execute(String.format("append n/Load Test Holding ty/Cash v/$%d r/Added in step %d",
+                        10000 + step, step));
+            }
+            break;
+        case NOTES:
+            // Notes are edited in a text area rather than by a command, so the edit is made as the GUI makes it.
+            ((ClientViewParser) logic.getParserStrategy()).getPersonAdapter()
+                    .edit(new Notes("Reviewed in step " + step));
+            break;
+        case EDIT:
+            logic.execute("edit p/" + (80000000 + random.nextInt(20000000)));
+            break;
+        case HOME:
+            logic.execute("home");
+            break;
+        case FIND:
+            List<Person> persons = model.getAddressBook().getPersonList();
+            String name = persons.get(random.nextInt(persons.size())).getName().fullName;
+            logic.execute("find " + name.split(" ")[0]);
+            break;
+        case LIST:
+            logic.execute("list");
+            break;
+        default:
+            throw new AssertionError("Unknown action: " + action);
+        }
+    }
+
+    /**
+     * Returns the kind of command named {@code name}, or null if there is none.
+     */
+    static Action findAction(String name) {
+        for (Action action : Action.values()) {
+            if (action.getName().equals(name)) {
+                return action;
+            }
+        }
+        return null;
+    }
+}
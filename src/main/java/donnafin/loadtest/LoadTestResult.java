@@ -0,0 +1,180 @@
+package donnafin.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import donnafin.commons.core.Histogram;
+import donnafin.commons.util.JsonUtil;
+
+/**
+ * The latencies, disk usage and failures measured by a {@link LoadTest}, and the latency budgets they exceeded.
+ */
+public class LoadTestResult {
+
+    static final double[] REPORTED_PERCENTILES = {50, 95, 99};
+    static final String MESSAGE_INVALID_PERCENTILE =
+            "Latency budgets must be given for percentiles such as \"p99\": %1$s";
+    static final String MESSAGE_BUDGET_EXCEEDED = "%1$s %2$s: %3$.2f ms exceeds the budget of %4$.2f ms";
+    static final String MESSAGE_FAILED_COMMANDS = "%1$d commands failed";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Histogram> latencies;
+    private final long bytesWritten;
+    private final long loadNanos;
+    private final List<String> failures;
+    private final List<String> budgetViolations;
+
+    /**
+     * Creates the result of a load test, and checks it against {@code latencyBudgetsInMillis}.
+     *
+     * @param latencies the latencies of each kind of command, in nanoseconds.
+     * @param bytesWritten the number of bytes written to data files while the commands ran.
+     * @param loadNanos how long the address book took to load.
+     * @param failures a description of each command that failed.
+     * @throws IllegalArgumentException if a budget is not for a percentile.
+     */
+    public LoadTestResult(Map<String, Histogram> latencies, long bytesWritten, long loadNanos, List<String> failures,
+            Map<String, Map<String, Double>> latencyBudgetsInMillis) {
+        requireNonNull(latencies);
+        requireNonNull(failures);
+        requireNonNull(latencyBudgetsInMillis);
+        this.latencies = Collections.unmodifiableMap(new TreeMap<>(latencies));
+        this.bytesWritten = bytesWritten;
+        this.loadNanos = loadNanos;
+        this.failures = List.copyOf(failures);
+        this.budgetViolations = findBudgetViolations(latencyBudgetsInMillis);
+    }
+
+    public Map<String, Histogram> getLatencies() {
+        return latencies;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getLoadNanos() {
+        return loadNanos;
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns a description of each latency budget that was exceeded, and of any failed commands.
+     */
+    public List<String> getBudgetViolations() {
+        return budgetViolations;
+    }
+
+    public boolean isWithinBudget() {
+        return budgetViolations.isEmpty();
+    }
+
+    /**
+     * Returns the percentile that {@code name}, e.g. {@code "p99"} or {@code "p99.9"}, stands for.
+     *
+     * @throws IllegalArgumentException if {@code name} does not stand for a percentile between 0 and 100.
+     */
+    static double parsePercentile(String name) {
+        if (!name.matches("p\\d+(\\.\\d+)?")) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PERCENTILE, name));
+        }
+        double percentile = Double.parseDouble(name.substring(1));
+        if (percentile > 100) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PERCENTILE, name));
+        }
+        return percentile;
+    }
+
+    private List<String> findBudgetViolations(Map<String, Map<String, Double>> latencyBudgetsInMillis) {
+        List<String> violations = new ArrayList<>();
+        latencyBudgetsInMillis.forEach((action, budgets) -> budgets.forEach((percentileName, budgetMillis) -> {
+            double percentile = parsePercentile(percentileName);
+            Histogram histogram = latencies.get(action);
+            if (histogram == null) {
+                return;
+            }
+            double actualMillis = histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+            if (actualMillis > budgetMillis) {
+                violations.add(String.format(MESSAGE_BUDGET_EXCEEDED, action, percentileName, actualMillis,
+                        budgetMillis));
+            }
+        }));
+        if (!failures.isEmpty()) {
+            violations.add(String.format(MESSAGE_FAILED_COMMANDS, failures.size()));
+        }
+        return violations;
+    }
+
+    /**
+     * Writes this result to {@code filePath} as JSON, overwriting the file if it exists.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void saveReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Map<String, Map<String, Double>> latenciesInMillis = new LinkedHashMap<>();
+        latencies.forEach((action, histogram) -> {
+            Map<String, Double> values = new LinkedHashMap<>();
+            values.put("count", (double) histogram.getCount());
+            for (double percentile : REPORTED_PERCENTILES) {
+                values.put(formatPercentile(percentile), histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+            }
+            values.put("max", histogram.getMax() / NANOS_PER_MILLI);
+            latenciesInMillis.put(action, values);
+        });
+        JsonUtil.saveJsonFile(new Report(latenciesInMillis, bytesWritten, loadNanos / NANOS_PER_MILLI, failures,
+                budgetViolations), filePath);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return "p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile)
+                : String.valueOf(percentile));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format("Loaded in %.2f ms", loadNanos / NANOS_PER_MILLI));
+        builder.append("\nTime taken in ms (count, p50, p95, p99, max):");
+        latencies.forEach((action, histogram) -> {
+            builder.append(String.format("\n%s: %d", action, histogram.getCount()));
+            for (double percentile : REPORTED_PERCENTILES) {
+                builder.append(String.format(", %.2f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI));
+            }
+            builder.append(String.format(", %.2f", histogram.getMax() / NANOS_PER_MILLI));
+        });
+        builder.append("\nBytes written: ").append(bytesWritten);
+        return builder.toString();
+    }
+
+    /**
+     * The contents of a load test report file.
+     */
+    private static class Report {
+        private final Map<String, Map<String, Double>> latenciesInMillis;
+        private final long bytesWritten;
+        private final double loadMillis;
+        private final List<String> failures;
+        private final List<String> budgetViolations;
+
+        Report(Map<String, Map<String, Double>> latenciesInMillis, long bytesWritten, double loadMillis,
+                List<String> failures, List<String> budgetViolations) {
+            this.latenciesInMillis = latenciesInMillis;
+            this.bytesWritten = bytesWritten;
+            this.loadMillis = loadMillis;
+            this.failures = failures;
+            this.budgetViolations = budgetViolations;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package donnafin.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.StringUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.Model;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.util.SampleDataUtil;
+import donnafin.storage.AddressBookStorage;
+
+/**
+ * Loads the address book into a {@code Model} on a background thread, so that the app can be used while the clients
+ * are read. The clients are added to the model in batches on the app thread, which is the only thread that the model
+ * is used from.
+ * <p>
+ * As at a normal startup, the sample address book is used if the data file is not found, only the valid clients are
+ * used if some clients in the data file are not valid, and an empty address book is used if the data file cannot be
+ * read.
+ */
+public class AddressBookLoader {
+
+    /** The number of clients added to the model at a time. */
+    public static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final AddressBookStorage storage;
+    private final Executor appThread;
+    private final int batchSize;
+    // Only used from the app thread.
+    private final List<Runnable> loadedActions = new ArrayList<>();
+    private volatile boolean isLoaded = false;
+    private boolean isStarted = false;
+
+    /**
+     * Creates a loader that reads {@code storage} into {@code model}, which is only changed by tasks given to
+     * {@code appThread}.
+     */
+    public AddressBookLoader(Model model, AddressBookStorage storage, Executor appThread) {
+        this(model, storage, appThread, BATCH_SIZE);
+    }
+
+    AddressBookLoader(Model model, AddressBookStorage storage, Executor appThread, int batchSize) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(appThread);
+        this.model = model;
+        this.storage = storage;
+        this.appThread = appThread;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Starts reading the address book on a new background thread. The model must be empty.
+     */
+    public void start() {
+        assert !isStarted : "The address book can only be loaded once";
+        assert model.getAddressBook().getPersonList().isEmpty() : "The address book must be loaded into an empty model";
+        isStarted = true;
+        Thread thread = new Thread(this::load, "DonnaFin-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Checks the address book for damage, reads it, and adds its clients to the model. Runs on the background thread.
+     */
+    void load() {
+        logger.info("Loading data file in the background");
+        try {
+            storage.verifyAddressBook();
+        } catch (IOException e) {
+            logger.warning("Could not verify the data file " + StringUtil.getDetails(e));
+        }
+        try {
+            boolean isFound = storage.readAddressBook(batchSize,
+                    batch -> appThread.execute(() -> model.addPersons(batch)));
+            if (isFound) {
+                appThread.execute(this::finish);
+            } else {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+                appThread.execute(() -> {
+                    model.setAddressBook(SampleDataUtil.getSampleAddressBook());
+                    finish();
+                });
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with the clients that are valid");
+            salvage();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            appThread.execute(this::finishWithEmptyAddressBook);
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load data file " + StringUtil.getDetails(e));
+            appThread.execute(this::finishWithEmptyAddressBook);
+        }
+    }
+
+    /**
+     * Reads the valid clients of the address book, and replaces the clients in the model with them. Runs on the
+     * background thread.
+     */
+    private void salvage() {
+        try {
+            ReadOnlyAddressBook salvaged = storage.salvageAddressBook().orElseGet(AddressBook::new);
+            appThread.execute(() -> {
+                // Batches read before the error was found have already been added.
+                model.setAddressBook(salvaged);
+                finish();
+            });
+        } catch (DataConversionException | IOException | RuntimeException e) {
+            logger.warning("Could not salvage the data file. Will be starting with an empty AddressBook "
+                    + StringUtil.getDetails(e));
+            appThread.execute(this::finishWithEmptyAddressBook);
+        }
+    }
+
+    private void finishWithEmptyAddressBook() {
+        // Batches read before the error was found have already been added.
+        model.setAddressBook(new AddressBook());
+        finish();
+    }
+
+    private void finish() {
+        isLoaded = true;
+        logger.info(() -> "Loaded " + model.getAddressBook().getPersonList().size() + " clients");
+        loadedActions.forEach(Runnable::run);
+        loadedActions.clear();
+    }
+
+    /**
+     * Returns true once every client has been added to the model.
+     */
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    /**
+     * Runs {@code action} on the app thread once every client has been added to the model, or right away if they
+     * already have. Must be called from the app thread.
+     */
+    public void whenLoaded(Runnable action) {
+        requireNonNull(action);
+        if (isLoaded) {
+            action.run();
+        } else {
+            loadedActions.add(action);
+        }
+    }
+}
@@ -25,6 +25,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs {@code action} once the whole address book has been loaded, or right away if it already has.
+     * Commands that require the full address book fail with an
+     * {@link donnafin.logic.commands.exceptions.AddressBookNotLoadedException} until then.
+     */
+    void whenAddressBookLoaded(Runnable action);
+
     /**
      * Returns the AddressBook.
      *
@@ -51,4 +58,7 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     void setParserStrategy(ParserStrategy strategyParser);
+
+    /** Returns the parser strategy that the next command will be parsed with. */
+    ParserStrategy getParserStrategy();
 }
@@ -7,8 +7,11 @@ import java.util.logging.Logger;
 
 import donnafin.commons.core.GuiSettings;
 import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
+import donnafin.commons.jfr.CommandEvent;
 import donnafin.logic.commands.Command;
 import donnafin.logic.commands.CommandResult;
+import donnafin.logic.commands.exceptions.AddressBookNotLoadedException;
 import donnafin.logic.commands.exceptions.CommandException;
 import donnafin.logic.parser.AddressBookParser;
 import donnafin.logic.parser.ParserContext;
@@ -24,24 +27,62 @@ import javafx.collections.ObservableList;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING = "Still loading clients (%1$d so far). "
+            + "The command will run once they have all been loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private final Model model;
     private final ParserContext parserContext;
+    private final AddressBookLoader loader;
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model) {
+        this(model, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, whose address book is being loaded by
+     * {@code loader}. Commands that require the full address book are rejected until it has been loaded.
+     */
+    public LogicManager(Model model, AddressBookLoader loader) {
         this.model = model;
+        this.loader = loader;
         parserContext = new ParserContext(new AddressBookParser());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String timerName = MetricsCenter.INVALID_COMMAND_TIMER;
+        boolean isSuccessful = false;
+        try {
+            Command command = parserContext.executeParserStrategyCommand(commandText);
+            if (!isAddressBookLoaded() && command.requiresFullAddressBook()) {
+                throw new AddressBookNotLoadedException(String.format(MESSAGE_ADDRESS_BOOK_LOADING,
+                        model.getAddressBook().getPersonList().size()));
+            }
+            timerName = MetricsCenter.COMMAND_TIMER_PREFIX + ParserStrategy.getCommandWord(commandText);
+            CommandResult commandResult = executeAndSave(command);
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            MetricsCenter.getTimer(timerName).recordNanosSince(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.commandWord = ParserStrategy.getCommandWord(commandText);
+                event.clientCount = model.getAddressBook().getPersonList().size();
+                event.succeeded = isSuccessful;
+                event.commit();
+            }
+        }
+    }
 
-        CommandResult commandResult;
-        Command command = parserContext.executeParserStrategyCommand(commandText);
-        commandResult = command.execute(model);
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
 
         //Implement any changes logic that needs to happen
         Consumer<Logic> logicAction = commandResult.getLogicAction();
@@ -50,6 +91,11 @@ public class LogicManager implements Logic {
             logicAction.accept(this);
         }
 
+        // Saving a partly loaded address book would lose the clients that have not been loaded yet.
+        if (!isAddressBookLoaded()) {
+            return commandResult;
+        }
+
         try {
             model.saveAddressBook();
         } catch (IOException ioe) {
@@ -59,6 +105,19 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    private boolean isAddressBookLoaded() {
+        return loader == null || loader.isLoaded();
+    }
+
+    @Override
+    public void whenAddressBookLoaded(Runnable action) {
+        if (loader == null) {
+            action.run();
+        } else {
+            loader.whenLoaded(action);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -90,4 +149,9 @@ public class LogicManager implements Logic {
     public void setParserStrategy(ParserStrategy strategyParser) {
         parserContext.setCurrentParserStrategy(strategyParser);
     }
+
+    @Override
+    public ParserStrategy getParserStrategy() {
+        return parserContext.getCurrentParserStrategy();
+    }
 }
@@ -43,7 +43,7 @@ public class PersonAdapter {
     public PersonAdapter(Model model, Person subject) {
         this.model = model;
         this.subject = subject;
-        logger.fine("PersonAdapter created for " + subject);
+        logger.fine(() -> "PersonAdapter created for " + subject);
     }
 
     /** Get the immutable Person object. */
@@ -77,7 +77,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated name: %s -> %s", curr.getName(), subject.getName()));
+        logger.fine(() -> String.format("Updated name: %s -> %s", curr.getName(), subject.getName()));
     }
 
     /**
@@ -98,7 +98,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated phone: %s -> %s", curr.getPhone(), subject.getPhone()));
+        logger.fine(() -> String.format("Updated phone: %s -> %s", curr.getPhone(), subject.getPhone()));
     }
 
     /**
@@ -119,7 +119,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated email: %s -> %s", curr.getEmail(), subject.getEmail()));
+        logger.fine(() -> String.format("Updated email: %s -> %s", curr.getEmail(), subject.getEmail()));
     }
 
     /**
@@ -140,7 +140,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated address: %s -> %s", curr.getAddress(), subject.getAddress()));
+        logger.fine(() -> String.format("Updated address: %s -> %s", curr.getAddress(), subject.getAddress()));
     }
 
     /**
@@ -161,7 +161,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated notes: %s -> %s", curr.getNotes(), subject.getNotes()));
+        logger.fine(() -> String.format("Updated notes: %s -> %s", curr.getNotes(), subject.getNotes()));
     }
 
     /**
@@ -182,7 +182,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated policies: ... -> %s", subject.getPolicies().stream()
+        logger.fine(() -> String.format("Updated policies: ... -> %s", subject.getPolicies().stream()
                 .map(Policy::toString).reduce("", (a, b) -> a + b)));
     }
 
@@ -204,7 +204,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated liabilities: ... -> %s", subject.getLiabilities().stream()
+        logger.fine(() -> String.format("Updated liabilities: ... -> %s", subject.getLiabilities().stream()
                 .map(Liability::toString).reduce("", (a, b) -> a + b)));
     }
 
@@ -226,7 +226,7 @@ public class PersonAdapter {
         );
         this.subject = personToEdit;
         this.trySaveAddressBook(curr, personToEdit);
-        logger.fine(String.format("Updated assets: ... -> %s", subject.getAssets().stream()
+        logger.fine(() -> String.format("Updated assets: ... -> %s", subject.getAssets().stream()
                 .map(Asset::toString).reduce("", (a, b) -> a + b)));
     }
 
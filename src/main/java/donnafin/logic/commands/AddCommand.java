@@ -9,6 +9,8 @@ import static java.util.Objects.requireNonNull;
 import java.util.Set;
 
 import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.AddCommandParser;
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.Model;
 import donnafin.model.person.Person;
 
@@ -18,6 +20,8 @@ import donnafin.model.person.Person;
 public class AddCommand extends Command {
 
     public static final String COMMAND_WORD = "add";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, (state, personAdapter) -> new AddCommandParser());
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a client to DonnaFin. "
             + "Parameters: "
@@ -17,6 +17,8 @@ import java.util.function.Consumer;
 
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.AppendCommandParser;
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.Model;
 import donnafin.model.person.Asset;
 import donnafin.model.person.Liability;
@@ -27,6 +29,8 @@ import donnafin.ui.Ui;
 public class AppendCommand extends Command {
 
     public static final String COMMAND_WORD = "append";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.ATTRIBUTE_TABS, AppendCommandParser::new);
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + "notes down a policy/asset/liability owned by a client. "
         + "Parameters (For Policies): "
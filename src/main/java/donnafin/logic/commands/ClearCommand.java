@@ -2,6 +2,7 @@ package donnafin.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.AddressBook;
 import donnafin.model.Model;
 
@@ -11,6 +12,8 @@ import donnafin.model.Model;
 public class ClearCommand extends Command {
 
     public static final String COMMAND_WORD = "clear";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, CommandRegistration.withoutArguments(ClearCommand::new));
     public static final String MESSAGE_SUCCESS = "DonnaFin has been cleared!";
 
 
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can only be executed once the whole address book has been loaded,
+     * which is true of any command that reads or changes clients.
+     */
+    public boolean requiresFullAddressBook() {
+        return true;
+    }
+
 }
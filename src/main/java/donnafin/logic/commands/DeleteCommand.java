@@ -7,6 +7,8 @@ import java.util.List;
 import donnafin.commons.core.Messages;
 import donnafin.commons.core.types.Index;
 import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.logic.parser.DeleteCommandParser;
 import donnafin.model.Model;
 import donnafin.model.person.Person;
 
@@ -16,6 +18,8 @@ import donnafin.model.person.Person;
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, (state, personAdapter) -> new DeleteCommandParser());
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the client identified by the index number used in the displayed client list.\n"
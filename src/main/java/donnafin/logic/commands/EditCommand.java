@@ -6,10 +6,13 @@ import static donnafin.logic.parser.CliSyntax.PREFIX_NAME;
 import static donnafin.logic.parser.CliSyntax.PREFIX_PHONE;
 import static java.util.Objects.requireNonNull;
 
+import java.util.EnumSet;
 import java.util.function.Consumer;
 
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.logic.parser.EditCommandParser;
 import donnafin.model.Model;
 import donnafin.ui.Ui;
 
@@ -20,6 +23,8 @@ import donnafin.ui.Ui;
 public class EditCommand extends Command {
 
     public static final String COMMAND_WORD = "edit";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            EnumSet.of(Ui.ViewFinderState.CONTACT), (state, personAdapter) -> new EditCommandParser(personAdapter));
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edit details of the client identified "
             + "by the index number used in the displayed client list. "
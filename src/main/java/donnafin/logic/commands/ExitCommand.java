@@ -1,5 +1,6 @@
 package donnafin.logic.commands;
 
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.Model;
 import donnafin.ui.Ui;
 
@@ -9,6 +10,8 @@ import donnafin.ui.Ui;
 public class ExitCommand extends Command {
 
     public static final String COMMAND_WORD = "exit";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.EVERYWHERE, CommandRegistration.withoutArguments(ExitCommand::new));
 
     public static final String MESSAGE_EXIT_ACKNOWLEDGEMENT = "Exiting DonnaFin as requested ...";
 
@@ -16,4 +19,9 @@ public class ExitCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, (Ui::beginExit));
     }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
 }
@@ -0,0 +1,92 @@
+package donnafin.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.logic.parser.ExportCommandParser;
+import donnafin.model.Model;
+import donnafin.model.person.Person;
+import donnafin.storage.ClientExporter;
+import donnafin.storage.CsvClientImporter;
+import donnafin.ui.Ui;
+
+/**
+ * Exports the displayed clients, or all clients, along with their policies, assets and liabilities.
+ * The clients are written on a background thread, so the command returns before the export completes. If the export
+ * fails, the user is told once it does.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, (state, personAdapter) -> new ExportCommandParser());
+    public static final String KEYWORD_ALL = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the clients currently displayed, or all clients if '" + KEYWORD_ALL + "' is given.\n"
+            + "If PATH ends with " + ClientExporter.JSON_LINES_EXTENSION
+            + ", each client is written as a line of JSON. "
+            + "Otherwise PATH is a folder, and " + CsvClientImporter.CLIENTS_FILE + ", "
+            + CsvClientImporter.POLICIES_FILE + ", " + CsvClientImporter.ASSETS_FILE + " and "
+            + CsvClientImporter.LIABILITIES_FILE + " are written to it.\n"
+            + "Parameters: [" + KEYWORD_ALL + "] PATH\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL + " data/export";
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d clients to %2$s.";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export clients to %1$s: %2$s";
+
+    private final ClientExporter exporter;
+    private final boolean isExportingAll;
+
+    /**
+     * Creates an ExportCommand to export to {@code target}.
+     * All clients are exported if {@code isExportingAll} is true, otherwise only the clients displayed.
+     */
+    public ExportCommand(Path target, boolean isExportingAll) {
+        this(new ClientExporter(target), isExportingAll);
+    }
+
+    /**
+     * Creates an ExportCommand that exports with {@code exporter}.
+     * All clients are exported if {@code isExportingAll} is true, otherwise only the clients displayed.
+     */
+    public ExportCommand(ClientExporter exporter, boolean isExportingAll) {
+        requireNonNull(exporter);
+        this.exporter = exporter;
+        this.isExportingAll = isExportingAll;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Person> persons = isExportingAll
+                ? model.getAddressBookSnapshot().getVersionedPersons()
+                : model.getFilteredPersonList();
+        CompletableFuture<Integer> export = exporter.exportInBackground(persons);
+        // A failed export is only known on the export thread, after the result of the command is shown
+        Consumer<Ui> uiAction = ui -> export.whenComplete((count, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                ui.showMessage(String.format(MESSAGE_EXPORT_FAILED, exporter.getTarget(), cause.getMessage()));
+            }
+        });
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), exporter.getTarget()), uiAction);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && exporter.getTarget().equals(((ExportCommand) other).exporter.getTarget())
+                && isExportingAll == ((ExportCommand) other).isExportingAll); // state check
+    }
+}
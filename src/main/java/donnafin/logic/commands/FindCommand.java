@@ -3,6 +3,8 @@ package donnafin.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import donnafin.commons.core.Messages;
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.logic.parser.FindCommandParser;
 import donnafin.model.Model;
 import donnafin.model.person.NameContainsKeywordsPredicate;
 
@@ -13,6 +15,8 @@ import donnafin.model.person.NameContainsKeywordsPredicate;
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, (state, personAdapter) -> new FindCommandParser());
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all clients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
@@ -1,5 +1,6 @@
 package donnafin.logic.commands;
 
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.Model;
 import donnafin.ui.Ui;
 
@@ -9,6 +10,8 @@ import donnafin.ui.Ui;
 public class HelpCommand extends Command {
 
     public static final String COMMAND_WORD = "help";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.EVERYWHERE, CommandRegistration.withoutArguments(HelpCommand::new));
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions.\n"
             + "Example: " + COMMAND_WORD;
@@ -19,4 +22,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, (Ui::showHelp));
     }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
 }
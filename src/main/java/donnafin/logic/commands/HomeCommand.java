@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 
 import donnafin.logic.Logic;
 import donnafin.logic.parser.AddressBookParser;
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.Model;
 import donnafin.ui.Ui;
 
@@ -15,6 +16,8 @@ import donnafin.ui.Ui;
 public class HomeCommand extends Command {
 
     public static final String COMMAND_WORD = "home";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.EVERYWHERE, CommandRegistration.withoutArguments(HomeCommand::new));
     public static final String MESSAGE_SUCCESS = "Currently viewing home window.";
 
     @Override
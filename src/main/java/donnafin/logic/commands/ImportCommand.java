@@ -0,0 +1,90 @@
+package donnafin.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.logic.parser.ImportCommandParser;
+import donnafin.model.Model;
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
+import donnafin.storage.CsvClientImporter;
+
+/**
+ * Imports clients, along with their policies, assets and liabilities, from a directory of CSV files.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, (state, personAdapter) -> new ImportCommandParser());
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports clients from the CSV files in a folder.\n"
+            + "The folder must contain " + CsvClientImporter.CLIENTS_FILE + ", and may contain "
+            + CsvClientImporter.POLICIES_FILE + ", " + CsvClientImporter.ASSETS_FILE + " and "
+            + CsvClientImporter.LIABILITIES_FILE + ".\n"
+            + "Parameters: FOLDER_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/import";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d clients with %2$d policies, assets and liabilities.";
+    public static final String MESSAGE_ROWS_REJECTED = "\n%1$d rows were rejected:\n%2$s";
+    public static final String MESSAGE_MORE_ROWS_REJECTED = "\n... and %1$d more";
+    public static final String MESSAGE_READ_FAILED = "Could not read import files: %1$s";
+
+    /** Maximum number of rejected rows listed in the result, so that a bad file does not flood the display. */
+    static final int MAX_ERRORS_SHOWN = 10;
+
+    private final Path directory;
+
+    /**
+     * Creates an ImportCommand to import the CSV files in {@code directory}.
+     */
+    public ImportCommand(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Name> existingNames = model.getAddressBook().getPersonList().stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+
+        CsvClientImporter.Result result;
+        try {
+            result = new CsvClientImporter(directory).importClients(existingNames);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, e), e);
+        }
+
+        model.addPersons(result.getPersons());
+
+        String feedbackToUser = String.format(MESSAGE_SUCCESS,
+                result.getPersons().size(), result.getAttributeCount());
+        List<String> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            String shownErrors = String.join("\n", errors.subList(0, Math.min(errors.size(), MAX_ERRORS_SHOWN)));
+            feedbackToUser += String.format(MESSAGE_ROWS_REJECTED, errors.size(), shownErrors);
+            if (errors.size() > MAX_ERRORS_SHOWN) {
+                feedbackToUser += String.format(MESSAGE_MORE_ROWS_REJECTED, errors.size() - MAX_ERRORS_SHOWN);
+            }
+        }
+        return new CommandResult(feedbackToUser);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && directory.equals(((ImportCommand) other).directory)); // state check
+    }
+}
@@ -2,6 +2,7 @@ package donnafin.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.model.Model;
 
 /**
@@ -10,6 +11,8 @@ import donnafin.model.Model;
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, CommandRegistration.withoutArguments(ListCommand::new));
 
     public static final String MESSAGE_SUCCESS = "All clients listed!";
     public static final String MESSAGE_NO_CLIENTS_FOUND = "No clients found.";
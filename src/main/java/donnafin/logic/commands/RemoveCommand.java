@@ -13,6 +13,8 @@ import donnafin.commons.core.types.Index;
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.PersonAdapter.PersonField;
 import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.logic.parser.RemoveCommandParser;
 import donnafin.logic.parser.exceptions.ParseException;
 import donnafin.model.Model;
 import donnafin.model.person.Asset;
@@ -23,6 +25,8 @@ import donnafin.ui.Ui;
 public class RemoveCommand extends Command {
 
     public static final String COMMAND_WORD = "remove";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.ATTRIBUTE_TABS, RemoveCommandParser::new);
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": removes a row from the attribute table. \n"
             + "Parameters: INDEX (must be a positive integer) "
@@ -0,0 +1,53 @@
+package donnafin.logic.commands;
+
+import java.util.Map;
+
+import donnafin.commons.core.Histogram;
+import donnafin.commons.core.MetricsCenter;
+import donnafin.logic.parser.CommandRegistration;
+import donnafin.model.Model;
+
+/**
+ * Shows how long each command, and loading and saving the data file, has taken since DonnaFin started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.EVERYWHERE, CommandRegistration.withoutArguments(StatsCommand::new));
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the median, 99th percentile and longest time taken by each command so far.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_STATS = "No commands have been timed yet.";
+    public static final String MESSAGE_LATENCY_HEADER = "Time taken in ms (count, p50, p99, max):";
+    public static final String MESSAGE_SIZE_HEADER = "Size in bytes (count, p50, p99, max):";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Override
+    public CommandResult execute(Model model) {
+        Map<String, Histogram.Summary> timers = MetricsCenter.getTimerSummaries();
+        Map<String, Histogram.Summary> sizes = MetricsCenter.getSizeSummaries();
+        if (timers.isEmpty() && sizes.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+
+        StringBuilder builder = new StringBuilder(MESSAGE_LATENCY_HEADER);
+        timers.forEach((name, summary) -> builder.append(String.format("\n%s: %d, %.2f, %.2f, %.2f",
+                name, summary.getCount(), summary.getP50() / NANOS_PER_MILLI, summary.getP99() / NANOS_PER_MILLI,
+                summary.getMax() / NANOS_PER_MILLI)));
+        if (!sizes.isEmpty()) {
+            builder.append('\n').append(MESSAGE_SIZE_HEADER);
+            sizes.forEach((name, summary) -> builder.append(String.format("\n%s: %d, %d, %d, %d",
+                    name, summary.getCount(), summary.getP50(), summary.getP99(), summary.getMax())));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+}
@@ -8,9 +8,11 @@ import donnafin.logic.Logic;
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.commands.exceptions.CommandException;
 import donnafin.logic.parser.AssetsTabParser;
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.logic.parser.ContactTabParser;
 import donnafin.logic.parser.LiabilitiesTabParser;
 import donnafin.logic.parser.NotesTabParser;
+import donnafin.logic.parser.ParserUtil;
 import donnafin.logic.parser.PolicyTabParser;
 import donnafin.model.Model;
 import donnafin.ui.Ui;
@@ -18,6 +20,10 @@ import donnafin.ui.Ui;
 public class SwitchTabCommand extends Command {
 
     public static final String COMMAND_WORD = "tab";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.CLIENT_WINDOW,
+            (state, personAdapter) -> arguments ->
+                    new SwitchTabCommand(ParserUtil.parseTab(arguments), personAdapter));
     private static final String MESSAGE_SUCCESS = "Switched tab";
 
     private final Ui.ViewFinderState tab;
@@ -9,13 +9,17 @@ import donnafin.commons.core.Messages;
 import donnafin.commons.core.types.Index;
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.logic.parser.CommandRegistration;
 import donnafin.logic.parser.ContactTabParser;
+import donnafin.logic.parser.ViewCommandParser;
 import donnafin.model.Model;
 import donnafin.model.person.Person;
 
 public class ViewCommand extends Command {
 
     public static final String COMMAND_WORD = "view";
+    public static final CommandRegistration REGISTRATION = new CommandRegistration(COMMAND_WORD,
+            CommandRegistration.HOME_WINDOW, (state, personAdapter) -> new ViewCommandParser());
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Views a client in more detail.\n"
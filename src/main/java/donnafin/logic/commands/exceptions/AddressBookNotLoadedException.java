@@ -0,0 +1,10 @@
+package donnafin.logic.commands.exceptions;
+
+/**
+ * Signals that a command cannot be executed yet because the address book is still being loaded.
+ */
+public class AddressBookNotLoadedException extends CommandException {
+    public AddressBookNotLoadedException(String message) {
+        super(message);
+    }
+}
@@ -1,9 +1,6 @@
 package donnafin.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import donnafin.commons.jfr.TokenizeEvent;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +9,88 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. A prefix is only recognized if it is preceded by a space e.g. {@code p/} is not recognized in
+ *    {@code e/hip/900}.<br>
  */
 public class ArgumentTokenizer {
 
+    private static final char PREFIX_DELIMITER = ' ';
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * <p>
+     * The arguments string is scanned once from left to right. Prefixes are only tried at the start of a word, and
+     * each value is added to the map as soon as the prefix after it (or the end of the string) is reached, so no
+     * intermediate strings or position lists are created.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        TokenizeEvent event = new TokenizeEvent();
+        event.begin();
+        ArgumentMultimap argMultimap = tokenizeInOnePass(argsString, prefixes);
+        event.end();
+        if (event.shouldCommit()) {
+            event.argumentsLength = argsString.length();
+            event.prefixCount = prefixes.length;
+            event.commit();
         }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return argMultimap;
     }
 
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap tokenizeInOnePass(String argsString, Prefix... prefixes) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+        int valueStartPos = 0;
+        int length = argsString.length();
+
+        for (int i = 1; i < length; i++) {
+            if (argsString.charAt(i - 1) != PREFIX_DELIMITER) {
+                continue;
+            }
+            Prefix prefix = findPrefixAt(argsString, i, prefixes);
+            if (prefix == null) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, i));
+            currentPrefix = prefix;
+            valueStartPos = i + prefix.getPrefix().length();
+            i = valueStartPos - 1; // resume scanning from the first character of the value
         }
 
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, length));
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the first of {@code prefixes} that occurs in {@code argsString} at index {@code position},
+     * or null if there is none.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static Prefix findPrefixAt(String argsString, int position, Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (!prefixString.isEmpty() && argsString.startsWith(prefixString, position)) {
+                return prefix;
+            }
+        }
+        return null;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the value between {@code startPos} (inclusive) and {@code endPos} (exclusive), without leading and
+     * trailing whitespace. The whitespace is skipped before taking the substring, so only one string is created.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static String extractArgumentValue(String argsString, int startPos, int endPos) {
+        while (startPos < endPos && argsString.charAt(startPos) <= ' ') {
+            startPos++;
         }
-
-        Prefix getPrefix() {
-            return prefix;
+        while (endPos > startPos && argsString.charAt(endPos - 1) <= ' ') {
+            endPos--;
         }
+        return argsString.substring(startPos, endPos);
     }
 
 }
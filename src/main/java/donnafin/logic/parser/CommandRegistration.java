@@ -0,0 +1,100 @@
+package donnafin.logic.parser;
+
+import static donnafin.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import donnafin.logic.PersonAdapter;
+import donnafin.logic.commands.Command;
+import donnafin.logic.parser.exceptions.ParseException;
+import donnafin.ui.Ui;
+
+/**
+ * The command word of a command, the windows and tabs it can be used in, and how its parser is created.
+ * Each command declares its own registration, and the {@link CommandRegistry} of each window and tab is built from
+ * them, so a command is only added to the registrations listed in {@link CommandRegistry#ALL_COMMANDS}.
+ */
+public class CommandRegistration {
+
+    /** The home window, which lists the clients. */
+    public static final Set<Ui.ViewFinderState> HOME_WINDOW =
+            Collections.unmodifiableSet(EnumSet.of(Ui.ViewFinderState.PERSON_LIST_PANEL));
+
+    /** All the tabs of the client window. */
+    public static final Set<Ui.ViewFinderState> CLIENT_WINDOW =
+            Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(Ui.ViewFinderState.PERSON_LIST_PANEL)));
+
+    /** The tabs of the client window that list the policies, assets or liabilities of the client. */
+    public static final Set<Ui.ViewFinderState> ATTRIBUTE_TABS = Collections.unmodifiableSet(EnumSet.of(
+            Ui.ViewFinderState.POLICIES, Ui.ViewFinderState.ASSETS, Ui.ViewFinderState.LIABILITIES));
+
+    /** The home window and all the tabs of the client window. */
+    public static final Set<Ui.ViewFinderState> EVERYWHERE =
+            Collections.unmodifiableSet(EnumSet.allOf(Ui.ViewFinderState.class));
+
+    /**
+     * Creates the parser of a command for one window or tab.
+     */
+    @FunctionalInterface
+    public interface ParserFactory {
+        /**
+         * Returns the parser of the command in {@code state}, for the client of {@code personAdapter}, which is null
+         * in the home window.
+         *
+         * @throws ParseException if the command cannot be parsed in {@code state}.
+         */
+        Parser<? extends Command> create(Ui.ViewFinderState state, PersonAdapter personAdapter)
+                throws ParseException;
+    }
+
+    private final String commandWord;
+    private final Set<Ui.ViewFinderState> states;
+    private final ParserFactory parserFactory;
+
+    /**
+     * Creates the registration of a command with {@code commandWord}, which can be used in {@code states} and is
+     * parsed by the parsers of {@code parserFactory}.
+     */
+    public CommandRegistration(String commandWord, Set<Ui.ViewFinderState> states, ParserFactory parserFactory) {
+        requireAllNonNull(commandWord, states, parserFactory);
+        this.commandWord = commandWord;
+        this.states = Collections.unmodifiableSet(EnumSet.copyOf(states));
+        this.parserFactory = parserFactory;
+    }
+
+    /**
+     * Returns the parser factory of a command that does not take any arguments. A new command is created by
+     * {@code commandSupplier} for every input, and input with arguments is rejected.
+     */
+    public static ParserFactory withoutArguments(Supplier<? extends Command> commandSupplier) {
+        Parser<Command> parser = CommandRegistry.createParserWithoutArguments(commandSupplier);
+        return (state, personAdapter) -> parser;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /** Returns true if the command can be used in {@code state}. */
+    public boolean isAvailableIn(Ui.ViewFinderState state) {
+        return states.contains(state);
+    }
+
+    /** Returns true if the command can be used in some tab of the client window. */
+    public boolean isAvailableInClientWindow() {
+        return !Collections.disjoint(states, CLIENT_WINDOW);
+    }
+
+    /**
+     * Returns the parser of the command in {@code state}, for the client of {@code personAdapter}.
+     *
+     * @throws ParseException if the command cannot be parsed in {@code state}.
+     */
+    Parser<? extends Command> createParser(Ui.ViewFinderState state, PersonAdapter personAdapter)
+            throws ParseException {
+        return parserFactory.create(state, personAdapter);
+    }
+}
@@ -0,0 +1,163 @@
+package donnafin.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import donnafin.commons.core.Messages;
+import donnafin.logic.PersonAdapter;
+import donnafin.logic.commands.AddCommand;
+import donnafin.logic.commands.AppendCommand;
+import donnafin.logic.commands.ClearCommand;
+import donnafin.logic.commands.Command;
+import donnafin.logic.commands.DeleteCommand;
+import donnafin.logic.commands.EditCommand;
+import donnafin.logic.commands.ExitCommand;
+import donnafin.logic.commands.ExportCommand;
+import donnafin.logic.commands.FindCommand;
+import donnafin.logic.commands.HelpCommand;
+import donnafin.logic.commands.HomeCommand;
+import donnafin.logic.commands.ImportCommand;
+import donnafin.logic.commands.ListCommand;
+import donnafin.logic.commands.RemoveCommand;
+import donnafin.logic.commands.StatsCommand;
+import donnafin.logic.commands.SwitchTabCommand;
+import donnafin.logic.commands.ViewCommand;
+import donnafin.logic.parser.exceptions.ParseException;
+import donnafin.ui.Ui;
+
+/**
+ * Maps command words to the parsers that create their commands.
+ * Each parser is created once, when it is registered, and is reused for every input with its command word, so
+ * finding the parser of an input is a single hash lookup.
+ */
+public class CommandRegistry {
+
+    /** The registrations of all commands, declared by the commands themselves. */
+    static final List<CommandRegistration> ALL_COMMANDS = List.of(
+            AddCommand.REGISTRATION, AppendCommand.REGISTRATION, ClearCommand.REGISTRATION,
+            DeleteCommand.REGISTRATION, EditCommand.REGISTRATION, ExitCommand.REGISTRATION,
+            ExportCommand.REGISTRATION, FindCommand.REGISTRATION, HelpCommand.REGISTRATION,
+            HomeCommand.REGISTRATION, ImportCommand.REGISTRATION, ListCommand.REGISTRATION,
+            RemoveCommand.REGISTRATION, StatsCommand.REGISTRATION, SwitchTabCommand.REGISTRATION,
+            ViewCommand.REGISTRATION);
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser of {@code commandWord}, replacing any parser registered before.
+     *
+     * @return this registry, so that registrations can be chained.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        parsers.put(commandWord, parser);
+        return this;
+    }
+
+    /**
+     * Registers a command that does not take any arguments. A new command is created by {@code commandSupplier}
+     * for every input, and input with arguments is rejected.
+     *
+     * @return this registry, so that registrations can be chained.
+     */
+    public CommandRegistry registerWithoutArguments(String commandWord, Supplier<? extends Command> commandSupplier) {
+        return register(commandWord, createParserWithoutArguments(commandSupplier));
+    }
+
+    /**
+     * Registers the commands of {@code registrations} that can be used in {@code state}, with their parsers for the
+     * client of {@code personAdapter}, which is null in the home window. The other commands are rejected as
+     * commands of the other window, or with {@code otherTabMessage} if they can be used in another tab of the
+     * client window.
+     *
+     * @return this registry, so that registrations can be chained.
+     */
+    public CommandRegistry registerAll(List<CommandRegistration> registrations, Ui.ViewFinderState state,
+            PersonAdapter personAdapter, String otherTabMessage) {
+        for (CommandRegistration registration : registrations) {
+            String commandWord = registration.getCommandWord();
+            if (registration.isAvailableIn(state)) {
+                try {
+                    register(commandWord, registration.createParser(state, personAdapter));
+                } catch (ParseException e) {
+                    throw new AssertionError("Registered in " + state + ", where it cannot be parsed: " + commandWord,
+                            e);
+                }
+            } else if (CommandRegistration.HOME_WINDOW.contains(state)) {
+                reject(commandWord, Messages.MESSAGE_COMMAND_NOT_IN_HOME_WINDOW);
+            } else if (!registration.isAvailableInClientWindow()) {
+                reject(commandWord, Messages.MESSAGE_COMMAND_NOT_IN_CLIENT_WINDOW);
+            } else {
+                reject(commandWord, otherTabMessage);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns a parser that creates a new command with {@code commandSupplier} for every input, and rejects input
+     * with arguments.
+     */
+    static Parser<Command> createParserWithoutArguments(Supplier<? extends Command> commandSupplier) {
+        requireNonNull(commandSupplier);
+        return arguments -> {
+            if (!arguments.equals("")) {
+                throw new ParseException(Messages.MESSAGE_USE_HELP_COMMAND);
+            }
+            return commandSupplier.get();
+        };
+    }
+
+    /**
+     * Registers a command that is known but cannot be used here. Input with {@code commandWord} is rejected with
+     * {@code message} rather than as an unknown command.
+     *
+     * @return this registry, so that registrations can be chained.
+     */
+    public CommandRegistry reject(String commandWord, String message) {
+        requireNonNull(message);
+        return register(commandWord, arguments -> {
+            throw new ParseException(message);
+        });
+    }
+
+    /**
+     * Registers all the parsers of {@code other}, replacing the parsers of any command words in both registries.
+     *
+     * @return this registry, so that registrations can be chained.
+     */
+    public CommandRegistry registerAll(CommandRegistry other) {
+        parsers.putAll(other.parsers);
+        return this;
+    }
+
+    /** Returns true if a parser is registered for {@code commandWord}. */
+    public boolean contains(String commandWord) {
+        return parsers.containsKey(commandWord);
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, or null if there is none.
+     */
+    Parser<? extends Command> getParser(String commandWord) {
+        return parsers.get(commandWord);
+    }
+
+    /**
+     * Parses {@code arguments} with the parser registered for {@code commandWord}.
+     *
+     * @throws ParseException if no parser is registered for {@code commandWord}, or the arguments are invalid.
+     */
+    public Command parse(String commandWord, String arguments) throws ParseException {
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
+}
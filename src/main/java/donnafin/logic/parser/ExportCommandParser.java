@@ -0,0 +1,34 @@
+package donnafin.logic.parser;
+
+import java.nio.file.Paths;
+
+import donnafin.commons.core.Messages;
+import donnafin.commons.util.FileUtil;
+import donnafin.logic.commands.ExportCommand;
+import donnafin.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String path = args.trim();
+        boolean isExportingAll = false;
+        if (path.startsWith(ExportCommand.KEYWORD_ALL + " ")) {
+            path = path.substring(ExportCommand.KEYWORD_ALL.length()).trim();
+            isExportingAll = true;
+        }
+        if (path.isEmpty() || !FileUtil.isValidPath(path)) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        return new ExportCommand(Paths.get(path), isExportingAll);
+    }
+
+}
@@ -5,12 +5,12 @@ import static java.util.Objects.requireNonNull;
 import java.util.logging.Logger;
 
 import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
 import donnafin.logic.commands.Command;
 import donnafin.logic.parser.exceptions.ParseException;
-import donnafin.ui.UiManager;
 
 public class ParserContext {
-    private static final Logger logger = LogsCenter.getLogger(UiManager.class);
+    private static final Logger logger = LogsCenter.getLogger(ParserContext.class);
     private ParserStrategy currentParserStrategy;
 
     /**
@@ -26,7 +26,7 @@ public class ParserContext {
      */
     public void setCurrentParserStrategy(ParserStrategy parserStrategy) {
         requireNonNull(parserStrategy);
-        logger.info("Setting ParserStrategy to " + parserStrategy.getClass().getSimpleName());
+        logger.info(() -> "Setting ParserStrategy to " + parserStrategy.getClass().getSimpleName());
         this.currentParserStrategy = parserStrategy;
     }
 
@@ -34,8 +34,13 @@ public class ParserContext {
     Executes the currentParserStrategy parse command
      */
     public Command executeParserStrategyCommand(String userInput) throws ParseException {
-        logger.info("ParserContext executing strategyParserCommand");
-        return currentParserStrategy.parseCommand(userInput);
+        logger.fine("ParserContext executing strategyParserCommand");
+        long start = System.nanoTime();
+        try {
+            return currentParserStrategy.parseCommand(userInput);
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.PARSE_TIMER).recordNanosSince(start);
+        }
     }
 
     public ParserStrategy getCurrentParserStrategy() {
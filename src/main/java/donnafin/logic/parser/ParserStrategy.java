@@ -1,9 +1,6 @@
 //@@author Bluntsord
 package donnafin.logic.parser;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import donnafin.commons.core.Messages;
 import donnafin.logic.commands.Command;
 import donnafin.logic.commands.HelpCommand;
@@ -14,30 +11,59 @@ Interface to declare all strategic parser needs to have parseCommand command
  */
 public abstract class ParserStrategy {
 
-    /** Used for initial separation of command word and args. */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-
     /**
      * Parses user input into command for execution.
+     * The command word is the text up to the first whitespace, and the arguments are the rest of the input.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = findCommandWordEnd(trimmedInput);
+        if (commandWordEnd == 0 || hasLineBreak(trimmedInput)) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord").toLowerCase();
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd).toLowerCase();
+        final String arguments = trimmedInput.substring(commandWordEnd);
         return parseCommand(commandWord, arguments);
     }
 
     public abstract Command parseCommand(String commandWord, String arguments) throws ParseException;
 
-    protected Command throwsInvalidInputMsg() throws ParseException {
-        throw new ParseException(Messages.MESSAGE_USE_HELP_COMMAND);
+    /**
+     * Returns the command word of {@code userInput}, in the form that is passed to
+     * {@link #parseCommand(String, String)}.
+     */
+    public static String getCommandWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        return trimmedInput.substring(0, findCommandWordEnd(trimmedInput)).toLowerCase();
+    }
+
+    /** Returns the index of the first whitespace in {@code trimmedInput}, or its length if there is none. */
+    private static int findCommandWordEnd(String trimmedInput) {
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        return commandWordEnd;
+    }
+
+    /** Returns true if {@code c} separates the command word from its arguments. */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Returns true if {@code input} spans more than one line, which is not a valid command. */
+    private static boolean hasLineBreak(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -10,7 +10,7 @@ import donnafin.logic.commands.RemoveCommand;
 import donnafin.logic.parser.exceptions.ParseException;
 import donnafin.ui.Ui;
 
-public class RemoveCommandParser {
+public class RemoveCommandParser implements Parser<RemoveCommand> {
 
     public static final String MESSAGE_INVALID_TAB = "Invalid tab for remove.";
 
@@ -47,6 +47,7 @@ public class RemoveCommandParser {
      * and returns a DeleteCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
+    @Override
     public RemoveCommand parse(String args) throws ParseException {
 
         if (args.trim().equals("")) {
@@ -0,0 +1,48 @@
+package donnafin.management;
+
+import java.io.IOException;
+
+/**
+ * The management interface of a running DonnaFin instance, for monitoring tools such as JConsole and VisualVM.
+ * Times are in milliseconds and sizes are in bytes.
+ */
+public interface DonnaFinMXBean {
+
+    int getClientCount();
+
+    int getPolicyCount();
+
+    int getAssetCount();
+
+    int getLiabilityCount();
+
+    /** Returns how long the most recent save of the data file took, or 0 if it has not been saved. */
+    double getLastSaveDurationMillis();
+
+    /** Returns the size of the data file after the most recent save, or 0 if it has not been saved. */
+    long getLastSaveSizeBytes();
+
+    long getSaveCount();
+
+    long getLoadCount();
+
+    /** Returns the window or tab that the user is currently on. */
+    String getUiState();
+
+    /** Returns the name of the parser that the next command will be parsed with. */
+    String getParserState();
+
+    /**
+     * Saves the clients to the data file.
+     *
+     * @throws IOException if the data file cannot be written.
+     */
+    void save() throws IOException;
+
+    /**
+     * Replaces the clients with those in the data file, discarding any changes that have not been saved.
+     *
+     * @throws IOException if the data file cannot be found or read.
+     */
+    void reload() throws IOException;
+}
@@ -0,0 +1,215 @@
+package donnafin.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.model.Model;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.storage.Storage;
+
+/**
+ * Exposes the state of a running DonnaFin instance as a platform MBean.
+ * <p>
+ * The model may only be used from the application thread, but MBean attributes are read and operations are invoked
+ * from threads of the MBean server. So counts of clients are read from a snapshot of the address book, which does not
+ * wait for the application thread, and every other use of the model is handed to the application thread through
+ * {@code appThread}, and the caller waits for its result.
+ */
+public class DonnaFinMonitor implements DonnaFinMXBean {
+
+    public static final String OBJECT_NAME = "donnafin:type=DonnaFin";
+
+    static final String MESSAGE_DATA_FILE_NOT_FOUND = "Data file not found: %1$s";
+    static final String MESSAGE_APP_THREAD_TIMEOUT = "The application did not respond within %1$d seconds";
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Logger logger = LogsCenter.getLogger(DonnaFinMonitor.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Supplier<String> uiState;
+    private final Supplier<String> parserState;
+    private final Executor appThread;
+
+    /**
+     * Creates a monitor of {@code model}, which is saved to and reloaded from {@code storage}.
+     *
+     * @param uiState returns the window or tab that the user is currently on.
+     * @param parserState returns the name of the parser that the next command will be parsed with.
+     * @param appThread runs tasks on the thread that the model may be used from.
+     */
+    public DonnaFinMonitor(Model model, Storage storage, Supplier<String> uiState, Supplier<String> parserState,
+            Executor appThread) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        requireNonNull(uiState);
+        requireNonNull(parserState);
+        requireNonNull(appThread);
+        this.model = model;
+        this.storage = storage;
+        this.uiState = uiState;
+        this.parserState = parserState;
+        this.appThread = appThread;
+    }
+
+    /**
+     * Registers this monitor with {@code server} as {@value #OBJECT_NAME}, replacing any monitor registered before.
+     *
+     * @throws JMException if the monitor cannot be registered.
+     */
+    public void register(MBeanServer server) throws JMException {
+        requireNonNull(server);
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+        logger.info("Registered MBean " + OBJECT_NAME);
+    }
+
+    @Override
+    public int getClientCount() {
+        return model.getAddressBookSnapshot().getPersonList().size();
+    }
+
+    @Override
+    public int getPolicyCount() {
+        return countPerClient(person -> person.getPolicies().size());
+    }
+
+    @Override
+    public int getAssetCount() {
+        return countPerClient(person -> person.getAssets().size());
+    }
+
+    @Override
+    public int getLiabilityCount() {
+        return countPerClient(person -> person.getLiabilities().size());
+    }
+
+    @Override
+    public double getLastSaveDurationMillis() {
+        return MetricsCenter.getTimer(MetricsCenter.SAVE_TIMER).getLast() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getLastSaveSizeBytes() {
+        return MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).getLast();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return MetricsCenter.getTimer(MetricsCenter.SAVE_TIMER).getCount();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).getCount();
+    }
+
+    @Override
+    public String getUiState() {
+        return read(uiState::get);
+    }
+
+    @Override
+    public String getParserState() {
+        return read(parserState::get);
+    }
+
+    @Override
+    public void save() throws IOException {
+        logger.info("Saving data file as requested through JMX");
+        callOnAppThread(() -> {
+            model.saveAddressBook();
+            return null;
+        });
+    }
+
+    @Override
+    public void reload() throws IOException {
+        logger.info("Reloading data file as requested through JMX");
+        callOnAppThread(() -> {
+            Optional<ReadOnlyAddressBook> addressBook;
+            try {
+                addressBook = storage.readAddressBook();
+            } catch (DataConversionException e) {
+                throw new IOException(e.getMessage());
+            }
+            if (addressBook.isEmpty()) {
+                throw new IOException(String.format(MESSAGE_DATA_FILE_NOT_FOUND, storage.getAddressBookFilePath()));
+            }
+            model.setAddressBook(addressBook.get());
+            return null;
+        });
+    }
+
+    private int countPerClient(ToIntFunction<Person> count) {
+        return model.getAddressBookSnapshot().getPersonList().stream().mapToInt(count).sum();
+    }
+
+    /**
+     * Returns the result of {@code query}, run on the application thread.
+     *
+     * @throws IllegalStateException if the application thread does not respond.
+     */
+    private <T> T read(Supplier<T> query) {
+        try {
+            return callOnAppThread(query::get);
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the application thread and waits for its result.
+     *
+     * @throws IOException if the task throws an {@code IOException}, or if it does not complete in time.
+     * @throws IllegalStateException if the task throws any other exception.
+     */
+    private <T> T callOnAppThread(Callable<T> task) throws IOException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        appThread.execute(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (TimeoutException e) {
+            throw new IOException(String.format(MESSAGE_APP_THREAD_TIMEOUT, TIMEOUT_SECONDS), e);
+        } catch (ExecutionException e) {
+            // A JMX client may not have the classes of the cause, e.g. those of Jackson, so only its message is kept.
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new IOException(cause.getMessage());
+            }
+            throw new IllegalStateException(cause.toString());
+        }
+    }
+}
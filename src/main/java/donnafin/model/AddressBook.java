@@ -1,20 +1,54 @@
 package donnafin.model;
 
+import static donnafin.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
 
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.util.PersistentList;
+import donnafin.model.person.MergeResult;
 import donnafin.model.person.Person;
+import donnafin.model.person.PersonChanges;
 import donnafin.model.person.UniquePersonList;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * <p>
+ * Besides its observable list of clients, the address book keeps the clients in a {@link PersistentList}, which is
+ * replaced by a new version each time the clients change. {@link #getSnapshot()} shares the version after the last
+ * change, so a snapshot is made in O(1) time and stays the same while the address book keeps changing. A version is
+ * reclaimed by the garbage collector once no snapshot holds it.
+ * <p>
+ * After each change, {@link ModelChangeListener}s are told which clients were added, removed and updated.
  */
 public class AddressBook implements ReadOnlyAddressBook {
+    private static final Logger logger = LogsCenter.getLogger(AddressBook.class);
 
     private final UniquePersonList persons;
+    private final List<ModelChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    // The clients as they are now, kept up to date by the listener on persons. Only used by the thread changing the
+    // address book.
+    private PersistentList<Person> versionedPersons = PersistentList.empty();
+    private long version;
+    // The thread changing the address book, if any.
+    private volatile Thread changingThread;
+    // The snapshot after the last change, which shares versionedPersons as it was then.
+    private volatile AddressBookSnapshot snapshot = new AddressBookSnapshot(0, PersistentList.empty());
+    // The clients added and removed by the change being made, in order, if there were change listeners to tell when
+    // it started. Listeners may be added on other threads, so whether there are is only checked once per change.
+    private boolean isRecordingChange;
+    private final List<Person> pendingAdded = new ArrayList<>();
+    private final List<Person> pendingRemoved = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,6 +59,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        // Added first, so that the versioned clients are up to date before any other listener is told of a change
+        persons.asUnmodifiableObservableList().addListener(this::updateVersionedPersons);
     }
 
     public AddressBook() {}
@@ -44,7 +80,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        change(() -> this.persons.setPersons(persons));
     }
 
     /**
@@ -56,6 +92,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Merges into the person list the changes made elsewhere that turned {@code base} into {@code changed}, where
+     * {@code base} is what the person list was before the changes made to it since.
+     *
+     * @see UniquePersonList#mergePersons(List, List)
+     */
+    public MergeResult mergeData(ReadOnlyAddressBook base, ReadOnlyAddressBook changed) {
+        requireAllNonNull(base, changed);
+
+        return change(() -> persons.mergePersons(base.getPersonList(), changed.getPersonList()));
+    }
+
     //// person-level operations
 
     /**
@@ -71,7 +119,26 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        change(() -> persons.add(p));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book at once.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(Collection<Person> toAdd) {
+        change(() -> persons.addAll(toAdd));
+    }
+
+    /**
+     * Makes all of {@code changes} to the address book as a single change, which listeners of the list of persons
+     * and change listeners are each told of once. If any of the changes is not valid, none of them is made.
+     *
+     * @see UniquePersonList#applyChanges(PersonChanges)
+     */
+    public void applyChanges(PersonChanges changes) {
+        requireNonNull(changes);
+        change(() -> persons.applyChanges(changes));
     }
 
     /**
@@ -82,7 +149,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        change(() -> persons.setPerson(target, editedPerson));
     }
 
     /**
@@ -90,7 +157,116 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        change(() -> persons.remove(key));
+    }
+
+    //// versioning
+
+    /**
+     * Returns an unchangeable snapshot of the address book as it is now, which can be read from any thread while the
+     * address book keeps changing. The same snapshot is returned until the address book changes.
+     * If a listener asks for a snapshot while the address book is being changed, it may have only part of the change.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        if (changingThread == Thread.currentThread()) {
+            return new AddressBookSnapshot(version + 1, versionedPersons);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Adds a listener that is told of each change to the clients, after the change.
+     */
+    public void addChangeListener(ModelChangeListener listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addChangeListener(ModelChangeListener)}.
+     */
+    public void removeChangeListener(ModelChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Makes {@code change} to the clients and returns its result, then makes the snapshot of the new version and
+     * tells the change listeners if the clients changed. A change made of several changes to the list, like a merge,
+     * is a single version.
+     */
+    private <T> T change(Supplier<T> change) {
+        changingThread = Thread.currentThread();
+        isRecordingChange = !changeListeners.isEmpty();
+        try {
+            return change.get();
+        } finally {
+            changingThread = null;
+            if (versionedPersons != snapshot.getVersionedPersons()) {
+                version++;
+                snapshot = new AddressBookSnapshot(version, versionedPersons);
+                if (isRecordingChange) {
+                    notifyChangeListeners();
+                }
+            }
+            isRecordingChange = false;
+            pendingAdded.clear();
+            pendingRemoved.clear();
+        }
+    }
+
+    private void notifyChangeListeners() {
+        ModelChangeEvent event = ModelChangeEvent.of(snapshot, pendingAdded, pendingRemoved);
+        for (ModelChangeListener listener : changeListeners) {
+            try {
+                listener.onChange(event);
+            } catch (RuntimeException e) {
+                // The change has been made, so a listener that fails must not stop the others from being told of it
+                logger.warning("Change listener failed on " + event + ": " + e);
+            }
+        }
+    }
+
+    private void change(Runnable change) {
+        change(() -> {
+            change.run();
+            return null;
+        });
+    }
+
+    /**
+     * Makes the same change to the versioned clients as {@code change} made to the list of clients.
+     */
+    private void updateVersionedPersons(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = 0;
+        boolean wasPermutated = false;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+            wasPermutated |= change.wasPermutated();
+            if (isRecordingChange) {
+                pendingRemoved.addAll(change.getRemoved());
+                pendingAdded.addAll(change.getAddedSubList());
+            }
+        }
+        // Each client changed takes O(log n) time, so a list that changed a lot is copied in O(n) time instead
+        if (wasPermutated || changedCount > change.getList().size() / 16) {
+            versionedPersons = PersistentList.of(change.getList());
+            return;
+        }
+
+        change.reset();
+        while (change.next()) {
+            int from = change.getFrom();
+            int removedCount = change.getRemovedSize();
+            List<? extends Person> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                versionedPersons = i < removedCount
+                        ? versionedPersons.update(from + i, added.get(i))
+                        : versionedPersons.insert(from + i, added.get(i));
+            }
+            for (int i = added.size(); i < removedCount; i++) {
+                versionedPersons = versionedPersons.removeAt(from + added.size());
+            }
+        }
     }
 
     //// util methods
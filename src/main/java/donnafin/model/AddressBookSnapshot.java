@@ -0,0 +1,71 @@
+package donnafin.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import donnafin.commons.util.PersistentList;
+import donnafin.model.person.Person;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An unchangeable version of the address book as it was at one point, which can be read from any thread.
+ * Clients are immutable, so it only holds a {@link PersistentList} of clients, not copies of them. The snapshots that
+ * {@link AddressBook#getSnapshot()} makes share that list with the address book, so they are made in O(1) time.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final PersistentList<Person> versionedPersons;
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of {@code persons}, which is version {@code version} of the address book.
+     * {@code persons} is copied unless it is a {@code PersistentList}, which is used as it is.
+     */
+    public AddressBookSnapshot(long version, List<Person> persons) {
+        requireNonNull(persons);
+        this.version = version;
+        this.versionedPersons = PersistentList.of(persons);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(versionedPersons));
+    }
+
+    /**
+     * Returns the version of the address book that this is a snapshot of. The version goes up by at least one each
+     * time the address book changes, so snapshots with the same version have the same clients.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the clients of the snapshot as the {@code PersistentList} that it shares with the address book. Unlike
+     * {@link #getPersonList()}, it can be iterated without any wrapper and is known not to change.
+     */
+    public PersistentList<Person> getVersionedPersons() {
+        return versionedPersons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " clients at version " + version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && persons.equals(((AddressBookSnapshot) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
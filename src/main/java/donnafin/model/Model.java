@@ -2,15 +2,22 @@ package donnafin.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import donnafin.commons.core.GuiSettings;
+import donnafin.model.person.MergeResult;
 import donnafin.model.person.Person;
+import donnafin.model.person.PersonChanges;
 import javafx.collections.ObservableList;
 
 /**
  * The API of the Model component.
+ * <p>
+ * The model may only be changed from the app thread, which is the thread that its observable lists notify their
+ * listeners on. Other threads may read the address book through {@link #getAddressBookSnapshot()}, while the app
+ * thread keeps changing it.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -51,9 +58,43 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Merges into the address book the changes that turned {@code base} into {@code changed}, e.g. after the data
+     * file was changed by another copy of the app, where {@code base} is the address book as it was last read or
+     * saved. Changes made to the address book since then are kept.
+     *
+     * @see donnafin.model.person.UniquePersonList#mergePersons(List, List)
+     */
+    MergeResult mergeAddressBook(ReadOnlyAddressBook base, ReadOnlyAddressBook changed);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unchangeable snapshot of the address book as it is now, which can be read from any thread.
+     * Snapshots share the clients with the address book, so making one takes O(1) time. Saves, exports and reports
+     * that run while the address book keeps changing should read a snapshot rather than the address book.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Adds a listener that is told, on the app thread, which clients each change to the address book added, removed
+     * and updated.
+     */
+    void addModelChangeListener(ModelChangeListener listener);
+
+    /**
+     * Removes a listener added by {@link #addModelChangeListener(ModelChangeListener)}.
+     */
+    void removeModelChangeListener(ModelChangeListener listener);
+
+    /**
+     * Returns the publisher of a {@link PersonChangeEvent} for each client added, replaced or removed. Unlike model
+     * change listeners, its subscribers are told on their own executors, as they request events, so a slow
+     * subscriber does not hold up the app thread.
+     */
+    PersonChangePublisher getPersonChangePublisher();
+
     /** Returns the AddressBook */
     void saveAddressBook() throws IOException;
 
@@ -74,6 +115,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons in a single bulk operation.
+     * None of {@code persons} may already exist in the address book, and they must not duplicate each other.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -81,6 +128,12 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson) throws IOException;
 
+    /**
+     * Makes all of {@code changes} to the address book as a single change, so that the displayed list and change
+     * listeners are updated once rather than once per client. If any of the changes is not valid, none is made.
+     */
+    void applyChanges(PersonChanges changes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
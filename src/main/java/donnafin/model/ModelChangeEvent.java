@@ -0,0 +1,116 @@
+package donnafin.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
+
+/**
+ * A change to the clients of the address book, as the clients added, removed and updated between two versions of
+ * it. Each change to the address book is a single event, however many clients it changed, so indexes and caches of
+ * the clients can be updated from the event instead of reading the whole address book.
+ * <p>
+ * A client replaced by one with the same name is updated; a client renamed is removed and added under its new name.
+ */
+public class ModelChangeEvent {
+
+    private final AddressBookSnapshot snapshot;
+    private final List<Person> added;
+    private final List<Person> removed;
+    private final Map<Person, Person> updated;
+
+    /**
+     * Creates an event for the change that made {@code snapshot}, which added {@code added}, removed {@code removed}
+     * and replaced the keys of {@code updated} with their values.
+     */
+    public ModelChangeEvent(AddressBookSnapshot snapshot, List<Person> added, List<Person> removed,
+            Map<Person, Person> updated) {
+        requireNonNull(snapshot);
+        this.snapshot = snapshot;
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.updated = Collections.unmodifiableMap(new LinkedHashMap<>(updated));
+    }
+
+    /**
+     * Creates the event for a change that removed {@code removed} from the list of clients and added {@code added}
+     * to it, in any number of steps. A client both removed and added again is unchanged, and so left out.
+     */
+    static ModelChangeEvent of(AddressBookSnapshot snapshot, List<? extends Person> added,
+            List<? extends Person> removed) {
+        // The number of times each client was added, less the number of times it was removed
+        Map<Person, Integer> netCounts = new LinkedHashMap<>();
+        removed.forEach(person -> netCounts.merge(person, -1, Integer::sum));
+        added.forEach(person -> netCounts.merge(person, 1, Integer::sum));
+
+        Map<Name, Person> removedByName = new LinkedHashMap<>();
+        List<Person> addedPersons = new ArrayList<>();
+        netCounts.forEach((person, count) -> {
+            if (count < 0) {
+                removedByName.put(person.getName(), person);
+            } else if (count > 0) {
+                addedPersons.add(person);
+            }
+        });
+
+        Map<Person, Person> updated = new LinkedHashMap<>();
+        List<Person> newPersons = new ArrayList<>();
+        for (Person person : addedPersons) {
+            Person old = removedByName.remove(person.getName());
+            if (old == null) {
+                newPersons.add(person);
+            } else {
+                updated.put(old, person);
+            }
+        }
+        return new ModelChangeEvent(snapshot, newPersons, new ArrayList<>(removedByName.values()), updated);
+    }
+
+    /**
+     * Returns the version of the address book after the change. Versions go up by one for each change, so a
+     * listener can tell if it missed an event.
+     */
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * Returns a snapshot of the address book after the change.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the clients that were added, in the order they were added.
+     */
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the clients that were removed.
+     */
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the clients that were replaced by clients with the same name, mapped to the clients replacing them.
+     */
+    public Map<Person, Person> getUpdated() {
+        return updated;
+    }
+
+    @Override
+    public String toString() {
+        return "Version " + getVersion() + ": " + added.size() + " clients added, " + removed.size() + " removed, "
+                + updated.size() + " updated";
+    }
+}
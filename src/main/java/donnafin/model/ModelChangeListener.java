@@ -0,0 +1,14 @@
+package donnafin.model;
+
+/**
+ * Listens for changes to the clients of the address book.
+ */
+@FunctionalInterface
+public interface ModelChangeListener {
+
+    /**
+     * Called on the app thread after each change to the clients, once the change is complete and
+     * {@link Model#getAddressBookSnapshot()} returns the address book after it.
+     */
+    void onChange(ModelChangeEvent event);
+}
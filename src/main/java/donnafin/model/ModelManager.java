@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -12,8 +13,11 @@ import java.util.stream.Collectors;
 
 import donnafin.commons.core.GuiSettings;
 import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
 import donnafin.commons.util.CollectionUtil;
+import donnafin.model.person.MergeResult;
 import donnafin.model.person.Person;
+import donnafin.model.person.PersonChanges;
 import donnafin.storage.Storage;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -28,6 +32,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final Storage storage;
+    private final PersonChangePublisher personChangePublisher;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,12 +41,13 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.storage = storage;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        personChangePublisher = new PersonChangePublisher(this.addressBook);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -86,18 +92,55 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public MergeResult mergeAddressBook(ReadOnlyAddressBook base, ReadOnlyAddressBook changed) {
+        requireAllNonNull(base, changed);
+        MergeResult result = addressBook.mergeData(base, changed);
+        logger.info(() -> "Merged changes into the address book: " + result);
+        return result;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
     /**
-     * Returns the AddressBook
+     * {@inheritDoc}
+     * Snapshots share the versions of the clients that the address book keeps, so no lock is needed to make one.
+     */
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
+    @Override
+    public void addModelChangeListener(ModelChangeListener listener) {
+        addressBook.addChangeListener(listener);
+    }
+
+    @Override
+    public void removeModelChangeListener(ModelChangeListener listener) {
+        addressBook.removeChangeListener(listener);
+    }
+
+    @Override
+    public PersonChangePublisher getPersonChangePublisher() {
+        return personChangePublisher;
+    }
+
+    /**
+     * Saves a snapshot of the address book, so that the clients saved are those at the start of the save.
      */
     @Override
     public void saveAddressBook() throws IOException {
         assert this.storage != null : "ModelManager created without storage cannot save.";
-        storage.saveAddressBook(getAddressBook());
+        long start = System.nanoTime();
+        try {
+            storage.saveAddressBook(getAddressBookSnapshot());
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.SAVE_TIMER).recordNanosSince(start);
+        }
     }
 
     @Override
@@ -117,6 +160,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) throws IOException {
         CollectionUtil.requireAllNonNull(target, editedPerson);
@@ -124,6 +174,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void applyChanges(PersonChanges changes) {
+        requireNonNull(changes);
+        addressBook.applyChanges(changes);
+        logger.fine(() -> "Applied " + changes + " to the address book");
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -0,0 +1,167 @@
+package donnafin.model;
+
+import static donnafin.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import donnafin.model.person.Person;
+
+/**
+ * A change to a single client, published by {@link PersonChangePublisher}: a {@link PersonAdded}, a
+ * {@link PersonReplaced} or a {@link PersonRemoved}.
+ */
+public abstract class PersonChangeEvent {
+
+    private final long version;
+
+    private PersonChangeEvent(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns the events for the clients changed by {@code event}: the removals first, then the replacements, then
+     * the additions, so that a client renamed is removed before it is added under its new name.
+     */
+    public static List<PersonChangeEvent> of(ModelChangeEvent event) {
+        requireNonNull(event);
+        long version = event.getVersion();
+        List<PersonChangeEvent> events = new ArrayList<>();
+        event.getRemoved().forEach(person -> events.add(new PersonRemoved(version, person)));
+        event.getUpdated().forEach((oldPerson, newPerson) ->
+                events.add(new PersonReplaced(version, oldPerson, newPerson)));
+        event.getAdded().forEach(person -> events.add(new PersonAdded(version, person)));
+        return events;
+    }
+
+    /**
+     * Returns the version of the address book after the change that this is part of. A change to many clients is
+     * published as one event for each, all with the same version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * A client added to the address book.
+     */
+    public static class PersonAdded extends PersonChangeEvent {
+        private final Person person;
+
+        /**
+         * Creates an event for {@code person} being added in version {@code version}.
+         */
+        public PersonAdded(long version, Person person) {
+            super(version);
+            requireNonNull(person);
+            this.person = person;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonAdded // instanceof handles nulls
+                    && getVersion() == ((PersonAdded) other).getVersion()
+                    && person.equals(((PersonAdded) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getVersion(), person);
+        }
+
+        @Override
+        public String toString() {
+            return "Added " + person.getName() + " in version " + getVersion();
+        }
+    }
+
+    /**
+     * A client replaced by a client with the same name, e.g. after being edited.
+     */
+    public static class PersonReplaced extends PersonChangeEvent {
+        private final Person oldPerson;
+        private final Person newPerson;
+
+        /**
+         * Creates an event for {@code oldPerson} being replaced by {@code newPerson} in version {@code version}.
+         */
+        public PersonReplaced(long version, Person oldPerson, Person newPerson) {
+            super(version);
+            requireAllNonNull(oldPerson, newPerson);
+            this.oldPerson = oldPerson;
+            this.newPerson = newPerson;
+        }
+
+        public Person getOldPerson() {
+            return oldPerson;
+        }
+
+        public Person getNewPerson() {
+            return newPerson;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonReplaced // instanceof handles nulls
+                    && getVersion() == ((PersonReplaced) other).getVersion()
+                    && oldPerson.equals(((PersonReplaced) other).oldPerson)
+                    && newPerson.equals(((PersonReplaced) other).newPerson));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getVersion(), oldPerson, newPerson);
+        }
+
+        @Override
+        public String toString() {
+            return "Replaced " + oldPerson.getName() + " in version " + getVersion();
+        }
+    }
+
+    /**
+     * A client removed from the address book.
+     */
+    public static class PersonRemoved extends PersonChangeEvent {
+        private final Person person;
+
+        /**
+         * Creates an event for {@code person} being removed in version {@code version}.
+         */
+        public PersonRemoved(long version, Person person) {
+            super(version);
+            requireNonNull(person);
+            this.person = person;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PersonRemoved // instanceof handles nulls
+                    && getVersion() == ((PersonRemoved) other).getVersion()
+                    && person.equals(((PersonRemoved) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getVersion(), person);
+        }
+
+        @Override
+        public String toString() {
+            return "Removed " + person.getName() + " in version " + getVersion();
+        }
+    }
+}
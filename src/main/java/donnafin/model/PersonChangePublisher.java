@@ -0,0 +1,147 @@
+package donnafin.model;
+
+import static donnafin.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.logging.Logger;
+
+import donnafin.commons.core.LogsCenter;
+
+/**
+ * Publishes a {@link PersonChangeEvent} for each client added, replaced or removed in the address book, so that
+ * indexes, aggregates and caches can follow the clients on their own threads.
+ * <p>
+ * Each subscriber has its own {@code SubmissionPublisher}, with its own executor and buffer. Events are only
+ * delivered as the subscriber requests them, and are buffered until then. Publishing never blocks the app thread:
+ * a subscriber that falls more than the buffer capacity behind is sent {@code onError} instead, and should
+ * subscribe again and start over from {@link Model#getAddressBookSnapshot()}.
+ * <p>
+ * The publisher only listens to the address book while it has subscribers, so that changes cost nothing extra
+ * otherwise.
+ */
+public class PersonChangePublisher implements Flow.Publisher<PersonChangeEvent>, ModelChangeListener {
+
+    /** The number of events that a subscriber may fall behind by, by default. */
+    public static final int DEFAULT_BUFFER_CAPACITY = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(PersonChangePublisher.class);
+
+    private final AddressBook addressBook;
+    private final Executor defaultExecutor;
+    private final int bufferCapacity;
+    private final List<SubmissionPublisher<PersonChangeEvent>> publishers = new CopyOnWriteArrayList<>();
+    // Guarded by this.
+    private boolean isListening;
+    private boolean isClosed;
+
+    /**
+     * Creates a publisher of the changes to {@code addressBook}, which delivers events on the common fork join pool
+     * unless a subscriber is given its own executor.
+     */
+    public PersonChangePublisher(AddressBook addressBook) {
+        this(addressBook, ForkJoinPool.commonPool(), DEFAULT_BUFFER_CAPACITY);
+    }
+
+    /**
+     * Creates a publisher of the changes to {@code addressBook}, which delivers events with {@code defaultExecutor}
+     * unless a subscriber is given its own executor, and lets a subscriber fall {@code bufferCapacity} events behind.
+     */
+    public PersonChangePublisher(AddressBook addressBook, Executor defaultExecutor, int bufferCapacity) {
+        requireAllNonNull(addressBook, defaultExecutor);
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("The buffer capacity must be positive");
+        }
+        this.addressBook = addressBook;
+        this.defaultExecutor = defaultExecutor;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    /**
+     * Subscribes {@code subscriber} to the changes made from now on, delivered with the default executor.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super PersonChangeEvent> subscriber) {
+        subscribe(subscriber, defaultExecutor);
+    }
+
+    /**
+     * Subscribes {@code subscriber} to the changes made from now on, delivered with {@code executor}. Each call to
+     * the subscriber is made by a task run by {@code executor}, one at a time, so a slow subscriber only holds up
+     * its own executor.
+     */
+    public void subscribe(Flow.Subscriber<? super PersonChangeEvent> subscriber, Executor executor) {
+        requireAllNonNull(subscriber, executor);
+        SubmissionPublisher<PersonChangeEvent> publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        synchronized (this) {
+            // Subscribed before it is added, so that it is not taken for a publisher whose subscriber has cancelled
+            publisher.subscribe(subscriber);
+            if (isClosed) {
+                publisher.close();
+                return;
+            }
+            publishers.add(publisher);
+            if (!isListening) {
+                addressBook.addChangeListener(this);
+                isListening = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of subscribers that have not cancelled their subscriptions or fallen behind.
+     */
+    public int getSubscriberCount() {
+        return (int) publishers.stream().filter(SubmissionPublisher::hasSubscribers).count();
+    }
+
+    @Override
+    public void onChange(ModelChangeEvent event) {
+        requireNonNull(event);
+        List<PersonChangeEvent> events = PersonChangeEvent.of(event);
+        for (SubmissionPublisher<PersonChangeEvent> publisher : publishers) {
+            for (PersonChangeEvent personChange : events) {
+                int lag;
+                try {
+                    // Events that do not fit in the buffer are dropped rather than waited for
+                    lag = publisher.offer(personChange, (subscriber, dropped) -> false);
+                } catch (IllegalStateException e) {
+                    // Closed by close() on another thread
+                    break;
+                }
+                if (lag < 0) {
+                    logger.warning("A subscriber fell more than " + bufferCapacity + " client changes behind, at "
+                            + event);
+                    publishers.remove(publisher);
+                    publisher.closeExceptionally(new IllegalStateException("Fell more than " + bufferCapacity
+                            + " client changes behind, at version " + event.getVersion()));
+                    break;
+                }
+            }
+        }
+        removeUnsubscribed();
+    }
+
+    /**
+     * Completes all subscriptions once the events already published are delivered, and stops publishing.
+     */
+    public synchronized void close() {
+        isClosed = true;
+        publishers.forEach(SubmissionPublisher::close);
+        removeUnsubscribed();
+    }
+
+    private synchronized void removeUnsubscribed() {
+        // A publisher has no subscribers once its subscriber cancels, or once it is closed
+        publishers.removeIf(publisher -> !publisher.hasSubscribers());
+        if (isListening && publishers.isEmpty()) {
+            addressBook.removeChangeListener(this);
+            isListening = false;
+        }
+    }
+}
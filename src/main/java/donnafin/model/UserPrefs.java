@@ -13,8 +13,19 @@ import donnafin.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * How the address book is stored.
+     */
+    public enum StorageType {
+        /** In the Json file at the address book file path. */
+        JSON,
+        /** In an embedded database beside the address book file path, e.g. {@code data/donnafin.mv.db}. */
+        SQL
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "donnafin.json");
+    private StorageType addressBookStorageType = StorageType.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageType(newUserPrefs.getAddressBookStorageType());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +68,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageType getAddressBookStorageType() {
+        return addressBookStorageType;
+    }
+
+    public void setAddressBookStorageType(StorageType addressBookStorageType) {
+        requireNonNull(addressBookStorageType);
+        this.addressBookStorageType = addressBookStorageType;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +89,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookStorageType == o.addressBookStorageType;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageType);
     }
 
     @Override
@@ -81,6 +103,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : ").append(guiSettings);
         sb.append("\nLocal data file location : ").append(addressBookFilePath);
+        sb.append("\nStorage type : ").append(addressBookStorageType);
         return sb.toString();
     }
 
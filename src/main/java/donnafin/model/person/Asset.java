@@ -70,18 +70,34 @@ public class Asset implements Attribute {
      * @param remarks A remark on Asset.
      */
     public Asset(String name, String type, String value, String remarks) {
+        this(name, type, toMoney(value), remarks);
+    }
+
+    /**
+     * Constructs a {@code Asset} with a value that is already parsed.
+     */
+    public Asset(String name, String type, Money value, String remarks) {
         requireAllNonNull(name, type, value, remarks);
         checkArgument(isValidVariable(name), MESSAGE_CONSTRAINTS);
         checkArgument(isValidVariable(type), MESSAGE_CONSTRAINTS);
         checkArgument(isValidVariable(remarks), MESSAGE_CONSTRAINTS);
         this.name = name;
         this.type = type;
+        this.value = value;
+        this.remarks = remarks;
+    }
+
+    /**
+     * Returns the amount of money in {@code money}, a valid monetary value.
+     *
+     * @throws IllegalArgumentException if {@code money} is not a valid monetary value.
+     */
+    private static Money toMoney(String money) {
         try {
-            this.value = ParserUtil.parseMoney(value);
+            return ParserUtil.parseMoney(money);
         } catch (ParseException e) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        this.remarks = remarks;
     }
 
     /**
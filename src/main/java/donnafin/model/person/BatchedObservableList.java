@@ -0,0 +1,161 @@
+package donnafin.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList}, like {@code FXCollections.observableArrayList()}, whose changes
+ * can be batched so that listeners are told of many changes as one.
+ * <p>
+ * The bulk operations of {@code ModifiableObservableListBase} change one element at a time, which takes O(n^2) time
+ * to remove many elements from an {@code ArrayList}, so they are overridden to change the backing list at once.
+ */
+class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code changes}, which may change this list any number of times, and tells listeners of all the changes
+     * as a single change once it returns or throws. Batches may be nested, in which case listeners are told when the
+     * outermost batch ends.
+     *
+     * @return the result of {@code changes}.
+     */
+    <T> T batch(Supplier<T> changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            return changes.get();
+        } finally {
+            endChange();
+        }
+    }
+
+    void batch(Runnable changes) {
+        requireNonNull(changes);
+        batch(() -> {
+            changes.run();
+            return null;
+        });
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        List<E> added = new ArrayList<>(toAdd);
+        if (added.isEmpty()) {
+            return false;
+        }
+        batch(() -> {
+            elements.addAll(index, added);
+            modCount++;
+            nextAdd(index, index + added.size());
+        });
+        return true;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        List<E> added = new ArrayList<>(replacement);
+        batch(() -> {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(added);
+            modCount++;
+            if (removed.isEmpty()) {
+                if (!added.isEmpty()) {
+                    nextAdd(0, added.size());
+                }
+            } else if (added.isEmpty()) {
+                nextRemove(0, removed);
+            } else {
+                nextReplace(0, added.size(), removed);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        batch(() -> {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        });
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        requireNonNull(filter);
+        // The filter is tested on every element before any is removed, so that the list is unchanged if it throws
+        boolean[] isRemoved = new boolean[elements.size()];
+        boolean isAnyRemoved = false;
+        for (int i = 0; i < isRemoved.length; i++) {
+            isRemoved[i] = filter.test(elements.get(i));
+            isAnyRemoved |= isRemoved[i];
+        }
+        if (!isAnyRemoved) {
+            return false;
+        }
+
+        batch(() -> {
+            List<E> kept = new ArrayList<>(elements.size());
+            for (int i = 0; i < isRemoved.length; i++) {
+                if (isRemoved[i]) {
+                    // Each element is removed from the list as changed by the removals before it
+                    nextRemove(kept.size(), elements.get(i));
+                } else {
+                    kept.add(elements.get(i));
+                }
+            }
+            elements.clear();
+            elements.addAll(kept);
+            modCount++;
+        });
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package donnafin.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of merging changes made elsewhere into a list of persons, by
+ * {@link UniquePersonList#mergePersons(List, List)}.
+ */
+public class MergeResult {
+
+    private final int changedCount;
+    private final List<Name> conflicts;
+    private final boolean hasLocalChanges;
+
+    /**
+     * Creates the result of a merge that changed {@code changedCount} persons in the list, found the persons named
+     * {@code conflicts} changed both in the list and elsewhere, and kept changes in the list that were not made
+     * elsewhere if {@code hasLocalChanges}.
+     */
+    public MergeResult(int changedCount, List<Name> conflicts, boolean hasLocalChanges) {
+        requireNonNull(conflicts);
+        this.changedCount = changedCount;
+        this.conflicts = Collections.unmodifiableList(conflicts);
+        this.hasLocalChanges = hasLocalChanges;
+    }
+
+    /**
+     * Returns the number of persons in the list that were added, replaced or removed by the merge.
+     */
+    public int getChangedCount() {
+        return changedCount;
+    }
+
+    /**
+     * Returns the names of the persons that were changed differently in the list and elsewhere. The change in the
+     * list was kept, unless the person was removed from the list and edited elsewhere, in which case the edited
+     * person was added back.
+     */
+    public List<Name> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Returns true if the list kept changes that were not made elsewhere, so that it differs from the persons merged
+     * into it and should be saved.
+     */
+    public boolean hasLocalChanges() {
+        return hasLocalChanges;
+    }
+
+    @Override
+    public String toString() {
+        return changedCount + " clients changed, " + conflicts.size() + " conflicts"
+                + (hasLocalChanges ? ", with local changes kept" : "");
+    }
+}
@@ -0,0 +1,103 @@
+package donnafin.model.person;
+
+import static donnafin.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Adds, replacements and removals of persons, in order, which {@link UniquePersonList#applyChanges(PersonChanges)}
+ * makes as a single change to the list.
+ */
+public class PersonChanges {
+
+    /**
+     * The kinds of change that can be made.
+     */
+    public enum Kind { ADD, SET, REMOVE }
+
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Adds {@code toAdd} to the list. The person must not already exist in the list when it is added.
+     */
+    public PersonChanges add(Person toAdd) {
+        requireNonNull(toAdd);
+        changes.add(new Change(Kind.ADD, null, toAdd));
+        return this;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}. {@code target} must exist in the list when it is replaced,
+     * and the person identity of {@code editedPerson} must not be the same as another person in the list.
+     */
+    public PersonChanges set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        changes.add(new Change(Kind.SET, target, editedPerson));
+        return this;
+    }
+
+    /**
+     * Removes {@code toRemove} from the list. The person must exist in the list when it is removed.
+     */
+    public PersonChanges remove(Person toRemove) {
+        requireNonNull(toRemove);
+        changes.add(new Change(Kind.REMOVE, toRemove, null));
+        return this;
+    }
+
+    /**
+     * Returns the changes in the order they are made.
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return changes.size() + " changes";
+    }
+
+    /**
+     * A single add, replacement or removal.
+     */
+    public static class Change {
+        private final Kind kind;
+        private final Person target;
+        private final Person person;
+
+        private Change(Kind kind, Person target, Person person) {
+            this.kind = kind;
+            this.target = target;
+            this.person = person;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the person replaced or removed, or null for an add.
+         */
+        public Person getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns the person added or replacing the target, or null for a removal.
+         */
+        public Person getPerson() {
+            return person;
+        }
+    }
+}
@@ -76,16 +76,32 @@ public class Policy implements Attribute {
      * @param commission Value of commission in this Policy.
      */
     public Policy(String name, String insurer, String totalValueInsured, String yearlyPremiums, String commission) {
+        this(name, insurer, toMoney(totalValueInsured), toMoney(yearlyPremiums), toMoney(commission));
+    }
+
+    /**
+     * Constructs a {@code Policy} with monetary values that are already parsed.
+     */
+    public Policy(String name, String insurer, Money totalValueInsured, Money yearlyPremiums, Money commission) {
         requireAllNonNull(name, insurer, totalValueInsured, yearlyPremiums, commission);
         checkArgument(isValidVariable(name), MESSAGE_CONSTRAINTS);
         checkArgument(isValidVariable(insurer), MESSAGE_CONSTRAINTS);
         this.name = name;
         this.insurer = insurer;
+        this.totalValueInsured = totalValueInsured;
+        this.yearlyPremiums = yearlyPremiums;
+        this.commission = commission;
+    }
+
+    /**
+     * Returns the amount of money in {@code money}, a valid monetary value.
+     *
+     * @throws IllegalArgumentException if {@code money} is not a valid monetary value.
+     */
+    private static Money toMoney(String money) {
         try {
-            this.totalValueInsured = ParserUtil.parseMoney(totalValueInsured);
-            this.yearlyPremiums = ParserUtil.parseMoney(yearlyPremiums);
-            this.commission = ParserUtil.parseMoney(commission);
-        } catch (ParseException pe) {
+            return ParserUtil.parseMoney(money);
+        } catch (ParseException e) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
     }
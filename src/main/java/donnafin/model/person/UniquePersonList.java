@@ -3,9 +3,20 @@ package donnafin.model.person;
 import static donnafin.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import donnafin.commons.jfr.ClientListEvent;
 import donnafin.model.person.exceptions.DuplicatePersonException;
 import donnafin.model.person.exceptions.PersonNotFoundException;
 import javafx.collections.FXCollections;
@@ -24,7 +35,7 @@ import javafx.collections.ObservableList;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -42,10 +53,34 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        commitEvent(event, "add", 1);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list in a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * Uniqueness is checked against the names in the list once, rather than once per person added.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
+        Set<Name> names = new HashSet<>();
+        internalList.forEach(person -> names.add(person.getName()));
+        for (Person person : toAdd) {
+            requireNonNull(person);
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+        commitEvent(event, "addAll", toAdd.size());
     }
 
     /**
@@ -55,6 +90,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -66,6 +103,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        commitEvent(event, "set", 1);
     }
 
     /**
@@ -74,14 +112,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        commitEvent(event, "remove", 1);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
         internalList.setAll(replacement.internalList);
+        commitEvent(event, "setAll", replacement.internalList.size());
     }
 
     /**
@@ -90,11 +137,187 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        commitEvent(event, "setAll", persons.size());
+    }
+
+    /**
+     * Merges into this list the changes made elsewhere, e.g. by another copy of the app, that turned {@code base}
+     * into {@code changed}, where {@code base} is what this list was before the changes made to it since. Persons
+     * are matched by identity, see {@code Person#isSamePerson(Person)}:
+     * <ul>
+     * <li>a person changed elsewhere but not here is replaced, added or removed to match {@code changed};</li>
+     * <li>a person changed here but not elsewhere is kept as it is;</li>
+     * <li>a person changed differently in both is a conflict, and is kept as it is here, unless it was removed here
+     * and edited elsewhere, in which case the edited person is added back, so that no edit is lost.</li>
+     * </ul>
+     * Persons keep their places in this list, and persons added elsewhere are added at the end. Listeners are told
+     * of the merge as a single change.
+     * {@code base} and {@code changed} must not contain duplicate persons.
+     */
+    public MergeResult mergePersons(List<Person> base, List<Person> changed) {
+        requireAllNonNull(base, changed);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
+        Map<Name, Person> basePersons = toMapByName(base);
+        Map<Name, Person> changedPersons = toMapByName(changed);
+
+        PersonChanges changes = new PersonChanges();
+        List<Name> conflicts = new ArrayList<>();
+        boolean hasLocalChanges = false;
+        for (Person person : internalList) {
+            Person basePerson = basePersons.get(person.getName());
+            Person changedPerson = changedPersons.remove(person.getName());
+            if (Objects.equals(changedPerson, basePerson)) {
+                // Not changed elsewhere
+                hasLocalChanges |= !person.equals(changedPerson);
+            } else if (person.equals(basePerson)) {
+                // Changed elsewhere only
+                if (changedPerson == null) {
+                    changes.remove(person);
+                } else {
+                    changes.set(person, changedPerson);
+                }
+            } else if (!person.equals(changedPerson)) {
+                conflicts.add(person.getName());
+                hasLocalChanges = true;
+            }
+        }
+        // The persons left are not in this list, so were added elsewhere or removed here
+        for (Person changedPerson : changedPersons.values()) {
+            Person basePerson = basePersons.get(changedPerson.getName());
+            if (basePerson == null) {
+                changes.add(changedPerson);
+            } else if (basePerson.equals(changedPerson)) {
+                hasLocalChanges = true;
+            } else {
+                changes.add(changedPerson);
+                conflicts.add(changedPerson.getName());
+            }
+        }
+
+        applyChanges(changes, event, "merge");
+        return new MergeResult(changes.size(), conflicts, hasLocalChanges);
+    }
+
+    private static Map<Name, Person> toMapByName(List<Person> persons) {
+        Map<Name, Person> personsByName = new LinkedHashMap<>();
+        for (Person person : persons) {
+            if (personsByName.put(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return personsByName;
+    }
+
+    /**
+     * Makes all of {@code changes} to the list, in order, and tells listeners of them as a single change.
+     * Each change must be valid once the changes before it have been made, as for {@link #add(Person)},
+     * {@link #setPerson(Person, Person)} and {@link #remove(Person)}. All of them are checked before any is made, so
+     * the list is left unchanged if one is not valid. Persons added are added at the end of the list.
+     * <p>
+     * Persons are found by name rather than by searching the list, so k changes take O(n + k) time rather than O(nk).
+     *
+     * @throws DuplicatePersonException if a change would make two persons with the same identity.
+     * @throws PersonNotFoundException if a person to be replaced or removed is not in the list.
+     */
+    public void applyChanges(PersonChanges changes) {
+        requireNonNull(changes);
+        ClientListEvent event = new ClientListEvent();
+        event.begin();
+        applyChanges(changes, event, "apply");
+    }
+
+    private void applyChanges(PersonChanges changes, ClientListEvent event, String operation) {
+
+        // The persons in the list after the changes, by their position before them. Added persons are at the end,
+        // and a removed person leaves a null.
+        List<Person> slots = new ArrayList<>(internalList);
+        int sizeBefore = slots.size();
+        Map<Name, Integer> slotsByName = new HashMap<>();
+        for (int i = 0; i < sizeBefore; i++) {
+            slotsByName.put(slots.get(i).getName(), i);
+        }
+        for (PersonChanges.Change change : changes.getChanges()) {
+            switch (change.getKind()) {
+            case ADD:
+                if (slotsByName.putIfAbsent(change.getPerson().getName(), slots.size()) != null) {
+                    throw new DuplicatePersonException();
+                }
+                slots.add(change.getPerson());
+                break;
+            case SET:
+                int slot = findSlot(slots, slotsByName, change.getTarget());
+                if (!change.getTarget().isSamePerson(change.getPerson())
+                        && slotsByName.containsKey(change.getPerson().getName())) {
+                    throw new DuplicatePersonException();
+                }
+                slotsByName.remove(change.getTarget().getName());
+                slotsByName.put(change.getPerson().getName(), slot);
+                slots.set(slot, change.getPerson());
+                break;
+            case REMOVE:
+                slots.set(findSlot(slots, slotsByName, change.getTarget()), null);
+                slotsByName.remove(change.getTarget().getName());
+                break;
+            default:
+                throw new AssertionError("Unknown kind of change: " + change.getKind());
+            }
+        }
+
+        internalList.batch(() -> {
+            Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            List<Person> kept = new ArrayList<>(sizeBefore);
+            for (int i = 0; i < sizeBefore; i++) {
+                if (slots.get(i) == null) {
+                    removed.add(internalList.get(i));
+                } else {
+                    kept.add(slots.get(i));
+                }
+            }
+            internalList.removeIf(removed::contains);
+            for (int i = 0; i < kept.size(); i++) {
+                if (kept.get(i) != internalList.get(i)) {
+                    internalList.set(i, kept.get(i));
+                }
+            }
+            List<Person> added = new ArrayList<>(slots.subList(sizeBefore, slots.size()));
+            added.removeIf(Objects::isNull);
+            internalList.addAll(added);
+        });
+        commitEvent(event, operation, changes.size());
+    }
+
+    /**
+     * Returns the position in {@code slots} of the person equal to {@code target}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private static int findSlot(List<Person> slots, Map<Name, Integer> slotsByName, Person target) {
+        Integer slot = slotsByName.get(target.getName());
+        if (slot == null || !slots.get(slot).equals(target)) {
+            throw new PersonNotFoundException();
+        }
+        return slot;
+    }
+
+    /**
+     * Ends {@code event} and, if it is being recorded, commits it with the size of the list after the change.
+     */
+    private void commitEvent(ClientListEvent event, String operation, int changedCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.changedCount = changedCount;
+            event.clientCount = internalList.size();
+            event.commit();
+        }
     }
 
     /**
@@ -125,11 +348,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons are the same person iff their names are equal, see Person#isSamePerson(Person)
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,251 @@
+package donnafin.model.util;
+
+import static donnafin.commons.util.AppUtil.checkArgument;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import donnafin.model.AddressBook;
+import donnafin.model.person.Address;
+import donnafin.model.person.Asset;
+import donnafin.model.person.Email;
+import donnafin.model.person.Liability;
+import donnafin.model.person.Name;
+import donnafin.model.person.Notes;
+import donnafin.model.person.Person;
+import donnafin.model.person.Phone;
+import donnafin.model.person.Policy;
+
+/**
+ * Generates realistic clients for benchmarks, tests and load testing.
+ * <p>
+ * The client numbered {@code index} depends only on the seed and {@code index}, so the same seed always generates
+ * the same clients, in any order and on any thread. No two clients generated with the same seed have the same name.
+ * Clients are created one at a time as they are needed, so any number of them can be streamed without holding them
+ * all in memory.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+        "Wei Ling", "Jun Jie", "Hui Min", "Zhi Hao", "Xin Yi", "Kai Wen", "Mei Ling", "Jia Hui", "Siti", "Nurul",
+        "Muhammad", "Ahmad", "Farah", "Aisyah", "Hafiz", "Priya", "Arjun", "Kavya", "Rajesh", "Lakshmi",
+        "Daniel", "Rachel", "Benjamin", "Sarah", "Joshua", "Chloe", "Ryan", "Natalie", "Marcus", "Samantha",
+        "Alex", "Jasmine", "Ethan", "Grace", "Nicholas", "Emily", "Jonathan", "Michelle", "Gabriel", "Vanessa"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho",
+        "Low", "Toh", "Sim", "Chong", "Chia", "Rahman", "Ismail", "Hassan", "Ibrahim", "Abdullah", "Kumar", "Singh",
+        "Pillai", "Nair", "Menon", "Fernandez", "De Souza", "Pereira", "Santos", "Wee", "Foo", "Seah", "Quek",
+        "Heng", "Loh"
+    };
+    private static final int NAME_COMBINATIONS = FIRST_NAMES.length * LAST_NAMES.length;
+    /** Coprime with {@link #NAME_COMBINATIONS}, so consecutive clients get unrelated names. */
+    private static final int NAME_STRIDE = 761;
+
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com.sg", "hotmail.com", "outlook.com",
+        "singnet.com.sg", "example.com"};
+    private static final String[] STREETS = {"Ang Mo Kio Ave 3", "Bedok North Rd", "Clementi Ave 2",
+        "Jurong West St 41", "Tampines St 81", "Toa Payoh Lor 1", "Woodlands Dr 14", "Yishun Ring Rd",
+        "Punggol Field", "Bukit Batok St 21", "Pasir Ris Dr 6", "Serangoon Ave 4", "Hougang Ave 8",
+        "Choa Chu Kang Ave 1", "Sengkang East Way", "Bishan St 12"};
+    private static final String[] NOTES = {"Met at financial planning seminar", "Referred by existing client",
+        "Prefers to be contacted after 6pm", "Planning for retirement in 10 years", "Saving for child's education",
+        "Interested in investment-linked plans", "Recently married", "Looking to upgrade to a condominium",
+        "Self-employed, irregular income", "Wants to review coverage annually"};
+
+    private static final String[] POLICY_NAMES = {"Golden Age", "Full Life Plan", "Term Protect", "Critical Care",
+        "Shield Plan", "Endowment 20", "Retirement Income", "Early Critical Illness", "Personal Accident",
+        "Wealth Builder"};
+    private static final String[] INSURERS = {"AIA", "Prudential", "Great Eastern", "NTUC Income", "Manulife",
+        "AXA", "Aviva", "Tokio Marine"};
+    private static final int[] INSURER_WEIGHTS = {25, 22, 20, 15, 8, 5, 3, 2};
+
+    private static final List<Holding> ASSET_KINDS = List.of(
+            new Holding("HDB flat", "Property", 12.8, 0.4, "Fully paid"),
+            new Holding("Condominium", "Property", 14.0, 0.4, "Rented out"),
+            new Holding("Savings account", "Cash", 10.3, 1.0, "Emergency fund"),
+            new Holding("Fixed deposit", "Cash", 10.8, 0.8, "Matures next year"),
+            new Holding("Stock portfolio", "Equities", 10.8, 1.2, "Blue chips"),
+            new Holding("Singapore Savings Bonds", "Bonds", 10.0, 0.8, "Held to maturity"),
+            new Holding("CPF Ordinary Account", "CPF", 11.0, 0.7, "For housing"),
+            new Holding("Car", "Vehicle", 11.4, 0.4, "Depreciating"));
+    private static final int[] ASSET_WEIGHTS = {30, 8, 25, 10, 12, 5, 20, 10};
+    private static final List<Holding> LIABILITY_KINDS = List.of(
+            new Holding("HDB loan", "Mortgage", 12.4, 0.5, "25 year tenure"),
+            new Holding("Bank home loan", "Mortgage", 13.3, 0.5, "Floating rate"),
+            new Holding("Car loan", "Loan", 11.0, 0.4, "7 year tenure"),
+            new Holding("Study loan", "Loan", 10.0, 0.6, "Interest free until graduation"),
+            new Holding("Credit card debt", "Debt", 8.5, 1.0, "Revolving"),
+            new Holding("Renovation loan", "Loan", 10.3, 0.4, "5 year tenure"));
+    private static final int[] LIABILITY_WEIGHTS = {30, 15, 20, 10, 15, 10};
+
+    private static final int[] POLICY_COUNT_WEIGHTS = {20, 35, 25, 12, 8};
+    private static final int[] ASSET_COUNT_WEIGHTS = {15, 35, 30, 15, 5};
+    private static final int[] LIABILITY_COUNT_WEIGHTS = {40, 35, 20, 5};
+    private static final double NOTES_PROBABILITY = 0.6;
+
+    private final long seed;
+
+    /**
+     * Creates a generator whose clients are determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the clients numbered 0 to {@code count - 1}, in order, each created only when it is consumed.
+     */
+    public Stream<Person> generate(int count) {
+        checkArgument(count >= 0, "Number of clients cannot be negative: " + count);
+        return IntStream.range(0, count).mapToObj(this::generatePerson);
+    }
+
+    /**
+     * Returns an address book of the clients numbered 0 to {@code count - 1}.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(generate(count).collect(Collectors.toList()));
+        return addressBook;
+    }
+
+    /**
+     * Returns the client numbered {@code index}.
+     */
+    public Person generatePerson(int index) {
+        checkArgument(index >= 0, "Client number cannot be negative: " + index);
+        Random random = new Random(mix(seed ^ mix(index)));
+
+        int combination = (int) Math.floorMod(mix(seed) + (long) index * NAME_STRIDE, (long) NAME_COMBINATIONS);
+        String firstName = FIRST_NAMES[combination / LAST_NAMES.length];
+        String lastName = LAST_NAMES[combination % LAST_NAMES.length];
+        // Every name is used once before any name is used again, so only repeats need a number to stay unique.
+        int round = index / NAME_COMBINATIONS;
+        String nameSuffix = round == 0 ? "" : String.valueOf(round + 1);
+        String fullName = firstName + " " + lastName + (nameSuffix.isEmpty() ? "" : " " + nameSuffix);
+
+        String emailLocalPart = (firstName + "." + lastName + nameSuffix).replace(" ", "").toLowerCase(Locale.ROOT);
+        String email = emailLocalPart + "@" + pick(random, EMAIL_DOMAINS);
+        String phone = (random.nextBoolean() ? "9" : "8") + String.format("%07d", random.nextInt(10_000_000));
+        String address = String.format("Blk %d %s, #%02d-%d", 1 + random.nextInt(999), pick(random, STREETS),
+                2 + random.nextInt(24), 1 + random.nextInt(150));
+        String notes = random.nextDouble() < NOTES_PROBABILITY ? pick(random, NOTES) : "";
+
+        return new Person(new Name(fullName), new Phone(phone), new Email(email), new Address(address),
+                new Notes(notes), generatePolicies(random), generateLiabilities(random), generateAssets(random));
+    }
+
+    private static Set<Policy> generatePolicies(Random random) {
+        Set<Policy> policies = new HashSet<>();
+        int count = pickIndex(random, POLICY_COUNT_WEIGHTS);
+        for (int i = 0; i < count; i++) {
+            long insuredDollars = roundTo(logNormal(random, 12.0, 0.8), 1000);
+            // Premiums are between 0.5% and 3% of the sum insured, and the commission between 5% and 30% of that.
+            long premiumCents = Math.max(100, Math.round(insuredDollars * 100 * (0.005 + random.nextDouble() * 0.025)));
+            long commissionCents = Math.max(1, Math.round(premiumCents * (0.05 + random.nextDouble() * 0.25)));
+            policies.add(new Policy(pick(random, POLICY_NAMES), INSURERS[pickIndex(random, INSURER_WEIGHTS)],
+                    dollars(insuredDollars), dollarsAndCents(premiumCents), dollarsAndCents(commissionCents)));
+        }
+        return policies;
+    }
+
+    private static Set<Asset> generateAssets(Random random) {
+        Set<Asset> assets = new HashSet<>();
+        int count = pickIndex(random, ASSET_COUNT_WEIGHTS);
+        for (int i = 0; i < count; i++) {
+            Holding kind = ASSET_KINDS.get(pickIndex(random, ASSET_WEIGHTS));
+            assets.add(new Asset(kind.name, kind.type, kind.generateValue(random), kind.remarks));
+        }
+        return assets;
+    }
+
+    private static Set<Liability> generateLiabilities(Random random) {
+        Set<Liability> liabilities = new HashSet<>();
+        int count = pickIndex(random, LIABILITY_COUNT_WEIGHTS);
+        for (int i = 0; i < count; i++) {
+            Holding kind = LIABILITY_KINDS.get(pickIndex(random, LIABILITY_WEIGHTS));
+            liabilities.add(new Liability(kind.name, kind.type, kind.generateValue(random), kind.remarks));
+        }
+        return liabilities;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns an index of {@code weights}, chosen with probability proportional to the weight at that index.
+     */
+    private static int pickIndex(Random random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int remaining = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            remaining -= weights[i];
+            if (remaining < 0) {
+                return i;
+            }
+        }
+        throw new AssertionError("Weights must be positive");
+    }
+
+    /**
+     * Returns a value whose logarithm is normally distributed, which is how amounts of money tend to be spread.
+     */
+    private static double logNormal(Random random, double meanOfLog, double deviationOfLog) {
+        return Math.exp(meanOfLog + deviationOfLog * random.nextGaussian());
+    }
+
+    private static long roundTo(double value, long unit) {
+        return Math.max(unit, Math.round(value / unit) * unit);
+    }
+
+    private static String dollars(long dollars) {
+        return "$" + dollars;
+    }
+
+    private static String dollarsAndCents(long cents) {
+        return String.format("$%d.%02d", cents / 100, cents % 100);
+    }
+
+    /**
+     * Scrambles the bits of {@code value}, so that similar seeds and indices give unrelated random numbers.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return mixed ^ (mixed >>> 33);
+    }
+
+    /**
+     * A kind of asset or liability, and the spread of its values.
+     */
+    private static class Holding {
+        private final String name;
+        private final String type;
+        private final double meanOfLogValue;
+        private final double deviationOfLogValue;
+        private final String remarks;
+
+        Holding(String name, String type, double meanOfLogValue, double deviationOfLogValue, String remarks) {
+            this.name = name;
+            this.type = type;
+            this.meanOfLogValue = meanOfLogValue;
+            this.deviationOfLogValue = deviationOfLogValue;
+            this.remarks = remarks;
+        }
+
+        String generateValue(Random random) {
+            return dollars(roundTo(logNormal(random, meanOfLogValue, deviationOfLogValue), 100));
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package donnafin.storage;
 
+import static donnafin.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonChecksums;
 import donnafin.model.AddressBook;
 import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
 
 /**
  * Represents a storage for {@link AddressBook}.
@@ -18,6 +28,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the files and directories that hold the data of the address book, so that they can be copied as they
+     * are, without being read. By default, this is the data file.
+     */
+    default List<Path> getDataFiles() {
+        return List.of(getAddressBookFilePath());
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
@@ -31,6 +49,55 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns the clients in storage that are valid, for when {@link #readAddressBook()} fails because some are not.
+     * The clients that are left out are kept apart from the address book, so that saving the clients returned
+     * does not lose them.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * By default, the address book is read as a whole. Storages whose next save would lose the data that could not be
+     * read must override this, and keep that data apart or copy it before throwing.
+     * @throws DataConversionException if the data in storage cannot be salvaged.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataConversionException, IOException {
+        return readAddressBook();
+    }
+
+    /**
+     * Reads the clients in storage in batches of up to {@code batchSize}, and passes each batch to
+     * {@code batchConsumer} as soon as it has been read, so that clients can be used before all of them are read.
+     *   Returns false if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format. Batches read before the
+     *   error was found will already have been passed to {@code batchConsumer}.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default boolean readAddressBook(int batchSize, Consumer<List<Person>> batchConsumer)
+            throws DataConversionException, IOException {
+        checkArgument(batchSize > 0, "Batch size must be positive: " + batchSize);
+        requireNonNull(batchConsumer);
+
+        // Storages that cannot read clients in order one at a time read them all before passing on any batch.
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        List<Person> persons = addressBook.get().getPersonList();
+        for (int i = 0; i < persons.size(); i += batchSize) {
+            batchConsumer.accept(new ArrayList<>(persons.subList(i, Math.min(i + batchSize, persons.size()))));
+        }
+        return true;
+    }
+
+    /**
+     * Checks the data in storage against the checksums saved with it, without reading it into an address book, and
+     * returns what was found. Returns {@code Optional.empty()} if storage file is not found, or if the storage does
+     * not save checksums.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<JsonChecksums.Report> verifyAddressBook() throws IOException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -43,4 +110,23 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Copies the {@link #getDataFiles() data files} that exist into {@code copyDirectory} as they are, and then saves
+     * {@code addressBook} over them whatever they hold, e.g. to restore a backup over a damaged data file.
+     * @param addressBook cannot be null.
+     * @throws IOException if the data files could not be copied, in which case nothing is saved, or if there was any
+     *     problem writing to the file.
+     */
+    default void replaceAddressBook(ReadOnlyAddressBook addressBook, Path copyDirectory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(copyDirectory);
+
+        for (Path dataFile : getDataFiles()) {
+            if (Files.exists(dataFile)) {
+                FileUtil.copy(dataFile, copyDirectory.resolve(dataFile.getFileName()));
+            }
+        }
+        saveAddressBook(addressBook);
+    }
+
 }
@@ -0,0 +1,125 @@
+package donnafin.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.JsonChecksums;
+import donnafin.commons.util.StringUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+
+/**
+ * Wraps an {@code AddressBookStorage} so that the address book is backed up to a {@code BackupStore} when it is read,
+ * and before each save. A backup is only made if the address book has changed since the last one.
+ * <p>
+ * Failing to back up does not stop the address book from being saved, as that would lose the changes to it.
+ */
+public class BackedUpAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackedUpAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final BackupStore backupStore;
+
+    /**
+     * Creates a storage that backs up the address book of {@code storage} to {@code backupStore}.
+     */
+    public BackedUpAddressBookStorage(AddressBookStorage storage, BackupStore backupStore) {
+        requireNonNull(storage);
+        requireNonNull(backupStore);
+        this.storage = storage;
+        this.backupStore = backupStore;
+    }
+
+    public BackupStore getBackupStore() {
+        return backupStore;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public List<Path> getDataFiles() {
+        return storage.getDataFiles();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        if (addressBook.isPresent() && filePath.equals(getAddressBookFilePath())) {
+            backUp(addressBook.get());
+        }
+        return addressBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = storage.salvageAddressBook();
+        if (addressBook.isPresent()) {
+            backUp(addressBook.get());
+        }
+        return addressBook;
+    }
+
+    @Override
+    public boolean readAddressBook(int batchSize, Consumer<List<Person>> batchConsumer)
+            throws DataConversionException, IOException {
+        AddressBook addressBook = new AddressBook();
+        boolean isFound = storage.readAddressBook(batchSize, batch -> {
+            addressBook.addPersons(batch);
+            batchConsumer.accept(batch);
+        });
+        if (isFound) {
+            backUp(addressBook);
+        }
+        return isFound;
+    }
+
+    @Override
+    public Optional<JsonChecksums.Report> verifyAddressBook() throws IOException {
+        return storage.verifyAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            backUp(addressBook);
+        }
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void replaceAddressBook(ReadOnlyAddressBook addressBook, Path copyDirectory) throws IOException {
+        backUp(addressBook);
+        storage.replaceAddressBook(addressBook, copyDirectory);
+    }
+
+    private void backUp(ReadOnlyAddressBook addressBook) {
+        try {
+            backupStore.backUp(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to back up the address book " + StringUtil.getDetails(e));
+        }
+    }
+}
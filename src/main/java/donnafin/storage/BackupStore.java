@@ -0,0 +1,359 @@
+package donnafin.storage;
+
+import static donnafin.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.exceptions.IllegalValueException;
+import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Keeps backups of the address book in a directory beside the data file, e.g. {@code data/donnafin-backups/}.
+ * <p>
+ * Each client is kept as a record named by the SHA-256 hash of its Json, in {@code objects/}, and each backup is a
+ * snapshot in {@code snapshots/} that lists the hashes of its clients in order. A record is shared by every snapshot
+ * that has the same client, so a backup only writes the records of clients that have changed since the last one,
+ * and its snapshot. Only the newest snapshots are kept, and records that no kept snapshot lists are deleted.
+ */
+public class BackupStore {
+
+    public static final int DEFAULT_RETENTION_COUNT = 10;
+    public static final String MESSAGE_SNAPSHOT_NOT_FOUND = "There is no backup %1$s";
+    public static final String MESSAGE_RECORD_NOT_FOUND = "The record %1$s of backup %2$s is missing";
+
+    static final String BACKUP_DIRECTORY_SUFFIX = "-backups";
+    static final String OBJECTS_DIRECTORY = "objects";
+    static final String SNAPSHOTS_DIRECTORY = "snapshots";
+    static final String SNAPSHOT_FILE_EXTENSION = ".json.gz";
+    static final String RECORD_FILE_EXTENSION = ".json";
+
+    private static final DateTimeFormatter SNAPSHOT_ID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'").withZone(ZoneOffset.UTC);
+
+    private static final Logger logger = LogsCenter.getLogger(BackupStore.class);
+
+    private final Path directory;
+    private final int retentionCount;
+    private final Clock clock;
+
+    // The kept snapshots from oldest to newest, and how many of them list each record. Read from the directory when
+    // first needed.
+    private Deque<SnapshotEntry> snapshots;
+    private Map<String, Integer> recordCounts;
+    // The hashes of the clients in the last backup, so that unchanged clients are not encoded again.
+    private Map<Person, String> hashedPersons = new IdentityHashMap<>();
+
+    /**
+     * Creates a store of backups in {@code directory} that keeps the newest {@code retentionCount} snapshots.
+     */
+    public BackupStore(Path directory, int retentionCount) {
+        this(directory, retentionCount, Clock.systemUTC());
+    }
+
+    BackupStore(Path directory, int retentionCount, Clock clock) {
+        requireNonNull(directory);
+        requireNonNull(clock);
+        checkArgument(retentionCount > 0, "At least one backup must be kept: " + retentionCount);
+        this.directory = directory;
+        this.retentionCount = retentionCount;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the directory of the backups of the data file at {@code filePath}, e.g. {@code data/donnafin-backups}
+     * for {@code data/donnafin.json}.
+     */
+    public static Path getBackupDirectory(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.indexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + BACKUP_DIRECTORY_SUFFIX);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Backs up {@code addressBook}, unless it has the same clients in the same order as the newest snapshot.
+     * Only the records of clients that are not already kept are written.
+     *
+     * @return the snapshot that was made, if any.
+     * @throws IOException if the backup could not be written.
+     */
+    public synchronized Optional<Snapshot> backUp(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        loadSnapshots();
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Person, String> hashed = new IdentityHashMap<>(persons.size());
+        List<String> records = new ArrayList<>(persons.size());
+        int writtenCount = 0;
+        for (Person person : persons) {
+            String hash = hashedPersons.get(person);
+            if (hash == null) {
+                String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person));
+                hash = hash(json);
+                if (writeRecord(hash, json)) {
+                    writtenCount++;
+                }
+            }
+            hashed.put(person, hash);
+            records.add(hash);
+        }
+        hashedPersons = hashed;
+
+        if (!snapshots.isEmpty() && snapshots.getLast().records.equals(records)) {
+            return Optional.empty();
+        }
+
+        // Snapshots are named by when they were made, so each is made at least a millisecond after the last.
+        Instant createdAt = clock.instant().truncatedTo(ChronoUnit.MILLIS);
+        if (!snapshots.isEmpty() && !createdAt.isAfter(snapshots.getLast().snapshot.getCreatedAt())) {
+            createdAt = snapshots.getLast().snapshot.getCreatedAt().plusMillis(1);
+        }
+        String id = SNAPSHOT_ID_FORMAT.format(createdAt);
+        Path snapshotPath = getSnapshotPath(id);
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        JsonUtil.saveJsonFile(new JsonBackupSnapshot(createdAt.toString(), records), snapshotPath);
+        SnapshotEntry entry = new SnapshotEntry(new Snapshot(id, createdAt, records.size()), records);
+        addSnapshot(entry);
+        int written = writtenCount;
+        logger.fine(() -> "Backed up " + records.size() + " clients as " + id + ", writing " + written + " records");
+
+        while (snapshots.size() > retentionCount) {
+            removeOldestSnapshot();
+        }
+        return Optional.of(entry.snapshot);
+    }
+
+    /**
+     * Returns the kept snapshots, from oldest to newest.
+     *
+     * @throws IOException if the snapshots could not be listed.
+     */
+    public synchronized List<Snapshot> getSnapshots() throws IOException {
+        loadSnapshots();
+        return snapshots.stream().map(entry -> entry.snapshot).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the address book backed up in the snapshot {@code id}.
+     *
+     * @throws DataConversionException if there is no such snapshot, or it or its records are not in the correct
+     *     format.
+     * @throws IOException if the snapshot could not be read.
+     */
+    public synchronized ReadOnlyAddressBook restore(String id) throws DataConversionException, IOException {
+        requireNonNull(id);
+        loadSnapshots();
+        SnapshotEntry entry = snapshots.stream().filter(snapshot -> snapshot.snapshot.getId().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_SNAPSHOT_NOT_FOUND, id))));
+
+        List<Person> persons = new ArrayList<>(entry.records.size());
+        try {
+            for (String hash : entry.records) {
+                Optional<JsonAdaptedPerson> jsonPerson = JsonUtil.readJsonFile(getRecordPath(hash),
+                        JsonAdaptedPerson.class);
+                if (jsonPerson.isEmpty()) {
+                    throw new IllegalValueException(String.format(MESSAGE_RECORD_NOT_FOUND, hash, id));
+                }
+                persons.add(jsonPerson.get().toModelType());
+            }
+            AddressBook addressBook = new AddressBook();
+            addressBook.addPersons(persons);
+            return addressBook;
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Reads the kept snapshots from the directory, if they have not been read yet. Snapshots that cannot be read are
+     * left out.
+     */
+    private void loadSnapshots() throws IOException {
+        if (snapshots != null) {
+            return;
+        }
+        snapshots = new ArrayDeque<>();
+        recordCounts = new HashMap<>();
+        Path snapshotsDirectory = directory.resolve(SNAPSHOTS_DIRECTORY);
+        if (!Files.isDirectory(snapshotsDirectory)) {
+            return;
+        }
+
+        List<Path> snapshotPaths;
+        try (Stream<Path> paths = Files.list(snapshotsDirectory)) {
+            snapshotPaths = paths.filter(path -> path.getFileName().toString().endsWith(SNAPSHOT_FILE_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path snapshotPath : snapshotPaths) {
+            String fileName = snapshotPath.getFileName().toString();
+            String id = fileName.substring(0, fileName.length() - SNAPSHOT_FILE_EXTENSION.length());
+            try {
+                Optional<JsonBackupSnapshot> jsonSnapshot = JsonUtil.readJsonFile(snapshotPath,
+                        JsonBackupSnapshot.class);
+                if (jsonSnapshot.isEmpty() || jsonSnapshot.get().getCreatedAt() == null) {
+                    throw new DataConversionException(new IllegalValueException("Missing time of backup"));
+                }
+                List<String> records = jsonSnapshot.get().getPersons();
+                Instant createdAt = Instant.parse(jsonSnapshot.get().getCreatedAt());
+                addSnapshot(new SnapshotEntry(new Snapshot(id, createdAt, records.size()), records));
+            } catch (DataConversionException | DateTimeParseException e) {
+                logger.warning("Skipping backup " + snapshotPath + " which could not be read: " + e.getMessage());
+            }
+        }
+    }
+
+    private void addSnapshot(SnapshotEntry entry) {
+        snapshots.addLast(entry);
+        entry.records.forEach(hash -> recordCounts.merge(hash, 1, Integer::sum));
+    }
+
+    /**
+     * Deletes the oldest snapshot, and the records that no other snapshot lists.
+     */
+    private void removeOldestSnapshot() throws IOException {
+        SnapshotEntry oldest = snapshots.removeFirst();
+        Files.deleteIfExists(getSnapshotPath(oldest.snapshot.getId()));
+        int deletedCount = 0;
+        for (String hash : oldest.records) {
+            if (recordCounts.merge(hash, -1, Integer::sum) == 0) {
+                recordCounts.remove(hash);
+                Files.deleteIfExists(getRecordPath(hash));
+                deletedCount++;
+            }
+        }
+        int deleted = deletedCount;
+        logger.fine(() -> "Deleted backup " + oldest.snapshot.getId() + " and " + deleted + " of its records");
+    }
+
+    /**
+     * Writes the record {@code json} with the hash {@code hash}, unless it is already kept.
+     *
+     * @return true if the record was written.
+     */
+    private boolean writeRecord(String hash, String json) throws IOException {
+        Path recordPath = getRecordPath(hash);
+        if (Files.exists(recordPath)) {
+            return false;
+        }
+        // Written to a temporary file first, so that a record is never found half written.
+        Path tempPath = recordPath.resolveSibling(recordPath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(tempPath);
+        FileUtil.writeToFile(tempPath, json);
+        Files.move(tempPath, recordPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    private Path getSnapshotPath(String id) {
+        return directory.resolve(SNAPSHOTS_DIRECTORY).resolve(id + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private Path getRecordPath(String hash) {
+        return directory.resolve(OBJECTS_DIRECTORY).resolve(hash.substring(0, 2)).resolve(hash + RECORD_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the SHA-256 hash of {@code json}, in hexadecimal.
+     */
+    static String hash(String json) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest(json.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * A backup of the address book.
+     */
+    public static class Snapshot {
+        private final String id;
+        private final Instant createdAt;
+        private final int clientCount;
+
+        Snapshot(String id, Instant createdAt, int clientCount) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.clientCount = clientCount;
+        }
+
+        /**
+         * Returns the name of the snapshot, by which it can be restored.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public int getClientCount() {
+            return clientCount;
+        }
+
+        @Override
+        public String toString() {
+            return id + " (" + clientCount + " clients, " + createdAt + ")";
+        }
+    }
+
+    /**
+     * A kept snapshot and the hashes of its records.
+     */
+    private static class SnapshotEntry {
+        private final Snapshot snapshot;
+        private final List<String> records;
+
+        SnapshotEntry(Snapshot snapshot, List<String> records) {
+            this.snapshot = snapshot;
+            this.records = records;
+        }
+    }
+}
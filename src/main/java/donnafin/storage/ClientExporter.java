@@ -0,0 +1,170 @@
+package donnafin.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.util.CsvUtil;
+import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonUtil;
+import donnafin.commons.util.PersistentList;
+import donnafin.model.person.Asset;
+import donnafin.model.person.Liability;
+import donnafin.model.person.Person;
+import donnafin.model.person.Policy;
+
+/**
+ * Writes clients, and their policies, assets and liabilities, out of DonnaFin.
+ * <p>
+ * If the target path ends with {@value #JSON_LINES_EXTENSION}, every client is written as one JSON object per line,
+ * in the same format as the data file. Otherwise the target is a folder, and the clients are written to the same
+ * CSV files that {@link CsvClientImporter} reads, so that an export can be imported again.
+ * <p>
+ * Clients are streamed to disk one row at a time. Exports can also run on a background thread, so that a large
+ * export does not block the UI.
+ */
+public class ClientExporter {
+
+    public static final String JSON_LINES_EXTENSION = ".jsonl";
+
+    static final List<String> CLIENTS_HEADER = List.of("name", "phone", "email", "address", "notes");
+    static final List<String> POLICIES_HEADER =
+            List.of("client", "name", "insurer", "insuredValue", "yearlyPremium", "commission");
+    static final List<String> ASSETS_HEADER = List.of("client", "name", "type", "value", "remarks");
+    static final List<String> LIABILITIES_HEADER = List.of("client", "name", "type", "value", "remarks");
+
+    private static final Logger logger = LogsCenter.getLogger(ClientExporter.class);
+
+    /**
+     * Runs background exports one at a time, in the order they were requested. The thread is not a daemon, so an
+     * export in progress is completed before the application exits, and it is discarded once it has been idle.
+     */
+    private static final ExecutorService executor = createExecutor();
+
+    private final Path target;
+
+    /**
+     * Creates an exporter that writes to {@code target}.
+     */
+    public ClientExporter(Path target) {
+        requireNonNull(target);
+        this.target = target;
+    }
+
+    public Path getTarget() {
+        return target;
+    }
+
+    /** Returns true if clients are written as JSON Lines rather than CSV files. */
+    public boolean isJsonLines() {
+        return target.getFileName() != null
+                && target.getFileName().toString().toLowerCase().endsWith(JSON_LINES_EXTENSION);
+    }
+
+    /**
+     * Writes {@code persons} to the target, overwriting any previous export.
+     *
+     * @throws IOException if the target cannot be written.
+     */
+    public void export(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        if (isJsonLines()) {
+            exportJsonLines(persons);
+        } else {
+            exportCsv(persons);
+        }
+        logger.info(() -> String.format("Exported %d clients to %s", persons.size(), target));
+    }
+
+    /**
+     * Writes a snapshot of {@code persons} to the target on a background thread.
+     * The list is copied before this method returns, so later changes to it are not exported, unless it is a
+     * {@code PersistentList} such as a snapshot of the address book, which never changes and is used as it is.
+     *
+     * @return a future that completes with the number of clients written, or completes exceptionally with the
+     *     {@code IOException} if the target cannot be written.
+     */
+    public CompletableFuture<Integer> exportInBackground(List<Person> persons) {
+        List<Person> snapshot = PersistentList.of(persons);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                export(snapshot);
+                return snapshot.size();
+            } catch (IOException e) {
+                logger.warning("Failed to export clients to " + target + ": " + e);
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private void exportJsonLines(List<Person> persons) throws IOException {
+        FileUtil.createParentDirsOfFile(target);
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8);
+                SequenceWriter jsonWriter = JsonUtil.createJsonLinesWriter(writer)) {
+            for (Person person : persons) {
+                jsonWriter.write(new JsonAdaptedPerson(person));
+            }
+        }
+    }
+
+    private void exportCsv(List<Person> persons) throws IOException {
+        Files.createDirectories(target);
+        try (BufferedWriter clients = openCsv(CsvClientImporter.CLIENTS_FILE, CLIENTS_HEADER);
+                BufferedWriter policies = openCsv(CsvClientImporter.POLICIES_FILE, POLICIES_HEADER);
+                BufferedWriter assets = openCsv(CsvClientImporter.ASSETS_FILE, ASSETS_HEADER);
+                BufferedWriter liabilities = openCsv(CsvClientImporter.LIABILITIES_FILE, LIABILITIES_HEADER)) {
+            for (Person person : persons) {
+                String owner = person.getName().fullName;
+                writeRow(clients, List.of(owner, person.getPhone().value, person.getEmail().value,
+                        person.getAddress().value, person.getNotes().notes));
+                for (Policy policy : person.getPolicies()) {
+                    writeRow(policies, List.of(owner, policy.getName(), policy.getInsurer(),
+                            policy.getTotalValueInsuredToString(), policy.getYearlyPremiumsToString(),
+                            policy.getCommissionToString()));
+                }
+                for (Asset asset : person.getAssets()) {
+                    writeRow(assets, List.of(owner, asset.getName(), asset.getType(),
+                            asset.getValueToString(), asset.getRemarks()));
+                }
+                for (Liability liability : person.getLiabilities()) {
+                    writeRow(liabilities, List.of(owner, liability.getName(), liability.getType(),
+                            liability.getValueToString(), liability.getRemarks()));
+                }
+            }
+        }
+    }
+
+    private BufferedWriter openCsv(String fileName, List<String> header) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(target.resolve(fileName), StandardCharsets.UTF_8);
+        writeRow(writer, header);
+        return writer;
+    }
+
+    private static void writeRow(BufferedWriter writer, List<String> fields) throws IOException {
+        writer.write(CsvUtil.toLine(fields));
+        writer.newLine();
+    }
+
+    private static ExecutorService createExecutor() {
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "client-export"));
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+}
@@ -0,0 +1,63 @@
+package donnafin.storage;
+
+import java.util.List;
+import java.util.Map;
+
+import donnafin.model.person.Person;
+
+/**
+ * Gives each client a position that is stored with it, and from which the order of the address book is restored
+ * when the clients are read back in any order.
+ * <p>
+ * Positions are left with gaps between them, so that adding, editing or deleting a client does not change the
+ * positions of the others, and only the changed clients have to be written again.
+ */
+class ClientPositions {
+
+    static final long GAP = 1L << 20;
+
+    private ClientPositions() {}
+
+    /**
+     * Returns increasing positions for {@code persons}, in which every client in {@code knownPositions} keeps its
+     * position if it is still in order. The other clients are given positions spread evenly between those of their
+     * neighbours. If there is no room between the neighbours, every client is given a new position.
+     */
+    static long[] assign(List<Person> persons, Map<Person, Long> knownPositions) {
+        int count = persons.size();
+        long[] positions = new long[count];
+        boolean[] isKept = new boolean[count];
+        long lastKept = 0;
+        for (int i = 0; i < count; i++) {
+            Long known = knownPositions.get(persons.get(i));
+            if (known != null && known > lastKept) {
+                positions[i] = known;
+                isKept[i] = true;
+                lastKept = known;
+            }
+        }
+
+        int runStart = 0;
+        while (runStart < count) {
+            if (isKept[runStart]) {
+                runStart++;
+                continue;
+            }
+            int runEnd = runStart;
+            while (runEnd < count && !isKept[runEnd]) {
+                runEnd++;
+            }
+            long lower = runStart == 0 ? 0 : positions[runStart - 1];
+            long upper = runEnd == count ? lower + (runEnd - runStart + 1) * GAP : positions[runEnd];
+            long gap = (upper - lower) / (runEnd - runStart + 1);
+            if (gap == 0) {
+                return assign(persons, Map.of());
+            }
+            for (int i = runStart; i < runEnd; i++) {
+                positions[i] = lower + gap * (i - runStart + 1);
+            }
+            runStart = runEnd;
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,368 @@
+package donnafin.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.exceptions.IllegalValueException;
+import donnafin.commons.util.CsvUtil;
+import donnafin.logic.parser.ParserUtil;
+import donnafin.logic.parser.exceptions.ParseException;
+import donnafin.model.person.Address;
+import donnafin.model.person.Asset;
+import donnafin.model.person.Email;
+import donnafin.model.person.Liability;
+import donnafin.model.person.Name;
+import donnafin.model.person.Notes;
+import donnafin.model.person.Person;
+import donnafin.model.person.Phone;
+import donnafin.model.person.Policy;
+
+/**
+ * Reads clients, and their policies, assets and liabilities, from a directory of CSV files.
+ * The files are streamed in batches and the rows of each batch are validated in parallel, using the same rules
+ * as the {@code add} and {@code append} commands. A row that fails validation is reported and skipped; it does
+ * not abort the import.
+ * <p>
+ * The first line of every file is a header and is ignored. The expected columns are:
+ * <ul>
+ *     <li>{@code clients.csv}: name, phone, email, address, notes (optional)</li>
+ *     <li>{@code policies.csv}: client name, policy name, insurer, insured value, yearly premium, commission</li>
+ *     <li>{@code assets.csv}: client name, asset name, type, value, remarks</li>
+ *     <li>{@code liabilities.csv}: client name, liability name, type, value, remarks</li>
+ * </ul>
+ * Only {@code clients.csv} is required. Policies, assets and liabilities must belong to a client imported from
+ * {@code clients.csv}.
+ */
+public class CsvClientImporter {
+
+    public static final String CLIENTS_FILE = "clients.csv";
+    public static final String POLICIES_FILE = "policies.csv";
+    public static final String ASSETS_FILE = "assets.csv";
+    public static final String LIABILITIES_FILE = "liabilities.csv";
+
+    public static final String MESSAGE_ROW_ERROR = "%s line %d: %s";
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected %d columns but found %d";
+    public static final String MESSAGE_DUPLICATE_CLIENT = "Client '%s' already exists";
+    public static final String MESSAGE_UNKNOWN_CLIENT = "Client '%s' was not imported from " + CLIENTS_FILE;
+    public static final String MESSAGE_DUPLICATE_ATTRIBUTE = "Client '%s' already has this entry";
+
+    private static final int BATCH_SIZE = 1024;
+    /** The most lines that a row with line breaks in quoted fields may span. */
+    private static final int MAX_LINES_PER_ROW = 100;
+    private static final int CLIENT_COLUMNS = 4;
+    private static final int CLIENT_COLUMNS_WITH_NOTES = 5;
+    private static final int POLICY_COLUMNS = 6;
+    private static final int ASSET_COLUMNS = 5;
+    private static final int LIABILITY_COLUMNS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(CsvClientImporter.class);
+
+    private final Path directory;
+
+    /**
+     * Creates an importer that reads the CSV files in {@code directory}.
+     */
+    public CsvClientImporter(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Reads all clients from the CSV files.
+     * Clients whose names are in {@code existingNames}, or that appear more than once, are reported as errors.
+     *
+     * @throws IOException if {@code clients.csv} is missing or any of the files cannot be read.
+     */
+    public Result importClients(Set<Name> existingNames) throws IOException {
+        requireNonNull(existingNames);
+        Map<Name, ClientRecord> clients = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        Set<Name> seenNames = new HashSet<>(existingNames);
+
+        readRows(CLIENTS_FILE, errors, CsvClientImporter::parseClient, (client, lineNumber) -> {
+            if (!seenNames.add(client.name)) {
+                errors.add(rowError(CLIENTS_FILE, lineNumber, String.format(MESSAGE_DUPLICATE_CLIENT, client.name)));
+                return;
+            }
+            clients.put(client.name, client);
+        });
+
+        int attributeCount = 0;
+        attributeCount += readAttributes(POLICIES_FILE, clients, errors,
+                CsvClientImporter::parsePolicy, record -> record.policies);
+        attributeCount += readAttributes(ASSETS_FILE, clients, errors,
+                CsvClientImporter::parseAsset, record -> record.assets);
+        attributeCount += readAttributes(LIABILITIES_FILE, clients, errors,
+                CsvClientImporter::parseLiability, record -> record.liabilities);
+
+        List<Person> persons = clients.values().stream()
+                .map(ClientRecord::toPerson)
+                .collect(Collectors.toList());
+        logger.info(() -> String.format("Read %d clients with %d rows rejected from %s",
+                persons.size(), errors.size(), directory));
+        return new Result(persons, attributeCount, errors);
+    }
+
+    /**
+     * Reads an optional attribute file, adding each valid attribute to its owner in {@code clients}.
+     *
+     * @return number of attributes added.
+     */
+    private <T> int readAttributes(String fileName, Map<Name, ClientRecord> clients, List<String> errors,
+            RowParser<Owned<T>> parser, Function<ClientRecord, Set<T>> attributesOf) throws IOException {
+        if (!Files.exists(directory.resolve(fileName))) {
+            return 0;
+        }
+        int[] added = {0};
+        readRows(fileName, errors, parser, (owned, lineNumber) -> {
+            ClientRecord owner = clients.get(owned.owner);
+            if (owner == null) {
+                errors.add(rowError(fileName, lineNumber, String.format(MESSAGE_UNKNOWN_CLIENT, owned.owner)));
+            } else if (!attributesOf.apply(owner).add(owned.item)) {
+                errors.add(rowError(fileName, lineNumber, String.format(MESSAGE_DUPLICATE_ATTRIBUTE, owned.owner)));
+            } else {
+                added[0]++;
+            }
+        });
+        return added[0];
+    }
+
+    /**
+     * Streams the rows of {@code fileName} in batches. Rows in a batch are parsed in parallel, then handed to
+     * {@code consumer} one at a time, in file order. Rows that fail to parse are added to {@code errors}.
+     * A row with a line break in a quoted field spans several lines, and is reported by its first line. If a quoted
+     * field is not closed within {@link #MAX_LINES_PER_ROW} lines, or by the end of the file, only its first line is
+     * reported, and the lines after it are read as rows of their own.
+     */
+    private <T> void readRows(String fileName, List<String> errors, RowParser<T> parser,
+            RowConsumer<T> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(fileName), StandardCharsets.UTF_8)) {
+            reader.readLine(); // header
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            List<Integer> lineNumbers = new ArrayList<>(BATCH_SIZE);
+            // Lines read ahead for a row whose quoted field was not closed, to be read again as rows of their own
+            Deque<String> unreadLines = new ArrayDeque<>();
+            int lineNumber = 1;
+            String line;
+            while ((line = readLine(reader, unreadLines)) != null) {
+                lineNumber++;
+                int firstLineOfRow = lineNumber;
+                String row = line;
+                List<String> nextLines = new ArrayList<>();
+                boolean isInQuotes = CsvUtil.endsInQuotedField(line, false);
+                while (isInQuotes && nextLines.size() < MAX_LINES_PER_ROW - 1
+                        && (line = readLine(reader, unreadLines)) != null) {
+                    nextLines.add(line);
+                    isInQuotes = CsvUtil.endsInQuotedField(line, true);
+                }
+                if (isInQuotes) {
+                    // The first line is kept as the row, which fails to parse as its quoted field is not terminated.
+                    for (int i = nextLines.size() - 1; i >= 0; i--) {
+                        unreadLines.addFirst(nextLines.get(i));
+                    }
+                } else if (!nextLines.isEmpty()) {
+                    lineNumber += nextLines.size();
+                    row += "\n" + String.join("\n", nextLines);
+                }
+                batch.add(row);
+                lineNumbers.add(firstLineOfRow);
+                if (batch.size() == BATCH_SIZE) {
+                    processBatch(fileName, batch, lineNumbers, errors, parser, consumer);
+                    batch.clear();
+                    lineNumbers.clear();
+                }
+            }
+            processBatch(fileName, batch, lineNumbers, errors, parser, consumer);
+        }
+    }
+
+    private static String readLine(BufferedReader reader, Deque<String> unreadLines) throws IOException {
+        return unreadLines.isEmpty() ? reader.readLine() : unreadLines.removeFirst();
+    }
+
+    private <T> void processBatch(String fileName, List<String> batch, List<Integer> lineNumbers,
+            List<String> errors, RowParser<T> parser, RowConsumer<T> consumer) {
+        List<Row<T>> rows = IntStream.range(0, batch.size())
+                .parallel()
+                .mapToObj(i -> parseRow(batch.get(i), parser))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row<T> row = rows.get(i);
+            int lineNumber = lineNumbers.get(i);
+            if (row.error != null) {
+                errors.add(rowError(fileName, lineNumber, row.error));
+            } else if (row.value != null) {
+                consumer.accept(row.value, lineNumber);
+            }
+        }
+    }
+
+    private static <T> Row<T> parseRow(String line, RowParser<T> parser) {
+        if (line.isBlank()) {
+            return new Row<>(null, null);
+        }
+        try {
+            return new Row<>(parser.parse(CsvUtil.parseLine(line)), null);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            return new Row<>(null, e.getMessage());
+        }
+    }
+
+    private static String rowError(String fileName, int lineNumber, String message) {
+        String error = String.format(MESSAGE_ROW_ERROR, fileName, lineNumber, message);
+        logger.fine(error);
+        return error;
+    }
+
+    private static void checkColumnCount(List<String> fields, int... allowed) throws ParseException {
+        for (int count : allowed) {
+            if (fields.size() == count) {
+                return;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_WRONG_COLUMN_COUNT, allowed[0], fields.size()));
+    }
+
+    private static ClientRecord parseClient(List<String> fields) throws ParseException {
+        checkColumnCount(fields, CLIENT_COLUMNS, CLIENT_COLUMNS_WITH_NOTES);
+        Name name = ParserUtil.parseName(fields.get(0));
+        Phone phone = ParserUtil.parsePhone(fields.get(1));
+        Email email = ParserUtil.parseEmail(fields.get(2));
+        Address address = ParserUtil.parseAddress(fields.get(3));
+        Notes notes = new Notes(fields.size() == CLIENT_COLUMNS_WITH_NOTES ? fields.get(4) : "");
+        return new ClientRecord(name, phone, email, address, notes);
+    }
+
+    private static Owned<Policy> parsePolicy(List<String> fields) throws ParseException {
+        checkColumnCount(fields, POLICY_COLUMNS);
+        Name owner = ParserUtil.parseName(fields.get(0));
+        Policy policy = new Policy(fields.get(1).trim(), fields.get(2).trim(),
+                ParserUtil.parseMoney(fields.get(3)), ParserUtil.parseMoney(fields.get(4)),
+                ParserUtil.parseMoney(fields.get(5)));
+        return new Owned<>(owner, policy);
+    }
+
+    private static Owned<Asset> parseAsset(List<String> fields) throws ParseException {
+        checkColumnCount(fields, ASSET_COLUMNS);
+        Name owner = ParserUtil.parseName(fields.get(0));
+        Asset asset = new Asset(fields.get(1).trim(), fields.get(2).trim(),
+                ParserUtil.parseMoney(fields.get(3)), fields.get(4).trim());
+        return new Owned<>(owner, asset);
+    }
+
+    private static Owned<Liability> parseLiability(List<String> fields) throws ParseException {
+        checkColumnCount(fields, LIABILITY_COLUMNS);
+        Name owner = ParserUtil.parseName(fields.get(0));
+        Liability liability = new Liability(fields.get(1).trim(), fields.get(2).trim(),
+                ParserUtil.parseMoney(fields.get(3)), fields.get(4).trim());
+        return new Owned<>(owner, liability);
+    }
+
+    /**
+     * The outcome of an import: the clients that were read successfully, and a message for every rejected row.
+     */
+    public static class Result {
+        private final List<Person> persons;
+        private final int attributeCount;
+        private final List<String> errors;
+
+        Result(List<Person> persons, int attributeCount, List<String> errors) {
+            this.persons = Collections.unmodifiableList(persons);
+            this.attributeCount = attributeCount;
+            this.errors = Collections.unmodifiableList(errors);
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /** Returns the total number of policies, assets and liabilities that were imported. */
+        public int getAttributeCount() {
+            return attributeCount;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowParser<T> {
+        T parse(List<String> fields) throws IllegalValueException;
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer<T> {
+        void accept(T value, int lineNumber);
+    }
+
+    /** Outcome of parsing a single row. Both fields are null for a blank row. */
+    private static class Row<T> {
+        private final T value;
+        private final String error;
+
+        Row(T value, String error) {
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    /** A policy, asset or liability along with the name of the client it belongs to. */
+    private static class Owned<T> {
+        private final Name owner;
+        private final T item;
+
+        Owned(Name owner, T item) {
+            this.owner = owner;
+            this.item = item;
+        }
+    }
+
+    /** A client read from {@code clients.csv}, collecting attributes until it is turned into a {@code Person}. */
+    private static class ClientRecord {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final Notes notes;
+        private final Set<Policy> policies = new HashSet<>();
+        private final Set<Asset> assets = new HashSet<>();
+        private final Set<Liability> liabilities = new HashSet<>();
+
+        ClientRecord(Name name, Phone phone, Email email, Address address, Notes notes) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.notes = notes;
+        }
+
+        Person toPerson() {
+            return new Person(name, phone, email, address, notes, policies, liabilities, assets);
+        }
+    }
+}
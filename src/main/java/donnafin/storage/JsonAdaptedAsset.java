@@ -43,7 +43,7 @@ class JsonAdaptedAsset {
         assetValue = source.getValue().toString();
         assetType = source.getType();
         assetRemarks = source.getRemarks();
-        logger.fine("JsonAdaptedAsset successfully created for " + source);
+        logger.fine(() -> "JsonAdaptedAsset successfully created for " + source);
     }
 
     @JsonProperty("name")
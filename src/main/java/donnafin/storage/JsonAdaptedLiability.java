@@ -41,7 +41,7 @@ public class JsonAdaptedLiability {
         liabilityType = source.getType();
         liabilityValue = source.getValue().toString();
         liabilityRemarks = source.getRemarks();
-        logger.fine("JsonAdaptedLiability successfully created for " + source);
+        logger.fine(() -> "JsonAdaptedLiability successfully created for " + source);
     }
 
     @JsonProperty("name")
@@ -78,7 +78,7 @@ class JsonAdaptedPerson {
         liabilities = source.getLiabilities().stream()
                 .map(JsonAdaptedLiability::new)
                 .collect(Collectors.toList());
-        logger.fine("JsonAdaptedPerson successfully created for " + source);
+        logger.fine(() -> "JsonAdaptedPerson successfully created for " + source);
     }
 
     /**
@@ -49,7 +49,7 @@ class JsonAdaptedPolicy {
         policyYearlyPremiums = source.getYearlyPremiums().toString();
         policyTotalValueInsured = source.getTotalValueInsured().toString();
         policyCommission = source.getCommission().toString();
-        logger.fine("JsonAdaptedPolicy successfully created for " + source);
+        logger.fine(() -> "JsonAdaptedPolicy successfully created for " + source);
     }
 
     @JsonProperty("name")
@@ -1,28 +1,67 @@
 package donnafin.storage;
 
+import static donnafin.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 
 import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
 import donnafin.commons.exceptions.DataConversionException;
 import donnafin.commons.exceptions.IllegalValueException;
+import donnafin.commons.util.FileCompression;
 import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonChecksums;
 import donnafin.commons.util.JsonUtil;
+import donnafin.model.AddressBook;
 import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
 
 /**
  * A class to access DonnaFin data stored as a json file on the hard disk.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** The field of the quarantine file that holds the records that could not be loaded. */
+    public static final String QUARANTINED_FIELD = "records";
+
+    static final String MESSAGE_UNREADABLE_REST = "The rest of the file could not be read, so it was copied whole to "
+            + "%1$s: %2$s";
+
+    private static final String QUARANTINE_SUFFIX = ".quarantine.json";
+    private static final String UNREADABLE_SUFFIX = ".unreadable";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private final Path filePath;
 
+    // The Json of each client as last saved, so that only clients that have changed since are encoded again.
+    // Clients are looked up by identity, which is enough as a changed client is a new Person.
+    private Map<Person, String> encodedPersons = new IdentityHashMap<>();
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -31,6 +70,23 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         return filePath;
     }
 
+    /**
+     * Returns the file next to the data file at {@code filePath} that the records of clients that could not be
+     * loaded are moved to, e.g. {@code donnafin.json.quarantine.json} for {@code donnafin.json.gz}.
+     * The file is never compressed, so that the records can be fixed by hand.
+     */
+    public static Path getQuarantineFile(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        return filePath.resolveSibling(FileCompression.of(filePath).stripExtension(fileName) + QUARANTINE_SUFFIX);
+    }
+
+    /**
+     * Returns the file that the data file at {@code filePath} is copied to if only part of it can be read.
+     */
+    public static Path getUnreadableCopyFile(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + UNREADABLE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -45,6 +101,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        long start = System.nanoTime();
+        try {
+            return readAddressBookFile(filePath);
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataConversionException {
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (jsonAddressBook.isEmpty()) {
@@ -59,6 +124,198 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> salvageAddressBook() throws IOException {
+        return salvageAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #salvageAddressBook()}.
+     * Every record is checked on its own, in parallel. Records that are not valid clients, and later records with
+     * the name of an earlier client, are added to the {@link #getQuarantineFile(Path) quarantine file} with the reason
+     * they were left out. If the file stops being valid Json partway, the clients before that point are loaded and
+     * the whole file is copied to {@link #getUnreadableCopyFile(Path)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws IOException if no record can be read from the file, in which case it is still copied, or if the records
+     *     left out cannot be saved.
+     */
+    public Optional<ReadOnlyAddressBook> salvageAddressBook(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info(() -> "Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return Optional.of(salvageAddressBookFile(filePath));
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+    }
+
+    private ReadOnlyAddressBook salvageAddressBookFile(Path filePath) throws IOException {
+        String quarantinedAt = Instant.now().toString();
+        List<JsonNode> records = new ArrayList<>();
+        String unreadableError = null;
+        try (MappingIterator<JsonNode> jsonRecords = JsonUtil.readJsonArrayFile(
+                filePath, JsonSerializableAddressBook.PERSONS_FIELD, JsonNode.class)) {
+            while (jsonRecords.hasNextValue()) {
+                records.add(jsonRecords.nextValue());
+            }
+        } catch (IOException | RuntimeException e) {
+            // The records after the error cannot be told apart, so the whole file is kept for fixing by hand.
+            Path copy = getUnreadableCopyFile(filePath);
+            Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+            if (records.isEmpty()) {
+                throw new IOException("No clients could be read from " + filePath + ", which was copied to " + copy,
+                        e);
+            }
+            unreadableError = String.format(MESSAGE_UNREADABLE_REST, copy, e.getMessage());
+        }
+
+        String source = filePath.getFileName().toString();
+        List<JsonQuarantinedRecord> quarantined = new ArrayList<>();
+        Person[] persons = salvageRecords(records, source, new HashSet<>(), quarantinedAt, quarantined);
+        if (unreadableError != null) {
+            quarantined.add(new JsonQuarantinedRecord(quarantinedAt, source, records.size(), unreadableError, null));
+        }
+        quarantine(quarantined, filePath);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(Arrays.stream(persons).filter(Objects::nonNull).collect(Collectors.toList()));
+        return addressBook;
+    }
+
+    /**
+     * Converts each of {@code records}, read from the file named {@code source}, to a client on its own, in
+     * parallel. Returns the clients in the same order as the records, with null in place of each record that is not
+     * a valid client, or has the name of a client in {@code names} or of an earlier record. Those records are added
+     * to {@code quarantined} instead, and the names of the clients returned are added to {@code names}.
+     */
+    static Person[] salvageRecords(List<JsonNode> records, String source, Set<Name> names, String quarantinedAt,
+            List<JsonQuarantinedRecord> quarantined) {
+        // Each record is converted on its own, so the slots for each record are only written by one thread.
+        Person[] persons = new Person[records.size()];
+        String[] errors = new String[records.size()];
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = JsonUtil.fromJsonNode(records.get(i), JsonAdaptedPerson.class).toModelType();
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                errors[i] = e.getMessage() != null ? e.getMessage() : e.toString();
+            }
+        });
+
+        for (int i = 0; i < records.size(); i++) {
+            if (errors[i] == null && !names.add(persons[i].getName())) {
+                errors[i] = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+            }
+            if (errors[i] != null) {
+                persons[i] = null;
+                quarantined.add(new JsonQuarantinedRecord(quarantinedAt, source, i, errors[i], records.get(i)));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Adds {@code records}, if there are any, to the end of the {@link #getQuarantineFile(Path) quarantine file} of
+     * the data file at {@code filePath}, keeping the records already in it from earlier loads.
+     */
+    static void quarantine(List<JsonQuarantinedRecord> records, Path filePath) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        Path quarantineFile = getQuarantineFile(filePath);
+        List<JsonQuarantinedRecord> allRecords = new ArrayList<>();
+        if (Files.exists(quarantineFile)) {
+            try (MappingIterator<JsonQuarantinedRecord> earlierRecords = JsonUtil.readJsonArrayFile(
+                    quarantineFile, QUARANTINED_FIELD, JsonQuarantinedRecord.class)) {
+                while (earlierRecords.hasNextValue()) {
+                    allRecords.add(earlierRecords.nextValue());
+                }
+            }
+        }
+        allRecords.addAll(records);
+        JsonUtil.saveJsonArrayFile(QUARANTINED_FIELD, allRecords.iterator(), quarantineFile);
+        logger.warning(() -> "Left out " + records.size() + " invalid records of " + filePath
+                + ", which were moved to " + quarantineFile);
+    }
+
+    @Override
+    public boolean readAddressBook(int batchSize, Consumer<List<Person>> batchConsumer)
+            throws DataConversionException {
+        checkArgument(batchSize > 0, "Batch size must be positive: " + batchSize);
+        requireNonNull(batchConsumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info(() -> "Json file " + filePath + " not found");
+            return false;
+        }
+
+        long start = System.nanoTime();
+        // The names of the clients read so far, as a duplicate may be in a later batch than the client it duplicates
+        Set<Name> names = new HashSet<>();
+        try (MappingIterator<JsonAdaptedPerson> jsonPersons = JsonUtil.readJsonArrayFile(
+                filePath, JsonSerializableAddressBook.PERSONS_FIELD, JsonAdaptedPerson.class)) {
+            List<Person> batch = new ArrayList<>(batchSize);
+            while (jsonPersons.hasNextValue()) {
+                Person person = jsonPersons.nextValue().toModelType();
+                if (!names.add(person.getName())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                batch.add(person);
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<JsonChecksums.Report> verifyAddressBook() throws IOException {
+        return verifyAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #verifyAddressBook()}.
+     * Each client record, and the file as a whole, is checked against the checksums saved with it, without
+     * converting any record to a client. Any damage found is logged.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public Optional<JsonChecksums.Report> verifyAddressBook(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        JsonChecksums.Report report = JsonChecksums.verify(filePath, JsonSerializableAddressBook.PERSONS_FIELD);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        if (report.isIntact()) {
+            logger.info(() -> "Verified " + filePath + " in " + millis + " ms: " + report);
+        } else {
+            logger.warning(() -> "Damage found in " + filePath + ":\n" + report);
+        }
+        return Optional.of(report);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +323,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the clients that have changed since the last save are encoded, and the Json saved before is reused for
+     * the others.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +332,73 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        List<String> jsonPersons = encodePersons(addressBook.getPersonList());
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveChecksummedRawJsonArrayFile(JsonSerializableAddressBook.PERSONS_FIELD, jsonPersons.iterator(),
+                filePath);
+        MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).record(Files.size(filePath));
+    }
+
+    /**
+     * Returns the Json of each of {@code persons}, encoding only those that were not in the last save.
+     * The Json of clients that are no longer in the address book is forgotten.
+     */
+    private synchronized List<String> encodePersons(List<Person> persons) throws IOException {
+        Map<Person, String> encoded = new IdentityHashMap<>(persons.size());
+        List<String> jsonPersons = new ArrayList<>(persons.size());
+        int encodedCount = 0;
+        for (Person person : persons) {
+            String json = encodedPersons.get(person);
+            if (json == null) {
+                json = JsonUtil.toJsonArrayElement(JsonSerializableAddressBook.PERSONS_FIELD,
+                        new JsonAdaptedPerson(person));
+                encodedCount++;
+            }
+            encoded.put(person, json);
+            jsonPersons.add(json);
+        }
+        encodedPersons = encoded;
+
+        int newlyEncoded = encodedCount;
+        logger.fine(() -> "Encoded " + newlyEncoded + " of " + persons.size() + " clients");
+        return jsonPersons;
+    }
+
+    /**
+     * Saves {@code persons} to {@code filePath} in the same format as {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each client is written as soon as it is taken from {@code persons}, so any number of clients can be saved
+     * without holding them all in memory. Unlike an address book, {@code persons} is not checked for duplicates.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @return the number of clients saved.
+     */
+    public long saveAddressBook(Iterator<Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        Iterator<String> jsonPersons = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return persons.hasNext();
+            }
+
+            @Override
+            public String next() {
+                try {
+                    return JsonUtil.toJsonArrayElement(JsonSerializableAddressBook.PERSONS_FIELD,
+                            new JsonAdaptedPerson(persons.next()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        try {
+            return JsonUtil.saveChecksummedRawJsonArrayFile(JsonSerializableAddressBook.PERSONS_FIELD, jsonPersons,
+                    filePath);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
 }
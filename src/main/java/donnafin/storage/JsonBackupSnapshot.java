@@ -0,0 +1,37 @@
+package donnafin.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a backup of the address book, which lists the records of its clients in order by their hashes.
+ * Serializable to JSON format.
+ */
+class JsonBackupSnapshot {
+
+    private final String createdAt;
+    private final List<String> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonBackupSnapshot} with the given time and client records.
+     */
+    @JsonCreator
+    public JsonBackupSnapshot(@JsonProperty("createdAt") String createdAt,
+            @JsonProperty("persons") List<String> persons) {
+        this.createdAt = createdAt;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<String> getPersons() {
+        return persons;
+    }
+}
@@ -0,0 +1,54 @@
+package donnafin.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A client record that could not be loaded from the data file, kept as it was in the file together with the reason
+ * it could not be loaded, so that it can be fixed by hand.
+ * Serializable to JSON format.
+ */
+class JsonQuarantinedRecord {
+
+    private final String quarantinedAt;
+    private final String source;
+    private final int index;
+    private final String error;
+    private final JsonNode record;
+
+    /**
+     * Constructs a {@code JsonQuarantinedRecord} for the record at position {@code index} in {@code source}, the
+     * name of the file that it was loaded from. {@code record} is null if the record could not be read at all.
+     */
+    @JsonCreator
+    public JsonQuarantinedRecord(@JsonProperty("quarantinedAt") String quarantinedAt,
+            @JsonProperty("source") String source, @JsonProperty("index") int index,
+            @JsonProperty("error") String error, @JsonProperty("record") JsonNode record) {
+        this.quarantinedAt = quarantinedAt;
+        this.source = source;
+        this.index = index;
+        this.error = error;
+        this.record = record;
+    }
+
+    public String getQuarantinedAt() {
+        return quarantinedAt;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public JsonNode getRecord() {
+        return record;
+    }
+}
@@ -0,0 +1,68 @@
+package donnafin.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import donnafin.commons.exceptions.IllegalValueException;
+import donnafin.model.person.Person;
+
+/**
+ * One shard of a sharded address book, serializable to JSON format.
+ * <p>
+ * The clients are kept in the same field as in the single-file layout, so that a shard can also be read as an
+ * address book. Alongside them are their positions, which give the order of the clients across every shard.
+ */
+class JsonSerializableShard {
+
+    static final String POSITIONS_FIELD = "positions";
+    static final String MESSAGE_MISMATCHED_POSITIONS = "Shard has %1$d clients but %2$d positions.";
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given persons and their positions.
+     */
+    @JsonCreator
+    public JsonSerializableShard(
+            @JsonProperty(JsonSerializableAddressBook.PERSONS_FIELD) List<JsonAdaptedPerson> persons,
+            @JsonProperty(POSITIONS_FIELD) List<Long> positions) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Converts the given persons, in the order of their {@code positions}, into this class for Jackson use.
+     */
+    public JsonSerializableShard(List<Person> persons, long[] positions) {
+        assert persons.size() == positions.length;
+        persons.forEach(person -> this.persons.add(new JsonAdaptedPerson(person)));
+        for (long position : positions) {
+            this.positions.add(position);
+        }
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects, and adds them to {@code persons},
+     * and their positions to {@code positions}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void toModelType(List<Person> persons, List<Long> positions) throws IllegalValueException {
+        if (this.persons.size() != this.positions.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_POSITIONS, this.persons.size(),
+                    this.positions.size()));
+        }
+        for (JsonAdaptedPerson jsonAdaptedPerson : this.persons) {
+            persons.add(jsonAdaptedPerson.toModelType());
+        }
+        positions.addAll(this.positions);
+    }
+}
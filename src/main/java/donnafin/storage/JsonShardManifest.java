@@ -0,0 +1,57 @@
+package donnafin.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a sharded address book, which lists its shard files, and the generation of the save that wrote it.
+ * Serializable to JSON format.
+ */
+class JsonShardManifest {
+
+    static final String MESSAGE_WRONG_SHARD_COUNT = "Manifest lists %1$d shard files but has %2$d shards.";
+
+    private final int shardCount;
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard files, which are relative to the manifest.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("shardCount") int shardCount, @JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards) {
+        this.shardCount = shardCount;
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns the number of saves that have written the address book, which goes up by one each save. Manifests
+     * written before generations were kept are generation 0.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns true if this was read from a sharded manifest, rather than from a file in the single-file layout,
+     * which has neither of the manifest's fields.
+     */
+    public boolean isSharded() {
+        return shardCount > 0 || !shards.isEmpty();
+    }
+}
@@ -0,0 +1,558 @@
+package donnafin.storage;
+
+import static donnafin.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.exceptions.IllegalValueException;
+import donnafin.commons.util.FileCompression;
+import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
+import donnafin.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access DonnaFin data stored as several json files on the hard disk, so that a change to one client only
+ * rewrites the file that the client is in.
+ * <p>
+ * Clients are split between a fixed number of shard files by the hash of their name. The address book file itself is
+ * a small manifest that lists the shard files, which are kept in a directory beside it. Each client is stored with a
+ * position that gives its place in the address book, as given by {@link ClientPositions}.
+ * <p>
+ * Shard files are never written over. Each save writes its changed shards to new files, named with the generation of
+ * the save, and then replaces the manifest in one step to list them, so the address book on disk changes from one
+ * save to the next all at once: a save that stops partway leaves the manifest of the save before it. Shard files are
+ * only deleted once the manifest no longer lists them. As the manifest is rewritten by every save, watching it, as
+ * {@link WatchedAddressBookStorage} does, is enough to notice a change to any shard.
+ * <p>
+ * An address book file in the single-file layout of {@link JsonAddressBookStorage} is split into shards when it is
+ * read, and the original file is kept beside it as a backup.
+ */
+public class ShardedJsonAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    static final String MESSAGE_MISSING_SHARD = "Shard file listed in the manifest is missing: %1$s";
+    static final String MESSAGE_UNREADABLE_SHARD = "Shard file could not be read, so it was copied to %1$s: %2$s";
+    static final String MESSAGE_UNREADABLE_MANIFEST = "The manifest %1$s could not be read, so it was copied to %2$s "
+            + "and its shard directory to %3$s";
+    static final String SHARD_DIRECTORY_SUFFIX = "-shards";
+    static final String BACKUP_SUFFIX = ".unsharded.bak";
+    static final String SHARD_FILE_PREFIX = "shard-";
+    static final String TEMP_FILE_PREFIX = "~";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedJsonAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+
+    // The clients last read from or saved to filePath, so that shards whose clients have not changed are not
+    // rewritten. Clients are compared by identity, which is enough as a changed client is a new Person.
+    private Map<Person, Long> savedPositions = new IdentityHashMap<>();
+    private List<List<ShardEntry>> savedShards;
+    // The manifest last read from or written to filePath, which lists the shard files on disk.
+    private JsonShardManifest savedManifest;
+
+    /**
+     * Creates a storage whose manifest is at {@code filePath}, and which splits new address books into
+     * {@code shardCount} shards.
+     */
+    public ShardedJsonAddressBookStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        checkArgument(shardCount > 0, "There must be at least one shard: " + shardCount);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the manifest and the shard directory.
+     */
+    @Override
+    public List<Path> getDataFiles() {
+        return List.of(filePath, getShardDirectory(filePath));
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. The shard files are read in parallel.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a shard file is not in the correct format.
+     * @throws IOException if a single-file address book could not be split into shards.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        long start = System.nanoTime();
+        try {
+            Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+            if (manifest.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<List<ShardEntry>> shards;
+            if (manifest.get().isSharded()) {
+                shards = readShards(filePath, manifest.get());
+            } else {
+                shards = migrate(filePath);
+                manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+            }
+            AddressBook addressBook = toAddressBook(shards);
+            if (filePath.equals(this.filePath)) {
+                // Shards of a different count must all be rewritten, as clients will move between them.
+                savedShards = shards.size() == shardCount ? shards : null;
+                savedPositions = toPositions(shards);
+                savedManifest = manifest.orElseThrow();
+            }
+            return Optional.of(addressBook);
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+    }
+
+    private static List<List<ShardEntry>> readShards(Path manifestPath, JsonShardManifest manifest)
+            throws DataConversionException {
+        List<String> shardFiles = manifest.getShards();
+        if (shardFiles.size() != manifest.getShardCount()) {
+            throw new DataConversionException(new IllegalValueException(String.format(
+                    JsonShardManifest.MESSAGE_WRONG_SHARD_COUNT, shardFiles.size(), manifest.getShardCount())));
+        }
+
+        List<ShardReadResult> results = shardFiles.parallelStream()
+                .map(shardFile -> readShard(manifestPath.resolveSibling(shardFile)))
+                .collect(Collectors.toList());
+        List<List<ShardEntry>> shards = new ArrayList<>(results.size());
+        for (ShardReadResult result : results) {
+            if (result.error != null) {
+                throw result.error;
+            }
+            shards.add(result.entries);
+        }
+        return shards;
+    }
+
+    private static ShardReadResult readShard(Path shardPath) {
+        try {
+            Optional<JsonSerializableShard> jsonShard = JsonUtil.readJsonFile(shardPath, JsonSerializableShard.class);
+            if (jsonShard.isEmpty()) {
+                return new ShardReadResult(new DataConversionException(
+                        new IOException(String.format(MESSAGE_MISSING_SHARD, shardPath))));
+            }
+            List<Person> persons = new ArrayList<>();
+            List<Long> positions = new ArrayList<>();
+            jsonShard.get().toModelType(persons, positions);
+            List<ShardEntry> entries = new ArrayList<>(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                entries.add(new ShardEntry(persons.get(i), positions.get(i)));
+            }
+            return new ShardReadResult(entries);
+        } catch (DataConversionException e) {
+            return new ShardReadResult(e);
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in " + shardPath + ": " + ive.getMessage());
+            return new ShardReadResult(new DataConversionException(ive));
+        }
+    }
+
+    /**
+     * Splits the single-file address book at {@code filePath} into shards, and replaces it with their manifest.
+     * The original file is kept as a backup.
+     */
+    private List<List<ShardEntry>> migrate(Path filePath) throws DataConversionException, IOException {
+        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        AddressBook addressBook;
+        try {
+            addressBook = jsonAddressBook.orElseThrow().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + BACKUP_SUFFIX);
+        Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        List<Person> persons = addressBook.getPersonList();
+        List<List<ShardEntry>> shards = partition(persons, ClientPositions.assign(persons, Map.of()));
+        writeShards(filePath, shards, null, null);
+        logger.info(() -> "Split " + persons.size() + " clients in " + filePath + " into " + shardCount
+                + " shards. The original file is kept at " + backupPath);
+        return shards;
+    }
+
+    private static AddressBook toAddressBook(List<List<ShardEntry>> shards) throws DataConversionException {
+        List<Person> persons = shards.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingLong(entry -> entry.position))
+                .map(entry -> entry.person)
+                .collect(Collectors.toList());
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.addPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataConversionException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the clients in the shard files that are valid, for when {@link #readAddressBook()} fails because some
+     * are not. Each client record is checked on its own, as by {@link JsonAddressBookStorage#salvageAddressBook(Path)},
+     * and the records left out are added to the quarantine file of the manifest. A shard file that is not valid Json
+     * is copied beside the manifest, so that the next save, which rewrites every shard, does not lose its clients.
+     * An address book in the single-file layout is salvaged by {@link JsonAddressBookStorage}, and kept as a backup
+     * as when it is split into shards.
+     *
+     * @throws IOException if the manifest cannot be read, in which case it and the shard directory are copied, or
+     *     if the records left out cannot be saved.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> salvageAddressBook() throws IOException {
+        if (!Files.exists(filePath)) {
+            logger.info(() -> "Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        try {
+            JsonShardManifest manifest;
+            try {
+                manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class).orElseThrow();
+            } catch (DataConversionException e) {
+                throw new IOException(copyUnreadableManifest(), e);
+            }
+
+            // Every shard is rewritten by the next save, with new positions, whatever was read before.
+            savedShards = null;
+            savedPositions = new IdentityHashMap<>();
+            if (!manifest.isSharded()) {
+                Files.copy(filePath, filePath.resolveSibling(filePath.getFileName() + BACKUP_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING);
+                savedManifest = null;
+                return new JsonAddressBookStorage(filePath).salvageAddressBook(filePath);
+            }
+
+            List<ShardEntry> entries = salvageShards(manifest);
+            entries.sort(Comparator.comparingLong(entry -> entry.position));
+            AddressBook addressBook = new AddressBook();
+            addressBook.addPersons(entries.stream().map(entry -> entry.person).collect(Collectors.toList()));
+            savedManifest = manifest;
+            return Optional.of(addressBook);
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+    }
+
+    /**
+     * Returns the valid clients in the shard files listed by {@code manifest}, with their positions, and adds the
+     * records left out to the quarantine file. A client whose position is missing is put after the others.
+     */
+    private List<ShardEntry> salvageShards(JsonShardManifest manifest) throws IOException {
+        String quarantinedAt = Instant.now().toString();
+        List<JsonQuarantinedRecord> quarantined = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        List<ShardEntry> entries = new ArrayList<>();
+        for (String shardFile : manifest.getShards()) {
+            Path shardPath = filePath.resolveSibling(shardFile);
+            String source = shardPath.getFileName().toString();
+            Optional<JsonNode> shard;
+            try {
+                shard = JsonUtil.readJsonFile(shardPath, JsonNode.class);
+            } catch (DataConversionException e) {
+                Path copy = JsonAddressBookStorage.getUnreadableCopyFile(filePath.resolveSibling(source));
+                Files.copy(shardPath, copy, StandardCopyOption.REPLACE_EXISTING);
+                quarantined.add(new JsonQuarantinedRecord(quarantinedAt, source, 0,
+                        String.format(MESSAGE_UNREADABLE_SHARD, copy, e.getMessage()), null));
+                continue;
+            }
+            if (shard.isEmpty()) {
+                quarantined.add(new JsonQuarantinedRecord(quarantinedAt, source, 0,
+                        String.format(MESSAGE_MISSING_SHARD, shardPath), null));
+                continue;
+            }
+
+            List<JsonNode> records = new ArrayList<>();
+            shard.get().path(JsonSerializableAddressBook.PERSONS_FIELD).forEach(records::add);
+            JsonNode positions = shard.get().path(JsonSerializableShard.POSITIONS_FIELD);
+            Person[] persons = JsonAddressBookStorage.salvageRecords(records, source, names, quarantinedAt,
+                    quarantined);
+            for (int i = 0; i < persons.length; i++) {
+                if (persons[i] != null) {
+                    entries.add(new ShardEntry(persons[i], positions.path(i).asLong(Long.MAX_VALUE)));
+                }
+            }
+        }
+        JsonAddressBookStorage.quarantine(quarantined, filePath);
+        return entries;
+    }
+
+    /**
+     * Copies the manifest, and the shard directory if there is one, so that the next save, which deletes the shard
+     * files that its manifest does not list, does not lose them. Returns a message saying where they were copied.
+     */
+    private String copyUnreadableManifest() throws IOException {
+        Path manifestCopy = JsonAddressBookStorage.getUnreadableCopyFile(filePath);
+        Files.copy(filePath, manifestCopy, StandardCopyOption.REPLACE_EXISTING);
+        Path shardDirectory = getShardDirectory(filePath);
+        Path directoryCopy = JsonAddressBookStorage.getUnreadableCopyFile(shardDirectory);
+        if (Files.isDirectory(shardDirectory)) {
+            FileUtil.copy(shardDirectory, directoryCopy);
+        }
+        String message = String.format(MESSAGE_UNREADABLE_MANIFEST, filePath, manifestCopy, directoryCopy);
+        logger.warning(message);
+        return message;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Only the shards whose clients have changed since
+     * they were last read or saved are rewritten, unless {@code filePath} is not the file path of this storage.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        List<Person> persons = addressBook.getPersonList();
+        long[] positions = ClientPositions.assign(persons, isOwnFile ? savedPositions : Map.of());
+        List<List<ShardEntry>> shards = partition(persons, positions);
+        JsonShardManifest manifest = isOwnFile && savedManifest != null
+                ? writeShards(filePath, shards, savedShards, savedManifest)
+                : writeShards(filePath, shards, null, readManifest(filePath));
+        if (isOwnFile) {
+            savedShards = shards;
+            savedPositions = toPositions(shards);
+            savedManifest = manifest;
+        }
+    }
+
+    /**
+     * Returns the manifest at {@code manifestPath}, or null if there is none, or it cannot be read.
+     */
+    private static JsonShardManifest readManifest(Path manifestPath) {
+        try {
+            return JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class)
+                    .filter(JsonShardManifest::isSharded)
+                    .orElse(null);
+        } catch (DataConversionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes each of {@code shards} that differs from the same shard in {@code previousShards} to a new shard file,
+     * and then replaces the manifest with one that lists the new shard files in place of those they replace. The
+     * shard files that the manifest no longer lists are then deleted.
+     *
+     * @param previousShards the shards on disk, or null if they are not known, in which case all shards are written.
+     * @param previousManifest the manifest on disk, or null if there is none.
+     * @return the manifest written.
+     */
+    private JsonShardManifest writeShards(Path manifestPath, List<List<ShardEntry>> shards,
+            List<List<ShardEntry>> previousShards, JsonShardManifest previousManifest) throws IOException {
+        long generation = previousManifest == null ? 1 : previousManifest.getGeneration() + 1;
+        List<String> shardFiles = new ArrayList<>(shards.size());
+        long bytesWritten = 0;
+        int rewrittenShards = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            List<ShardEntry> entries = shards.get(i);
+            if (previousShards != null && entries.equals(previousShards.get(i))) {
+                shardFiles.add(previousManifest.getShards().get(i));
+                continue;
+            }
+            String shardFile = getShardFile(manifestPath, i, generation);
+            bytesWritten += saveJsonFileAtomically(new JsonSerializableShard(
+                    entries.stream().map(entry -> entry.person).collect(Collectors.toList()),
+                    entries.stream().mapToLong(entry -> entry.position).toArray()),
+                    manifestPath.resolveSibling(shardFile));
+            shardFiles.add(shardFile);
+            rewrittenShards++;
+        }
+
+        // The manifest is written last, so that it never lists a shard file that has not been written.
+        JsonShardManifest manifest = new JsonShardManifest(shards.size(), generation, shardFiles);
+        bytesWritten += saveJsonFileAtomically(manifest, manifestPath);
+        deleteUnlistedShards(manifestPath, manifest);
+
+        int rewritten = rewrittenShards;
+        logger.fine(() -> "Rewrote " + rewritten + " of " + shards.size() + " shards of " + manifestPath
+                + " in generation " + generation);
+        MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).record(bytesWritten);
+        return manifest;
+    }
+
+    /**
+     * Saves {@code jsonFile} to {@code filePath} by writing it to a temporary file beside it, and then moving that
+     * over {@code filePath}, so that the file is never found half written.
+     *
+     * @return the number of bytes written.
+     */
+    private static long saveJsonFileAtomically(Object jsonFile, Path filePath) throws IOException {
+        Path tempPath = filePath.resolveSibling(TEMP_FILE_PREFIX + filePath.getFileName());
+        FileUtil.createIfMissing(tempPath);
+        JsonUtil.saveJsonFile(jsonFile, tempPath);
+        long size = Files.size(tempPath);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    /**
+     * Deletes the files in the shard directory of the address book at {@code manifestPath} that {@code manifest}
+     * does not list: those replaced by this save, and any left by an address book with more shards, or by a save
+     * that stopped partway.
+     */
+    private static void deleteUnlistedShards(Path manifestPath, JsonShardManifest manifest) throws IOException {
+        Set<Path> listed = manifest.getShards().stream()
+                .map(manifestPath::resolveSibling)
+                .collect(Collectors.toSet());
+        Path shardDirectory = getShardDirectory(manifestPath);
+        List<Path> unlisted;
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            unlisted = files.filter(shardPath -> !listed.contains(shardPath))
+                    .filter(shardPath -> isShardFile(shardPath.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+        for (Path shardPath : unlisted) {
+            Files.deleteIfExists(shardPath);
+        }
+    }
+
+    private static boolean isShardFile(String fileName) {
+        return fileName.startsWith(SHARD_FILE_PREFIX) || fileName.startsWith(TEMP_FILE_PREFIX + SHARD_FILE_PREFIX);
+    }
+
+    private static Path getShardDirectory(Path manifestPath) {
+        return manifestPath.resolveSibling(getShardFile(manifestPath, 0, 0)).getParent();
+    }
+
+    /**
+     * Returns the path of shard {@code index} written in generation {@code generation}, relative to the manifest,
+     * e.g. {@code donnafin-shards/shard-007-42.json} for the manifest {@code donnafin.json}. Shards are compressed
+     * in the same way as the manifest, e.g. {@code donnafin-shards/shard-007-42.json.gz} for the manifest
+     * {@code donnafin.json.gz}.
+     */
+    private static String getShardFile(Path manifestPath, int index, long generation) {
+        FileCompression compression = FileCompression.of(manifestPath);
+        String manifestName = compression.stripExtension(manifestPath.getFileName().toString());
+        int extensionStart = manifestName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? manifestName.substring(0, extensionStart) : manifestName;
+        return baseName + SHARD_DIRECTORY_SUFFIX + "/" + SHARD_FILE_PREFIX
+                + String.format("%03d-%d.json", index, generation) + compression.getExtension();
+    }
+
+    /**
+     * Returns the shard that {@code person} is kept in.
+     */
+    static int getShard(Person person, int shardCount) {
+        return Math.floorMod(person.getName().hashCode(), shardCount);
+    }
+
+    private List<List<ShardEntry>> partition(List<Person> persons, long[] positions) {
+        List<List<ShardEntry>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            shards.get(getShard(person, shardCount)).add(new ShardEntry(person, positions[i]));
+        }
+        return shards;
+    }
+
+    private static Map<Person, Long> toPositions(List<List<ShardEntry>> shards) {
+        Map<Person, Long> positions = new IdentityHashMap<>();
+        shards.forEach(entries -> entries.forEach(entry -> positions.put(entry.person, entry.position)));
+        return positions;
+    }
+
+    /**
+     * A client and its position, as kept in a shard.
+     */
+    private static class ShardEntry {
+        private final Person person;
+        private final long position;
+
+        ShardEntry(Person person, long position) {
+            this.person = person;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // The same Person object, rather than an equal one, as only the identity of a client is remembered.
+            return other == this
+                    || (other instanceof ShardEntry
+                    && person == ((ShardEntry) other).person
+                    && position == ((ShardEntry) other).position);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(person) * 31 + Long.hashCode(position);
+        }
+    }
+
+    /**
+     * The clients read from a shard file, or the reason they could not be read.
+     */
+    private static class ShardReadResult {
+        private final List<ShardEntry> entries;
+        private final DataConversionException error;
+
+        ShardReadResult(List<ShardEntry> entries) {
+            this.entries = entries;
+            this.error = null;
+        }
+
+        ShardReadResult(DataConversionException error) {
+            this.entries = null;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,820 @@
+package donnafin.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.core.MetricsCenter;
+import donnafin.commons.core.types.Money;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.exceptions.IllegalValueException;
+import donnafin.commons.util.JsonUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Asset;
+import donnafin.model.person.Liability;
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
+import donnafin.model.person.Policy;
+import donnafin.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access DonnaFin data stored in an embedded H2 database on the hard disk, with a table of clients and a
+ * table each of their policies, assets and liabilities.
+ * <p>
+ * A save only writes the rows of the clients that have changed since the address book was last read or saved, all in
+ * one transaction. So adding or deleting a client, or appending or removing one of its policies, assets or
+ * liabilities, is a few single-row statements rather than a rewrite of every client. As with
+ * {@link ShardedJsonAddressBookStorage}, clients are compared by identity, and their order is kept with
+ * {@link ClientPositions}.
+ * <p>
+ * The database is kept beside the address book file path, e.g. {@code data/donnafin.mv.db} for
+ * {@code data/donnafin.json}. If there is no database yet, but there is a Json address book at the file path, the
+ * Json address book is imported into a new database.
+ * <p>
+ * Clients can also be searched and totalled with indexed queries, without reading the whole address book.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage, AutoCloseable {
+
+    static final String DATABASE_FILE_SUFFIX = ".mv.db";
+    /** The source of the clients quarantined from the database, in the quarantine file. */
+    static final String DATABASE_TABLE_CLIENTS = "clients";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS clients (id BIGINT PRIMARY KEY, list_position BIGINT NOT NULL, "
+                    + "name VARCHAR NOT NULL UNIQUE, phone VARCHAR NOT NULL, email VARCHAR NOT NULL, "
+                    + "address VARCHAR NOT NULL, notes VARCHAR NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS client_name_words ("
+                    + "client_id BIGINT NOT NULL REFERENCES clients(id) ON DELETE CASCADE, word VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS client_name_words_word ON client_name_words(word)",
+            "CREATE TABLE IF NOT EXISTS policies ("
+                    + "client_id BIGINT NOT NULL REFERENCES clients(id) ON DELETE CASCADE, name VARCHAR NOT NULL, "
+                    + "insurer VARCHAR NOT NULL, total_value_insured BIGINT NOT NULL, "
+                    + "yearly_premiums BIGINT NOT NULL, commission BIGINT NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS policies_client_id ON policies(client_id)",
+            "CREATE TABLE IF NOT EXISTS assets ("
+                    + "client_id BIGINT NOT NULL REFERENCES clients(id) ON DELETE CASCADE, name VARCHAR NOT NULL, "
+                    + "type VARCHAR NOT NULL, amount BIGINT NOT NULL, remarks VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS assets_client_id ON assets(client_id)",
+            "CREATE TABLE IF NOT EXISTS liabilities ("
+                    + "client_id BIGINT NOT NULL REFERENCES clients(id) ON DELETE CASCADE, name VARCHAR NOT NULL, "
+                    + "type VARCHAR NOT NULL, amount BIGINT NOT NULL, remarks VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS liabilities_client_id ON liabilities(client_id)");
+
+    private static final String INSERT_CLIENT = "INSERT INTO clients "
+            + "(id, list_position, name, phone, email, address, notes) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CLIENT = "UPDATE clients "
+            + "SET list_position = ?, phone = ?, email = ?, address = ?, notes = ? WHERE id = ?";
+    private static final String UPDATE_POSITION = "UPDATE clients SET list_position = ? WHERE id = ?";
+    private static final String DELETE_CLIENT = "DELETE FROM clients WHERE id = ?";
+    private static final String INSERT_NAME_WORD = "INSERT INTO client_name_words (client_id, word) VALUES (?, ?)";
+    private static final String INSERT_POLICY = "INSERT INTO policies "
+            + "(client_id, name, insurer, total_value_insured, yearly_premiums, commission) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_POLICY = "DELETE FROM policies WHERE client_id = ? AND name = ? "
+            + "AND insurer = ? AND total_value_insured = ? AND yearly_premiums = ? AND commission = ?";
+    private static final String INSERT_ASSET = "INSERT INTO assets "
+            + "(client_id, name, type, amount, remarks) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_ASSET = "DELETE FROM assets WHERE client_id = ? AND name = ? "
+            + "AND type = ? AND amount = ? AND remarks = ?";
+    private static final String INSERT_LIABILITY = "INSERT INTO liabilities "
+            + "(client_id, name, type, amount, remarks) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_LIABILITY = "DELETE FROM liabilities WHERE client_id = ? AND name = ? "
+            + "AND type = ? AND amount = ? AND remarks = ?";
+
+    private final Path filePath;
+    private Connection connection;
+
+    // The clients last read from or saved to the database of filePath, so that only the rows of clients that have
+    // changed are written, or null if the rows may no longer match them, e.g. after a save failed, in which case the
+    // next save rewrites every client.
+    private SavedClients savedClients = new SavedClients(new IdentityHashMap<>(), new IdentityHashMap<>(), 1);
+
+    public SqlAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the database file.
+     */
+    @Override
+    public List<Path> getDataFiles() {
+        return List.of(getDatabaseFile(filePath));
+    }
+
+    /**
+     * Returns the file of the database that is kept beside {@code filePath}.
+     */
+    public static Path getDatabaseFile(Path filePath) {
+        return filePath.resolveSibling(getDatabaseName(filePath) + DATABASE_FILE_SUFFIX);
+    }
+
+    private static String getDatabaseName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    private static Connection openConnection(Path filePath) throws SQLException {
+        Path databasePath = filePath.resolveSibling(getDatabaseName(filePath)).toAbsolutePath();
+        Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databasePath);
+        try {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = openConnection(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Closes the connection to the database, which is opened again if this storage is used again.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close database of " + filePath, e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath the address book file path, beside which the database is kept. Cannot be null.
+     * @throws DataConversionException if the data in the database is not in the expected format.
+     * @throws IOException if the database could not be read, or a Json address book could not be imported.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(getDatabaseFile(filePath))) {
+            return importJsonAddressBook(filePath, false);
+        }
+
+        long start = System.nanoTime();
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Connection readConnection = null;
+        try {
+            readConnection = isOwnFile ? getConnection() : openConnection(filePath);
+            Map<Person, Long> ids = new IdentityHashMap<>();
+            Map<Person, Long> positions = new IdentityHashMap<>();
+            AddressBook addressBook = readClients(readConnection, ids, positions, null);
+            readConnection.commit();
+            if (isOwnFile) {
+                savedClients = new SavedClients(ids, positions,
+                        ids.values().stream().mapToLong(Long::longValue).max().orElse(0) + 1);
+            }
+            return Optional.of(addressBook);
+        } catch (SQLException e) {
+            throw new IOException("Could not read database of " + filePath, e);
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in database of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } finally {
+            closeIfNotOwn(readConnection, isOwnFile);
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+    }
+
+    /**
+     * Returns the clients in the database that are valid, for when {@link #readAddressBook()} fails because some are
+     * not. Each client is checked on its own, and the clients left out are added, as Json records, to the
+     * quarantine file of the address book file path. The next save rewrites every client, so that the database no
+     * longer has the clients left out. A Json address book that has not been imported yet is salvaged by
+     * {@link JsonAddressBookStorage} before it is imported.
+     *
+     * @throws IOException if the database cannot be read, in which case it is copied, or if the clients left out
+     *     cannot be saved.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> salvageAddressBook() throws IOException {
+        Path databaseFile = getDatabaseFile(filePath);
+        if (!Files.exists(databaseFile)) {
+            try {
+                return importJsonAddressBook(filePath, true);
+            } catch (DataConversionException e) {
+                throw new IOException("Could not salvage " + filePath, e);
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<JsonQuarantinedRecord> quarantined = new ArrayList<>();
+            AddressBook addressBook = readClients(getConnection(), new IdentityHashMap<>(), new IdentityHashMap<>(),
+                    quarantined);
+            getConnection().commit();
+            savedClients = null;
+            JsonAddressBookStorage.quarantine(quarantined, filePath);
+            return Optional.of(addressBook);
+        } catch (SQLException | IllegalValueException e) {
+            // The next save may not be able to tell the clients in the database apart either, so it is kept whole.
+            Path copy = JsonAddressBookStorage.getUnreadableCopyFile(databaseFile);
+            close();
+            Files.copy(databaseFile, copy, StandardCopyOption.REPLACE_EXISTING);
+            throw new IOException("Could not salvage database of " + filePath + ", which was copied to " + copy, e);
+        } finally {
+            MetricsCenter.getTimer(MetricsCenter.LOAD_TIMER).recordNanosSince(start);
+        }
+    }
+
+    /**
+     * Saves the Json address book at {@code filePath}, if there is one, into a new database. If {@code isSalvaged},
+     * only its valid clients are saved, as by {@link JsonAddressBookStorage#salvageAddressBook(Path)}.
+     */
+    private Optional<ReadOnlyAddressBook> importJsonAddressBook(Path filePath, boolean isSalvaged)
+            throws DataConversionException, IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return Optional.empty();
+        }
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = isSalvaged
+                ? jsonStorage.salvageAddressBook(filePath)
+                : jsonStorage.readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            saveAddressBook(addressBook.get(), filePath);
+            logger.info(() -> "Imported " + addressBook.get().getPersonList().size() + " clients from " + filePath
+                    + " into " + getDatabaseFile(filePath));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads every client in the database, and puts its id and position in {@code ids} and {@code positions}.
+     * If {@code quarantined} is null, the first client that is not valid fails the read. Otherwise each client that
+     * is not valid is left out and added to {@code quarantined}.
+     */
+    private static AddressBook readClients(Connection connection, Map<Person, Long> ids, Map<Person, Long> positions,
+            List<JsonQuarantinedRecord> quarantined) throws SQLException, IllegalValueException {
+        String quarantinedAt = Instant.now().toString();
+        // The first error found in the policies, assets or liabilities of each client
+        Map<Long, String> errors = new HashMap<>();
+        Map<Long, List<JsonAdaptedPolicy>> policies = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT client_id, name, insurer, total_value_insured, "
+                        + "yearly_premiums, commission FROM policies")) {
+            while (rows.next()) {
+                try {
+                    policies.computeIfAbsent(rows.getLong(1), unused -> new ArrayList<>()).add(new JsonAdaptedPolicy(
+                            rows.getString(2), rows.getString(3), toMoneyString(rows.getLong(4)),
+                            toMoneyString(rows.getLong(5)), toMoneyString(rows.getLong(6))));
+                } catch (IllegalValueException ive) {
+                    recordError(errors, rows.getLong(1), ive, quarantined);
+                }
+            }
+        }
+        Map<Long, List<JsonAdaptedAsset>> assets = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT client_id, name, type, amount, remarks FROM assets")) {
+            while (rows.next()) {
+                try {
+                    assets.computeIfAbsent(rows.getLong(1), unused -> new ArrayList<>()).add(new JsonAdaptedAsset(
+                            rows.getString(2), rows.getString(3), toMoneyString(rows.getLong(4)), rows.getString(5)));
+                } catch (IllegalValueException ive) {
+                    recordError(errors, rows.getLong(1), ive, quarantined);
+                }
+            }
+        }
+        Map<Long, List<JsonAdaptedLiability>> liabilities = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(
+                        "SELECT client_id, name, type, amount, remarks FROM liabilities")) {
+            while (rows.next()) {
+                try {
+                    liabilities.computeIfAbsent(rows.getLong(1), unused -> new ArrayList<>()).add(
+                            new JsonAdaptedLiability(rows.getString(2), rows.getString(3),
+                                    toMoneyString(rows.getLong(4)), rows.getString(5)));
+                } catch (IllegalValueException ive) {
+                    recordError(errors, rows.getLong(1), ive, quarantined);
+                }
+            }
+        }
+
+        List<Person> persons = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT id, list_position, name, phone, email, address, "
+                        + "notes FROM clients ORDER BY list_position")) {
+            for (int index = 0; rows.next(); index++) {
+                long id = rows.getLong(1);
+                // The client's policies, assets and liabilities are checked as they are when read from Json.
+                JsonAdaptedPerson jsonPerson = new JsonAdaptedPerson(rows.getString(3), rows.getString(4),
+                        rows.getString(5), rows.getString(6), rows.getString(7), policies.getOrDefault(id, List.of()),
+                        liabilities.getOrDefault(id, List.of()), assets.getOrDefault(id, List.of()));
+                Person person;
+                try {
+                    if (errors.containsKey(id)) {
+                        throw new IllegalValueException(errors.get(id));
+                    }
+                    person = jsonPerson.toModelType();
+                } catch (IllegalValueException ive) {
+                    if (quarantined == null) {
+                        throw ive;
+                    }
+                    quarantined.add(new JsonQuarantinedRecord(quarantinedAt, DATABASE_TABLE_CLIENTS, index,
+                            ive.getMessage(), JsonUtil.toJsonNode(jsonPerson)));
+                    continue;
+                }
+                persons.add(person);
+                ids.put(person, id);
+                positions.put(person, rows.getLong(2));
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.addPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Keeps the first {@code error} found in the rows of the client with id {@code id}, so that the client is left
+     * out, or throws it if {@code quarantined} is null.
+     */
+    private static void recordError(Map<Long, String> errors, long id, IllegalValueException error,
+            List<JsonQuarantinedRecord> quarantined) throws IllegalValueException {
+        if (quarantined == null) {
+            throw error;
+        }
+        errors.putIfAbsent(id, error.getMessage());
+    }
+
+    private static String toMoneyString(long value) throws IllegalValueException {
+        return new Money(value).toString();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Only the rows of clients that have changed since they
+     * were last read or saved are written, unless {@code filePath} is not the file path of this storage, in which
+     * case every client is written.
+     *
+     * @param filePath the address book file path, beside which the database is kept. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Connection saveConnection = null;
+        try {
+            saveConnection = isOwnFile ? getConnection() : openConnection(filePath);
+            SavedClients saved;
+            try {
+                saved = isOwnFile && savedClients != null
+                        ? saveChanges(saveConnection, addressBook.getPersonList(), savedClients)
+                        : saveAll(saveConnection, addressBook.getPersonList());
+                saveConnection.commit();
+            } catch (SQLException e) {
+                if (isOwnFile) {
+                    // The rows are only known to match the saved clients if the rollback succeeds.
+                    savedClients = null;
+                }
+                saveConnection.rollback();
+                throw e;
+            }
+            // Only once committed, so that the clients of a failed save are not taken to be saved.
+            if (isOwnFile) {
+                savedClients = saved;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save to database of " + filePath, e);
+        } finally {
+            closeIfNotOwn(saveConnection, isOwnFile);
+        }
+    }
+
+    private static void closeIfNotOwn(Connection connection, boolean isOwnFile) throws IOException {
+        if (connection == null || isOwnFile) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close database", e);
+        }
+    }
+
+    /**
+     * Replaces every client in the database with {@code persons}.
+     *
+     * @return the clients as saved, once the changes are committed.
+     */
+    private static SavedClients saveAll(Connection connection, List<Person> persons) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM clients");
+        }
+        long[] positions = ClientPositions.assign(persons, Map.of());
+        Map<Person, Long> ids = new IdentityHashMap<>();
+        Map<Person, Long> newPositions = new IdentityHashMap<>();
+        try (SaveStatements statements = new SaveStatements(connection)) {
+            for (int i = 0; i < persons.size(); i++) {
+                statements.insertClient(i + 1, persons.get(i), positions[i]);
+                ids.put(persons.get(i), (long) i + 1);
+                newPositions.put(persons.get(i), positions[i]);
+            }
+            statements.executeBatches();
+        }
+        return new SavedClients(ids, newPositions, persons.size() + 1);
+    }
+
+    /**
+     * Writes the rows of the clients in {@code persons} that have changed since they were saved as {@code lastSaved},
+     * and deletes the clients that are no longer in {@code persons}.
+     *
+     * @return the clients as saved, once the changes are committed.
+     */
+    private static SavedClients saveChanges(Connection connection, List<Person> persons, SavedClients lastSaved)
+            throws SQLException {
+        Map<Person, Long> savedIds = lastSaved.ids;
+        Map<Person, Long> savedPositions = lastSaved.positions;
+        long[] positions = ClientPositions.assign(persons, savedPositions);
+        Set<Person> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(persons);
+        // Saved clients that are no longer in the address book. A new client with the same name as one of them is
+        // the same client after an edit, so only the rows that differ are written.
+        Map<Name, Person> removedByName = new HashMap<>();
+        for (Person saved : savedIds.keySet()) {
+            if (!current.contains(saved)) {
+                removedByName.put(saved.getName(), saved);
+            }
+        }
+        Map<Integer, Person> replaced = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (!savedIds.containsKey(person) && removedByName.containsKey(person.getName())) {
+                replaced.put(i, removedByName.remove(person.getName()));
+            }
+        }
+
+        Map<Person, Long> ids = new IdentityHashMap<>();
+        Map<Person, Long> newPositions = new IdentityHashMap<>();
+        long firstUnusedId = lastSaved.nextId;
+        int changedClients = removedByName.size();
+        try (SaveStatements statements = new SaveStatements(connection)) {
+            // Deleted first, so that a renamed client can take the name of a deleted one.
+            for (Person removed : removedByName.values()) {
+                statements.deleteClient(savedIds.get(removed));
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                Long id = savedIds.get(person);
+                Person old = replaced.get(i);
+                if (id != null) {
+                    if (positions[i] != savedPositions.get(person)) {
+                        statements.updatePosition(id, positions[i]);
+                        changedClients++;
+                    }
+                } else if (old != null) {
+                    id = savedIds.get(old);
+                    statements.updateClient(id, old, savedPositions.get(old), person, positions[i]);
+                    changedClients++;
+                } else {
+                    id = firstUnusedId++;
+                    statements.insertClient(id, person, positions[i]);
+                    changedClients++;
+                }
+                ids.put(person, id);
+                newPositions.put(person, positions[i]);
+            }
+            statements.executeBatches();
+        }
+
+        int changed = changedClients;
+        logger.fine(() -> "Wrote the rows of " + changed + " of " + persons.size() + " clients");
+        return new SavedClients(ids, newPositions, firstUnusedId);
+    }
+
+    /**
+     * Returns the names of the saved clients with any of the words in {@code keywords} in their name, ignoring case,
+     * in the order of the address book. The same clients are found by
+     * {@link donnafin.model.person.NameContainsKeywordsPredicate}, but with an index rather than by reading every
+     * client.
+     *
+     * @throws IOException if the database could not be read.
+     */
+    public synchronized List<String> findClientNames(List<String> keywords) throws IOException {
+        requireNonNull(keywords);
+        if (keywords.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(keywords.size(), "?"));
+        String sql = "SELECT DISTINCT c.name, c.list_position FROM clients c "
+                + "JOIN client_name_words w ON w.client_id = c.id WHERE w.word IN (" + placeholders + ") "
+                + "ORDER BY c.list_position";
+        try (PreparedStatement statement = getConnection().prepareStatement(sql)) {
+            for (int i = 0; i < keywords.size(); i++) {
+                statement.setString(i + 1, keywords.get(i).trim().toLowerCase(Locale.ROOT));
+            }
+            List<String> names = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    names.add(rows.getString(1));
+                }
+            }
+            getConnection().commit();
+            return names;
+        } catch (SQLException e) {
+            throw new IOException("Could not search database of " + filePath, e);
+        }
+    }
+
+    /**
+     * Returns the total commission of every saved policy, in cents.
+     *
+     * @throws IOException if the database could not be read.
+     */
+    public long getTotalCommission() throws IOException {
+        return queryTotal("SELECT COALESCE(SUM(commission), 0) FROM policies");
+    }
+
+    /**
+     * Returns the total value of every saved asset, in cents.
+     *
+     * @throws IOException if the database could not be read.
+     */
+    public long getTotalAssetValue() throws IOException {
+        return queryTotal("SELECT COALESCE(SUM(amount), 0) FROM assets");
+    }
+
+    /**
+     * Returns the total value of every saved liability, in cents.
+     *
+     * @throws IOException if the database could not be read.
+     */
+    public long getTotalLiabilityValue() throws IOException {
+        return queryTotal("SELECT COALESCE(SUM(amount), 0) FROM liabilities");
+    }
+
+    private synchronized long queryTotal(String sql) throws IOException {
+        try (Statement statement = getConnection().createStatement();
+                ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            long total = rows.getLong(1);
+            getConnection().commit();
+            return total;
+        } catch (SQLException e) {
+            throw new IOException("Could not query database of " + filePath, e);
+        }
+    }
+
+    /**
+     * Returns the distinct words of {@code name}, in lower case, by which the client can be found.
+     */
+    private static Set<String> getNameWords(Name name) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : name.fullName.trim().split("\\s+")) {
+            words.add(word.toLowerCase(Locale.ROOT));
+        }
+        return words;
+    }
+
+    /**
+     * The statements of one save. Rows are inserted in batches, which are only run by {@link #executeBatches()}.
+     */
+    private static class SaveStatements implements AutoCloseable {
+        private final PreparedStatement insertClient;
+        private final PreparedStatement updateClient;
+        private final PreparedStatement updatePosition;
+        private final PreparedStatement deleteClient;
+        private final PreparedStatement insertNameWord;
+        private final PreparedStatement insertPolicy;
+        private final PreparedStatement deletePolicy;
+        private final PreparedStatement insertAsset;
+        private final PreparedStatement deleteAsset;
+        private final PreparedStatement insertLiability;
+        private final PreparedStatement deleteLiability;
+
+        SaveStatements(Connection connection) throws SQLException {
+            insertClient = connection.prepareStatement(INSERT_CLIENT);
+            updateClient = connection.prepareStatement(UPDATE_CLIENT);
+            updatePosition = connection.prepareStatement(UPDATE_POSITION);
+            deleteClient = connection.prepareStatement(DELETE_CLIENT);
+            insertNameWord = connection.prepareStatement(INSERT_NAME_WORD);
+            insertPolicy = connection.prepareStatement(INSERT_POLICY);
+            deletePolicy = connection.prepareStatement(DELETE_POLICY);
+            insertAsset = connection.prepareStatement(INSERT_ASSET);
+            deleteAsset = connection.prepareStatement(DELETE_ASSET);
+            insertLiability = connection.prepareStatement(INSERT_LIABILITY);
+            deleteLiability = connection.prepareStatement(DELETE_LIABILITY);
+        }
+
+        void insertClient(long id, Person person, long position) throws SQLException {
+            insertClient.setLong(1, id);
+            insertClient.setLong(2, position);
+            insertClient.setString(3, person.getName().fullName);
+            insertClient.setString(4, person.getPhone().value);
+            insertClient.setString(5, person.getEmail().value);
+            insertClient.setString(6, person.getAddress().value);
+            insertClient.setString(7, person.getNotes().notes);
+            insertClient.addBatch();
+            for (String word : getNameWords(person.getName())) {
+                insertNameWord.setLong(1, id);
+                insertNameWord.setString(2, word);
+                insertNameWord.addBatch();
+            }
+            for (Policy policy : person.getPolicies()) {
+                setPolicy(insertPolicy, id, policy);
+                insertPolicy.addBatch();
+            }
+            for (Asset asset : person.getAssets()) {
+                setHolding(insertAsset, id, asset.getName(), asset.getType(), asset.getValue(), asset.getRemarks());
+                insertAsset.addBatch();
+            }
+            for (Liability liability : person.getLiabilities()) {
+                setHolding(insertLiability, id, liability.getName(), liability.getType(), liability.getValue(),
+                        liability.getRemarks());
+                insertLiability.addBatch();
+            }
+        }
+
+        /**
+         * Changes the client {@code id} from {@code old} to {@code person}, which has the same name, by writing only
+         * the rows that differ.
+         */
+        void updateClient(long id, Person old, long oldPosition, Person person, long position) throws SQLException {
+            if (oldPosition != position || !old.getPhone().equals(person.getPhone())
+                    || !old.getEmail().equals(person.getEmail()) || !old.getAddress().equals(person.getAddress())
+                    || !old.getNotes().equals(person.getNotes())) {
+                updateClient.setLong(1, position);
+                updateClient.setString(2, person.getPhone().value);
+                updateClient.setString(3, person.getEmail().value);
+                updateClient.setString(4, person.getAddress().value);
+                updateClient.setString(5, person.getNotes().notes);
+                updateClient.setLong(6, id);
+                updateClient.executeUpdate();
+            }
+
+            // Every field of a policy, asset or liability is compared, so each one is deleted by all of its fields.
+            for (Policy policy : old.getPolicies()) {
+                if (!person.getPolicies().contains(policy)) {
+                    setPolicy(deletePolicy, id, policy);
+                    deletePolicy.executeUpdate();
+                }
+            }
+            for (Policy policy : person.getPolicies()) {
+                if (!old.getPolicies().contains(policy)) {
+                    setPolicy(insertPolicy, id, policy);
+                    insertPolicy.addBatch();
+                }
+            }
+            for (Asset asset : old.getAssets()) {
+                if (!person.getAssets().contains(asset)) {
+                    setHolding(deleteAsset, id, asset.getName(), asset.getType(), asset.getValue(),
+                            asset.getRemarks());
+                    deleteAsset.executeUpdate();
+                }
+            }
+            for (Asset asset : person.getAssets()) {
+                if (!old.getAssets().contains(asset)) {
+                    setHolding(insertAsset, id, asset.getName(), asset.getType(), asset.getValue(),
+                            asset.getRemarks());
+                    insertAsset.addBatch();
+                }
+            }
+            for (Liability liability : old.getLiabilities()) {
+                if (!person.getLiabilities().contains(liability)) {
+                    setHolding(deleteLiability, id, liability.getName(), liability.getType(), liability.getValue(),
+                            liability.getRemarks());
+                    deleteLiability.executeUpdate();
+                }
+            }
+            for (Liability liability : person.getLiabilities()) {
+                if (!old.getLiabilities().contains(liability)) {
+                    setHolding(insertLiability, id, liability.getName(), liability.getType(), liability.getValue(),
+                            liability.getRemarks());
+                    insertLiability.addBatch();
+                }
+            }
+        }
+
+        void updatePosition(long id, long position) throws SQLException {
+            updatePosition.setLong(1, position);
+            updatePosition.setLong(2, id);
+            updatePosition.executeUpdate();
+        }
+
+        void deleteClient(long id) throws SQLException {
+            // The client's other rows are deleted with it.
+            deleteClient.setLong(1, id);
+            deleteClient.executeUpdate();
+        }
+
+        /**
+         * Runs the batched inserts, clients first as the other rows refer to them.
+         */
+        void executeBatches() throws SQLException {
+            insertClient.executeBatch();
+            insertNameWord.executeBatch();
+            insertPolicy.executeBatch();
+            insertAsset.executeBatch();
+            insertLiability.executeBatch();
+        }
+
+        private static void setPolicy(PreparedStatement statement, long id, Policy policy) throws SQLException {
+            statement.setLong(1, id);
+            statement.setString(2, policy.getName());
+            statement.setString(3, policy.getInsurer());
+            statement.setLong(4, policy.getTotalValueInsured().getValue());
+            statement.setLong(5, policy.getYearlyPremiums().getValue());
+            statement.setLong(6, policy.getCommission().getValue());
+        }
+
+        private static void setHolding(PreparedStatement statement, long id, String name, String type, Money value,
+                String remarks) throws SQLException {
+            statement.setLong(1, id);
+            statement.setString(2, name);
+            statement.setString(3, type);
+            statement.setLong(4, value.getValue());
+            statement.setString(5, remarks);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (PreparedStatement statement : List.of(insertClient, updateClient, updatePosition, deleteClient,
+                    insertNameWord, insertPolicy, deletePolicy, insertAsset, deleteAsset, insertLiability,
+                    deleteLiability)) {
+                statement.close();
+            }
+        }
+    }
+
+    /**
+     * The clients in the database, with their ids and positions. Clients are compared by identity, which is enough as
+     * a changed client is a new Person.
+     */
+    private static class SavedClients {
+        private final Map<Person, Long> ids;
+        private final Map<Person, Long> positions;
+        // The lowest id that no client has
+        private final long nextId;
+
+        SavedClients(Map<Person, Long> ids, Map<Person, Long> positions, long nextId) {
+            this.ids = ids;
+            this.positions = positions;
+            this.nextId = nextId;
+        }
+    }
+}
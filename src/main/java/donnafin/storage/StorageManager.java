@@ -2,14 +2,18 @@ package donnafin.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import donnafin.commons.core.LogsCenter;
 import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.JsonChecksums;
 import donnafin.model.ReadOnlyAddressBook;
 import donnafin.model.ReadOnlyUserPrefs;
 import donnafin.model.UserPrefs;
+import donnafin.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -29,6 +33,23 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the storage of the address book at {@code filePath}: a database if {@code storageType} is SQL, and
+     * otherwise a Json file, split into {@code shardCount} shards if that is positive. The data file of a Json
+     * address book is locked while it is read or written, and can be watched for changes by other copies of the app,
+     * through the {@link WatchedAddressBookStorage} returned.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path filePath, UserPrefs.StorageType storageType,
+            int shardCount) {
+        if (storageType == UserPrefs.StorageType.SQL) {
+            return new SqlAddressBookStorage(filePath);
+        }
+        AddressBookStorage fileStorage = shardCount > 0
+                ? new ShardedJsonAddressBookStorage(filePath, shardCount)
+                : new JsonAddressBookStorage(filePath);
+        return new WatchedAddressBookStorage(fileStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -54,6 +75,11 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public List<Path> getDataFiles() {
+        return addressBookStorage.getDataFiles();
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
@@ -61,20 +87,46 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> salvageAddressBook() throws DataConversionException, IOException {
+        logger.fine(() -> "Attempting to salvage data from file: " + getAddressBookFilePath());
+        return addressBookStorage.salvageAddressBook();
+    }
+
+    @Override
+    public boolean readAddressBook(int batchSize, Consumer<List<Person>> batchConsumer)
+            throws DataConversionException, IOException {
+        logger.fine(() -> "Attempting to read data in batches from file: " + getAddressBookFilePath());
+        return addressBookStorage.readAddressBook(batchSize, batchConsumer);
+    }
+
+    @Override
+    public Optional<JsonChecksums.Report> verifyAddressBook() throws IOException {
+        logger.fine(() -> "Attempting to verify data file: " + getAddressBookFilePath());
+        return addressBookStorage.verifyAddressBook();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        logger.fine("Attempting to save " + addressBook + " data to file");
+        logger.fine(() -> "Attempting to save " + addressBook + " data to file");
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to save " + addressBook + " data to file: " + filePath);
+        logger.fine(() -> "Attempting to save " + addressBook + " data to file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void replaceAddressBook(ReadOnlyAddressBook addressBook, Path copyDirectory) throws IOException {
+        logger.fine(() -> "Attempting to replace the data file with " + addressBook + ", copying it to "
+                + copyDirectory);
+        addressBookStorage.replaceAddressBook(addressBook, copyDirectory);
+    }
+
 }
@@ -0,0 +1,358 @@
+package donnafin.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import donnafin.commons.core.LogsCenter;
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonChecksums;
+import donnafin.commons.util.StringUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.AddressBookSnapshot;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+
+/**
+ * Wraps an {@code AddressBookStorage} whose data file may be shared with other copies of DonnaFin, e.g. through a
+ * shared drive.
+ * <p>
+ * The data file is only read or written while holding a lock on a file beside it, e.g. {@code donnafin.json.lock},
+ * so that two copies never write it at the same time, or read it while it is half written. Changes made to the data
+ * file by another copy can be watched for, and are handed over to be merged into the model, along with the address
+ * book that the model last matched, so that changes made in the model since are kept. Until they have been merged,
+ * saving fails rather than overwriting them.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage, AutoCloseable {
+
+    public static final String MESSAGE_CHANGED_ELSEWHERE = "The data file %1$s was changed by another copy of "
+            + "DonnaFin. Its changes will be merged with yours, and the result saved.";
+    public static final String MESSAGE_MERGE_CONFLICTS = "These clients were changed both here and by another copy of "
+            + "DonnaFin. Your changes were kept, and clients you deleted that were edited there were restored: %1$s";
+
+    static final String LOCK_FILE_SUFFIX = ".lock";
+    /** How long to wait for a change to the data file to finish before reading it. */
+    static final long SETTLE_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final Path filePath;
+    private final Path lockFilePath;
+
+    // The data file as it was when the model last matched it: when it was read or saved, or when a change to it was
+    // merged into the model. Only saved over if it is still this way.
+    private FileStamp knownStamp;
+    // The address book in the data file when it was as knownStamp, which changes to it are merged against.
+    private ReadOnlyAddressBook knownAddressBook = new AddressBook();
+    // The data file as it was when it was last read, so that a change is only handed over once.
+    private FileStamp readStamp;
+    private WatchService watchService;
+
+    /**
+     * Creates a storage that locks and watches the data file of {@code storage}.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.filePath = storage.getAddressBookFilePath();
+        this.lockFilePath = getLockFile(filePath);
+    }
+
+    /**
+     * Returns the lock file of the data file at {@code filePath}.
+     */
+    public static Path getLockFile(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + LOCK_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Path> getDataFiles() {
+        return storage.getDataFiles();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        if (!filePath.equals(this.filePath)) {
+            return storage.readAddressBook(filePath);
+        }
+        try (FileChannel lock = lock()) {
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+            knownStamp = readStamp = FileStamp.of(filePath);
+            knownAddressBook = copyOf(addressBook.orElseGet(AddressBook::new));
+            return addressBook;
+        }
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> salvageAddressBook()
+            throws DataConversionException, IOException {
+        try (FileChannel lock = lock()) {
+            Optional<ReadOnlyAddressBook> addressBook = storage.salvageAddressBook();
+            knownStamp = readStamp = FileStamp.of(filePath);
+            knownAddressBook = copyOf(addressBook.orElseGet(AddressBook::new));
+            return addressBook;
+        }
+    }
+
+    @Override
+    public synchronized boolean readAddressBook(int batchSize, Consumer<List<Person>> batchConsumer)
+            throws DataConversionException, IOException {
+        try (FileChannel lock = lock()) {
+            List<Person> persons = new ArrayList<>();
+            boolean isFound = storage.readAddressBook(batchSize, batch -> {
+                persons.addAll(batch);
+                batchConsumer.accept(batch);
+            });
+            knownStamp = readStamp = FileStamp.of(filePath);
+            knownAddressBook = new AddressBookSnapshot(0, persons);
+            return isFound;
+        }
+    }
+
+    @Override
+    public synchronized Optional<JsonChecksums.Report> verifyAddressBook() throws IOException {
+        try (FileChannel lock = lock()) {
+            return storage.verifyAddressBook();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @throws IOException if there was an error writing to the file, or if {@code filePath} is the data file of this
+     *     storage and it has been changed by another copy of DonnaFin since it was last read, saved or merged.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(this.filePath)) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        try (FileChannel lock = lock()) {
+            if (!Objects.equals(FileStamp.of(filePath), knownStamp)) {
+                throw new IOException(String.format(MESSAGE_CHANGED_ELSEWHERE, filePath));
+            }
+            storage.saveAddressBook(addressBook, filePath);
+            knownStamp = readStamp = FileStamp.of(filePath);
+            knownAddressBook = copyOf(addressBook);
+        }
+    }
+
+    /**
+     * Similar to {@link AddressBookStorage#replaceAddressBook(ReadOnlyAddressBook, Path)}. The data files are copied
+     * and saved over while holding the lock, so that no other copy of DonnaFin changes them in between. Unlike
+     * {@link #saveAddressBook(ReadOnlyAddressBook)}, this saves over changes made by another copy, which are kept in
+     * the copies.
+     */
+    @Override
+    public synchronized void replaceAddressBook(ReadOnlyAddressBook addressBook, Path copyDirectory)
+            throws IOException {
+        try (FileChannel lock = lock()) {
+            storage.replaceAddressBook(addressBook, copyDirectory);
+            knownStamp = readStamp = FileStamp.of(filePath);
+            knownAddressBook = copyOf(addressBook);
+        }
+    }
+
+    /**
+     * Returns an unchangeable copy of {@code addressBook}, which is {@code addressBook} itself if it is a snapshot.
+     */
+    private static ReadOnlyAddressBook copyOf(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBookSnapshot
+                ? addressBook
+                : new AddressBookSnapshot(0, addressBook.getPersonList());
+    }
+
+    /**
+     * Locks the lock file, waiting until no other copy of DonnaFin holds it, and returns the channel of the lock
+     * file, which is unlocked when closed.
+     * Must be called while holding this storage's monitor, as a lock is held by the whole JVM.
+     */
+    private FileChannel lock() throws IOException {
+        FileUtil.createParentDirsOfFile(lockFilePath);
+        FileChannel channel = FileChannel.open(lockFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            channel.lock();
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts watching the data file on a new background thread. When it is changed by another copy of DonnaFin,
+     * {@code onChange} is given the address book that the model last matched and the changed address book, on
+     * {@code appThread}, which is the thread that saves are made from. Saving is allowed again from within
+     * {@code onChange}, so it can save the model once the changes are merged into it.
+     *
+     * @throws IOException if the directory of the data file cannot be watched.
+     */
+    public synchronized void startWatching(Executor appThread,
+            BiConsumer<ReadOnlyAddressBook, ReadOnlyAddressBook> onChange)
+            throws IOException {
+        requireNonNull(appThread);
+        requireNonNull(onChange);
+        assert watchService == null : "The data file is already being watched";
+        Path directory = filePath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        WatchService service = watchService;
+        Thread thread = new Thread(() -> watch(service, appThread, onChange), "DonnaFin-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info(() -> "Watching " + filePath + " for changes by other copies of DonnaFin");
+    }
+
+    private void watch(WatchService service, Executor appThread,
+            BiConsumer<ReadOnlyAddressBook, ReadOnlyAddressBook> onChange) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean isDataFileChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    isDataFileChanged |= filePath.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (isDataFileChanged) {
+                    // A change is often seen as several events, so wait for them all before reading the file once.
+                    Thread.sleep(SETTLE_MILLIS);
+                    service.poll();
+                    checkForChanges(appThread, onChange);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine(() -> "Stopped watching " + filePath);
+        }
+    }
+
+    /**
+     * Reads the data file if it has been changed since it was last read or saved, and gives the address book that
+     * the model last matched and the changed address book to {@code onChange} on {@code appThread}.
+     *
+     * @return true if the data file had been changed.
+     */
+    boolean checkForChanges(Executor appThread, BiConsumer<ReadOnlyAddressBook, ReadOnlyAddressBook> onChange) {
+        ReadOnlyAddressBook addressBook;
+        FileStamp stamp;
+        synchronized (this) {
+            try (FileChannel lock = lock()) {
+                stamp = FileStamp.of(filePath);
+                if (stamp == null || stamp.equals(readStamp)) {
+                    return false;
+                }
+                readStamp = stamp;
+                Optional<ReadOnlyAddressBook> read = storage.readAddressBook(filePath);
+                if (read.isEmpty()) {
+                    return false;
+                }
+                addressBook = read.get();
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not read " + filePath + " after it was changed by another copy of DonnaFin "
+                        + StringUtil.getDetails(e));
+                return false;
+            }
+        }
+        logger.info(() -> filePath + " was changed by another copy of DonnaFin");
+        appThread.execute(() -> {
+            ReadOnlyAddressBook base;
+            synchronized (this) {
+                // Taken on the app thread, as changes read earlier may have been merged and saved since
+                base = knownAddressBook;
+                knownStamp = stamp;
+                knownAddressBook = copyOf(addressBook);
+            }
+            onChange.accept(base, addressBook);
+        });
+        return true;
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * The last modified time and size of a file, by which a change to it is noticed.
+     */
+    private static class FileStamp {
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        private FileStamp(FileTime lastModifiedTime, long size) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        /**
+         * Returns the stamp of the file at {@code filePath}, or null if there is no such file.
+         */
+        static FileStamp of(Path filePath) throws IOException {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+                return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof FileStamp
+                    && lastModifiedTime.equals(((FileStamp) other).lastModifiedTime)
+                    && size == ((FileStamp) other).size);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import donnafin.commons.core.LogsCenter;
 import donnafin.logic.Logic;
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.commands.CommandResult;
+import donnafin.logic.commands.exceptions.AddressBookNotLoadedException;
 import donnafin.logic.commands.exceptions.CommandException;
 import donnafin.logic.parser.exceptions.ParseException;
 import javafx.event.ActionEvent;
@@ -202,6 +203,11 @@ public class MainWindow extends UiPart<Stage> {
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             return commandResult;
+        } catch (AddressBookNotLoadedException e) {
+            logger.info("Waiting for the address book to load before running: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            uiManager.whenAddressBookLoaded(() -> executeDeferredCommand(commandText));
+            return new CommandResult(e.getMessage());
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
@@ -209,6 +215,26 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Executes a command that had to wait for the address book to load. Its result, or the reason it failed,
+     * is shown to the user in the same way as that of any other command.
+     */
+    private void executeDeferredCommand(String commandText) {
+        try {
+            executeCommand(commandText);
+        } catch (CommandException | ParseException e) {
+            // Already shown to the user by executeCommand.
+        }
+    }
+
+    /**
+     * Shows {@code message} in the result display, as the result of a command is shown.
+     */
+    public void showMessage(String message) {
+        logger.info(() -> "Message: " + message);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     /** Show Client View */
     public void showClientView(PersonAdapter subject) {
         clientPanel = new ClientPanel(subject, this::executeCommand);
@@ -32,5 +32,11 @@ public interface Ui {
 
     void showHome();
 
+    /**
+     * Shows {@code message} to the user, e.g. about something that happened outside of a command. Can be called from
+     * any thread.
+     */
+    void showMessage(String message);
+
     ViewFinderState getUiState();
 }
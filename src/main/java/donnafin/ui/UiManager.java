@@ -117,6 +117,15 @@ public class UiManager implements Ui {
         uiState.setStatePersonListPanel();
     }
 
+    @Override
+    public void showMessage(String message) {
+        if (Platform.isFxApplicationThread()) {
+            mainWindow.showMessage(message);
+        } else {
+            Platform.runLater(() -> mainWindow.showMessage(message));
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -186,6 +195,15 @@ public class UiManager implements Ui {
         return commandResult;
     }
 
+    /**
+     * Runs {@code action} once the whole address book has been loaded.
+     *
+     * @see Logic#whenAddressBookLoaded(Runnable)
+     */
+    public void whenAddressBookLoaded(Runnable action) {
+        logic.whenAddressBookLoaded(action);
+    }
+
     //For testing purposes. See UiManager Test for more info
     @Override
     public boolean equals(Object o) {
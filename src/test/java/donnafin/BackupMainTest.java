@@ -0,0 +1,67 @@
+package donnafin;
+
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.model.AddressBook;
+import donnafin.model.UserPrefs;
+import donnafin.storage.AddressBookStorage;
+import donnafin.storage.BackupStore;
+import donnafin.storage.JsonAddressBookStorage;
+import donnafin.storage.ShardedJsonAddressBookStorage;
+import donnafin.storage.StorageManager;
+import donnafin.storage.WatchedAddressBookStorage;
+
+public class BackupMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getRestoreCopyDirectory_dataFile_besideDataFile() {
+        assertEquals(Path.of("data", "donnafin-before-restore-19700101-000000-001"),
+                BackupMain.getRestoreCopyDirectory(Path.of("data", "donnafin.json"), Instant.ofEpochMilli(1)));
+    }
+
+    @Test
+    public void restore_damagedDataFile_copiedAsItIsAndBackupRestored() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        BackupStore backupStore = new BackupStore(testFolder.resolve("backups"), 2);
+        AddressBook original = getTypicalAddressBook();
+        String snapshotId = backupStore.backUp(original).orElseThrow().getId();
+        Files.writeString(filePath, "not a data file");
+        AddressBookStorage storage = StorageManager.createAddressBookStorage(filePath, UserPrefs.StorageType.JSON, 0);
+        Path copyDirectory = testFolder.resolve("copy");
+
+        assertEquals(original.getPersonList().size(), BackupMain.restore(backupStore, snapshotId, storage,
+                copyDirectory));
+        assertEquals("not a data file", Files.readString(copyDirectory.resolve("donnafin.json")));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        // Written while holding the lock, as DonnaFin does
+        assertTrue(Files.exists(WatchedAddressBookStorage.getLockFile(filePath)));
+    }
+
+    @Test
+    public void restore_shardedDataFile_shardsCopiedAndRestoredAsShards() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        BackupStore backupStore = new BackupStore(testFolder.resolve("backups"), 2);
+        AddressBook original = getTypicalAddressBook();
+        String snapshotId = backupStore.backUp(original).orElseThrow().getId();
+        new ShardedJsonAddressBookStorage(filePath, 4).saveAddressBook(new AddressBook());
+        AddressBookStorage storage = StorageManager.createAddressBookStorage(filePath, UserPrefs.StorageType.JSON, 4);
+        Path copyDirectory = testFolder.resolve("copy");
+
+        BackupMain.restore(backupStore, snapshotId, storage, copyDirectory);
+        assertTrue(Files.isRegularFile(copyDirectory.resolve("donnafin.json")));
+        assertTrue(Files.isDirectory(copyDirectory.resolve("donnafin-shards")));
+        assertEquals(original, new ShardedJsonAddressBookStorage(filePath, 4).readAddressBook().get());
+    }
+}
@@ -0,0 +1,203 @@
+package donnafin.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.commons.core.AsyncLogHandler.QueueFullPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncLogHandler(0, QueueFullPolicy.BLOCK, List.of()));
+    }
+
+    @Test
+    public void flush_recordsPublished_allWrittenInOrder() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(4, QueueFullPolicy.BLOCK, List.of(recorder));
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        List<String> messages = recorder.getMessages();
+        assertEquals(100, messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, messages.get(i));
+        }
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(4, QueueFullPolicy.BLOCK, List.of(recorder));
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "hidden"));
+        handler.publish(new LogRecord(Level.INFO, "shown"));
+        handler.flush();
+
+        assertEquals(List.of("shown"), recorder.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_throughLogger_sourceIsCallerNotWriterThread() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(4, QueueFullPolicy.BLOCK, List.of(recorder));
+        Logger logger = Logger.getLogger(AsyncLogHandlerTest.class.getName());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        try {
+            logger.info("hello");
+            handler.flush();
+        } finally {
+            logger.removeHandler(handler);
+            handler.close();
+        }
+
+        LogRecord record = recorder.getRecords().get(0);
+        assertEquals(AsyncLogHandlerTest.class.getName(), record.getSourceClassName());
+        assertEquals("publish_throughLogger_sourceIsCallerNotWriterThread", record.getSourceMethodName());
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_recordsDroppedAndReported() throws InterruptedException {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(2, QueueFullPolicy.DROP, List.of(recorder));
+
+        // Hold the writer inside the first record so that the queue fills up behind it.
+        recorder.block();
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(recorder.awaitBlocked());
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "extra " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        recorder.unblock();
+        handler.flush();
+        handler.publish(new LogRecord(Level.INFO, "last"));
+        handler.flush();
+
+        String warning = String.format(AsyncLogHandler.MESSAGE_DROPPED_RECORDS, 3);
+        List<String> messages = recorder.getMessages();
+        assertTrue(messages.contains(warning));
+        messages.remove(warning);
+        assertEquals(List.of("first", "extra 0", "extra 1", "last"), messages);
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithBlockPolicy_noRecordsLost() throws InterruptedException {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(1, QueueFullPolicy.BLOCK, List.of(recorder));
+
+        recorder.block();
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(recorder.awaitBlocked());
+        handler.publish(new LogRecord(Level.INFO, "queued"));
+
+        CountDownLatch published = new CountDownLatch(1);
+        Thread publisher = new Thread(() -> {
+            handler.publish(new LogRecord(Level.INFO, "waiting"));
+            published.countDown();
+        });
+        publisher.start();
+        assertFalse(published.await(100, TimeUnit.MILLISECONDS));
+
+        recorder.unblock();
+        assertTrue(published.await(5, TimeUnit.SECONDS));
+        handler.flush();
+
+        assertEquals(List.of("first", "queued", "waiting"), recorder.getMessages());
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void close_recordsQueued_writtenBeforeHandlersClosed() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(64, QueueFullPolicy.BLOCK, List.of(recorder));
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(50, recorder.getMessages().size());
+        assertTrue(recorder.isClosed);
+
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals(50, recorder.getMessages().size());
+    }
+
+    /**
+     * A handler that keeps the records it is given, and can be made to wait inside {@code publish}.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch released = new CountDownLatch(0);
+        private volatile boolean isClosed = false;
+
+        void block() {
+            released = new CountDownLatch(1);
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        void unblock() {
+            released.countDown();
+        }
+
+        List<LogRecord> getRecords() {
+            synchronized (records) {
+                return new ArrayList<>(records);
+            }
+        }
+
+        List<String> getMessages() {
+            return getRecords().stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
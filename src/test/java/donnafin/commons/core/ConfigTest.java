@@ -1,6 +1,7 @@
 package donnafin.commons.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,10 @@ public class ConfigTest {
         Config defaultConfig = new Config();
         assertNotNull(defaultConfig);
         assertEquals(defaultConfig, defaultConfig);
+
+        Config dropConfig = new Config();
+        dropConfig.setLogQueueFullPolicy(AsyncLogHandler.QueueFullPolicy.DROP);
+        assertNotEquals(defaultConfig, dropConfig);
     }
 
 
@@ -0,0 +1,114 @@
+package donnafin.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getLast());
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        Histogram histogram = new Histogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.1));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(20, histogram.getMax());
+        assertEquals(10.5, histogram.getMean());
+        assertEquals(20, histogram.getLast());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinThreePercent() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertWithinThreePercent(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinThreePercent(99_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(100_000, histogram.getCount());
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void bucketOf_boundaries_consistentWithHighestValueIn() {
+        long[] values = {0, 31, 32, 33, 63, 64, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(value <= Histogram.highestValueIn(bucket));
+            if (bucket > 0) {
+                assertTrue(value > Histogram.highestValueIn(bucket - 1));
+            }
+        }
+        assertEquals(Long.MAX_VALUE, Histogram.highestValueIn(Histogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void record_concurrentThreads_noValuesLost() throws InterruptedException {
+        Histogram histogram = new Histogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    @Test
+    public void getSummary_matchesHistogram() {
+        Histogram histogram = new Histogram();
+        histogram.record(3);
+        histogram.record(7);
+        Histogram.Summary summary = histogram.getSummary();
+        assertEquals(2, summary.getCount());
+        assertEquals(3, summary.getP50());
+        assertEquals(7, summary.getP99());
+        assertEquals(7, summary.getMax());
+        assertEquals(5, summary.getMean());
+    }
+
+    private static void assertWithinThreePercent(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.03, "expected about " + expected + " but was " + actual);
+    }
+}
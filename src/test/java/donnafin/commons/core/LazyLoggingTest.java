@@ -0,0 +1,96 @@
+package donnafin.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ensures that log messages on the command and save paths are only built if they will be logged.
+ * Messages of {@code info} and lower levels that are built from several parts must be passed as a
+ * {@code Supplier<String>}, e.g. {@code logger.fine(() -> "Created " + person)}, so that nothing is built when
+ * the level is disabled.
+ */
+public class LazyLoggingTest {
+
+    private static final Path MAIN_SOURCE_FOLDER = Paths.get("src", "main", "java", "donnafin");
+    private static final List<String> CHECKED_PACKAGES = List.of("logic", "model", "storage");
+
+    /** Start of a call that logs at INFO or below, up to the opening bracket of its argument list. */
+    private static final Pattern LOG_CALL = Pattern.compile("\\blogger\\.(info|config|fine|finer|finest)\\(");
+    private static final Pattern LAMBDA = Pattern.compile("^\\(\\)\\s*->");
+
+    @Test
+    public void eagerMessage_detected() {
+        assertEquals(List.of("Test.java:1"),
+                findEagerLogCalls("Test.java", "logger.fine(\"Created \" + person);"));
+        assertEquals(List.of("Test.java:2"),
+                findEagerLogCalls("Test.java", "\nlogger.info(String.format(\"%s\",\n person));"));
+        assertTrue(findEagerLogCalls("Test.java", "logger.fine(() -> \"Created \" + person);").isEmpty());
+        assertTrue(findEagerLogCalls("Test.java", "logger.info(\"Constant message\");").isEmpty());
+        assertTrue(findEagerLogCalls("Test.java", "logger.warning(\"Failed: \" + e);").isEmpty());
+    }
+
+    @Test
+    public void commandAndSavePaths_noEagerMessages() throws IOException {
+        List<String> violations = new ArrayList<>();
+        for (String checkedPackage : CHECKED_PACKAGES) {
+            try (Stream<Path> files = Files.walk(MAIN_SOURCE_FOLDER.resolve(checkedPackage))) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".java")).collect(Collectors.toList())) {
+                    violations.addAll(findEagerLogCalls(file.toString(), Files.readString(file)));
+                }
+            }
+        }
+        assertEquals(List.of(), violations, "Log messages should be passed as a Supplier<String>");
+    }
+
+    /**
+     * Returns the file name and line number of every call in {@code source} that builds a log message eagerly.
+     */
+    private static List<String> findEagerLogCalls(String fileName, String source) {
+        List<String> violations = new ArrayList<>();
+        Matcher matcher = LOG_CALL.matcher(source);
+        while (matcher.find()) {
+            String argument = source.substring(matcher.end(), findClosingBracket(source, matcher.end())).trim();
+            boolean isBuilt = argument.contains("+") || argument.contains("String.format(");
+            if (isBuilt && !LAMBDA.matcher(argument).find()) {
+                int lineNumber = source.substring(0, matcher.start()).split("\n", -1).length;
+                violations.add(fileName + ":" + lineNumber);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Returns the index of the bracket that closes the argument list starting at {@code start}.
+     * Brackets in string literals are ignored.
+     */
+    private static int findClosingBracket(String source, int start) {
+        int depth = 1;
+        boolean isInString = false;
+        for (int i = start; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\\' && isInString) {
+                i++;
+            } else if (c == '"') {
+                isInString = !isInString;
+            } else if (!isInString && c == '(') {
+                depth++;
+            } else if (!isInString && c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return source.length();
+    }
+}
@@ -0,0 +1,64 @@
+package donnafin.commons.core;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.util.FileUtil;
+import donnafin.commons.util.JsonUtil;
+
+public class MetricsCenterTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @BeforeEach
+    public void clearMetrics() {
+        MetricsCenter.clear();
+    }
+
+    @Test
+    public void getTimer_sameName_sameHistogram() {
+        assertSame(MetricsCenter.getTimer("a"), MetricsCenter.getTimer("a"));
+        assertThrows(NullPointerException.class, () -> MetricsCenter.getTimer(null));
+        assertThrows(NullPointerException.class, () -> MetricsCenter.getSize(null));
+    }
+
+    @Test
+    public void getTimerSummaries_sortedByName() {
+        MetricsCenter.getTimer("command.list").record(5);
+        MetricsCenter.getTimer("command.add").record(10);
+        MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).record(100);
+
+        Map<String, Histogram.Summary> timers = MetricsCenter.getTimerSummaries();
+        assertEquals(List.of("command.add", "command.list"), List.copyOf(timers.keySet()));
+        assertEquals(10, timers.get("command.add").getMax());
+        assertEquals(List.of(MetricsCenter.SAVE_SIZE), List.copyOf(MetricsCenter.getSizeSummaries().keySet()));
+    }
+
+    @Test
+    public void saveMetrics_writesTimersAndSizes() throws Exception {
+        MetricsCenter.getTimer("command.add").record(10);
+        MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).record(100);
+        Path filePath = tempDir.resolve("metrics.json");
+
+        MetricsCenter.saveMetrics(filePath);
+
+        String json = FileUtil.readFromFile(filePath);
+        Map<?, ?> report = JsonUtil.fromJsonString(json, Map.class);
+        Map<?, ?> timers = (Map<?, ?>) report.get("timersInNanoseconds");
+        Map<?, ?> sizes = (Map<?, ?>) report.get("sizesInBytes");
+        assertEquals(1, ((Map<?, ?>) timers.get("command.add")).get("count"));
+        assertEquals(100, ((Map<?, ?>) sizes.get(MetricsCenter.SAVE_SIZE)).get("max"));
+        assertTrue(json.contains("p99"));
+    }
+}
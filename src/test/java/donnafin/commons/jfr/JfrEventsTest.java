@@ -0,0 +1,127 @@
+package donnafin.commons.jfr;
+
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.util.JsonUtil;
+import donnafin.logic.LogicManager;
+import donnafin.logic.parser.ArgumentTokenizer;
+import donnafin.logic.parser.CliSyntax;
+import donnafin.model.AddressBook;
+import donnafin.model.ModelManager;
+import donnafin.model.UserPrefs;
+import donnafin.model.person.UniquePersonList;
+import donnafin.storage.JsonAddressBookStorage;
+import donnafin.storage.JsonUserPrefsStorage;
+import donnafin.storage.StorageManager;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrEventsTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void commandEvent_recorded() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(tempDir.resolve("donnafin.json")),
+                new JsonUserPrefsStorage(tempDir.resolve("prefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(new AddressBook(), new UserPrefs(), storage));
+
+        List<RecordedEvent> events = record(() -> logic.execute("LIST"), "donnafin.Command", "donnafin.JsonFile");
+
+        RecordedEvent command = only(events, "donnafin.Command");
+        assertEquals("list", command.getString("commandWord"));
+        assertEquals(0, command.getInt("clientCount"));
+        assertTrue(command.getBoolean("succeeded"));
+
+        RecordedEvent save = only(events, "donnafin.JsonFile");
+        assertEquals(JsonFileEvent.WRITE, save.getString("operation"));
+        assertEquals(tempDir.resolve("donnafin.json").toString(), save.getString("path"));
+        assertTrue(save.getLong("bytes") > 0);
+    }
+
+    @Test
+    public void jsonFileEvent_read_recorded() throws Exception {
+        Path filePath = tempDir.resolve("prefs.json");
+        JsonUtil.saveJsonFile(new UserPrefs(), filePath);
+
+        List<RecordedEvent> events = record(() -> JsonUtil.readJsonFile(filePath, UserPrefs.class),
+                "donnafin.JsonFile");
+
+        RecordedEvent read = only(events, "donnafin.JsonFile");
+        assertEquals(JsonFileEvent.READ, read.getString("operation"));
+        assertTrue(read.getBoolean("succeeded"));
+        assertTrue(read.getLong("bytes") > 0);
+    }
+
+    @Test
+    public void tokenizeEvent_recorded() throws Exception {
+        List<RecordedEvent> events = record(() -> ArgumentTokenizer.tokenize(" n/Amy p/123",
+                CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE), "donnafin.Tokenize");
+
+        RecordedEvent tokenize = only(events, "donnafin.Tokenize");
+        assertEquals(12, tokenize.getInt("argumentsLength"));
+        assertEquals(2, tokenize.getInt("prefixCount"));
+    }
+
+    @Test
+    public void clientListEvent_recorded() throws Exception {
+        UniquePersonList list = new UniquePersonList();
+
+        List<RecordedEvent> events = record(() -> {
+            list.add(ALICE);
+            list.addAll(List.of(BOB));
+            list.remove(ALICE);
+            return null;
+        }, "donnafin.ClientListChange");
+
+        assertEquals(List.of("add", "addAll", "remove"), events.stream()
+                .map(event -> event.getString("operation")).collect(Collectors.toList()));
+        assertEquals(List.of(1, 2, 1), events.stream()
+                .map(event -> event.getInt("clientCount")).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the events named {@code eventNames} that are emitted while {@code action} runs.
+     */
+    private List<RecordedEvent> record(Action action, String... eventNames) throws Exception {
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> List.of(eventNames).contains(event.getEventType().getName()))
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String eventName) {
+        List<RecordedEvent> matches = events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+        assertEquals(1, matches.size());
+        return matches.get(0);
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        Object run() throws Exception;
+    }
+}
@@ -0,0 +1,83 @@
+package donnafin.commons.util;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+    }
+
+    @Test
+    public void parseLine_unquotedFields_success() throws Exception {
+        assertEquals(List.of("a", "b", "c"), CsvUtil.parseLine("a,b,c"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", "", ""), CsvUtil.parseLine("a,,"));
+        assertEquals(List.of(" a ", "b"), CsvUtil.parseLine(" a ,b"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_success() throws Exception {
+        assertEquals(List.of("311, Clementi Ave 2", "x"), CsvUtil.parseLine("\"311, Clementi Ave 2\",x"));
+        assertEquals(List.of("He said \"hi\""), CsvUtil.parseLine("\"He said \"\"hi\"\"\""));
+        assertEquals(List.of("", "a"), CsvUtil.parseLine("\"\",a"));
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.parseLine("\"abc,def"));
+    }
+
+    @Test
+    public void parseLine_characterAfterClosingQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNEXPECTED_QUOTE, () ->
+                CsvUtil.parseLine("\"abc\"def,ghi"));
+    }
+
+    @Test
+    public void toLine_roundTrip_success() throws Exception {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", "");
+        String line = CsvUtil.toLine(fields);
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",", line);
+        assertEquals(fields, CsvUtil.parseLine(line));
+    }
+
+    @Test
+    public void toLine_lineBreakInField_quotedAndRoundTrips() throws Exception {
+        List<String> fields = List.of("first line\nsecond line", "x");
+        String line = CsvUtil.toLine(fields);
+        assertEquals("\"first line\nsecond line\",x", line);
+        assertEquals(fields, CsvUtil.parseLine(line));
+    }
+
+    @Test
+    public void endsInQuotedField() {
+        assertFalse(CsvUtil.endsInQuotedField("a,b", false));
+        assertFalse(CsvUtil.endsInQuotedField("\"a, b\",c", false));
+        assertFalse(CsvUtil.endsInQuotedField("\"He said \"\"hi\"\"\"", false));
+        assertTrue(CsvUtil.endsInQuotedField("a,\"first line", false));
+        assertTrue(CsvUtil.endsInQuotedField("a,\"He said \"\"hi", false));
+
+        // Quotes that do not start a field do not open a quoted field
+        assertFalse(CsvUtil.endsInQuotedField("Shaun O\"Brien,91234567", false));
+        assertFalse(CsvUtil.endsInQuotedField("a,b\"", false));
+        assertFalse(CsvUtil.endsInQuotedField("\"a\"b\",c", false));
+
+        // Lines after the first continue the quoted field they start in
+        assertFalse(CsvUtil.endsInQuotedField("second line\",c", true));
+        assertTrue(CsvUtil.endsInQuotedField("second \"\"line", true));
+        assertTrue(CsvUtil.endsInQuotedField("", true));
+        assertTrue(CsvUtil.endsInQuotedField("end\",\"next field", true));
+    }
+}
@@ -0,0 +1,67 @@
+package donnafin.commons.util;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileCompressionTest {
+
+    private static final byte[] CONTENT = "{ \"persons\" : [ ] }\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of() {
+        assertEquals(FileCompression.NONE, FileCompression.of(Path.of("data", "donnafin.json")));
+        assertEquals(FileCompression.GZIP, FileCompression.of(Path.of("data", "donnafin.json.gz")));
+        assertEquals(FileCompression.DEFLATE, FileCompression.of(Path.of("data", "donnafin.json.deflate")));
+
+        // Only the end of the file name is used
+        assertEquals(FileCompression.NONE, FileCompression.of(Path.of("data.gz", "donnafin.json")));
+        assertEquals(FileCompression.NONE, FileCompression.of(Path.of("donnafin.gzip")));
+
+        assertThrows(NullPointerException.class, () -> FileCompression.of(null));
+    }
+
+    @Test
+    public void stripExtension() {
+        assertEquals("donnafin.json", FileCompression.GZIP.stripExtension("donnafin.json.gz"));
+        assertEquals("donnafin.json", FileCompression.GZIP.stripExtension("donnafin.json"));
+        assertEquals("donnafin.json", FileCompression.NONE.stripExtension("donnafin.json"));
+    }
+
+    @Test
+    public void newOutputStreamAndNewInputStream_everyCompression_sameContent() throws IOException {
+        for (FileCompression compression : FileCompression.values()) {
+            Path filePath = testFolder.resolve("file.json" + compression.getExtension());
+            try (OutputStream out = FileCompression.newOutputStream(filePath)) {
+                out.write(CONTENT);
+            }
+            try (InputStream in = FileCompression.newInputStream(filePath)) {
+                assertArrayEquals(CONTENT, in.readAllBytes());
+            }
+            if (compression != FileCompression.NONE) {
+                assertTrue(Files.size(filePath) < CONTENT.length / 10);
+            }
+        }
+    }
+
+    @Test
+    public void newInputStream_notCompressed_throwsIoException() throws IOException {
+        Path filePath = testFolder.resolve("file.json.gz");
+        Files.write(filePath, CONTENT);
+        assertThrows(IOException.class, () -> FileCompression.newInputStream(filePath).close());
+    }
+}
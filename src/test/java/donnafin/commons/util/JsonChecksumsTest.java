@@ -0,0 +1,205 @@
+package donnafin.commons.util;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import donnafin.testutil.SerializableTestClass;
+
+public class JsonChecksumsTest {
+
+    private static final String FIELD = "values";
+
+    @TempDir
+    public Path testFolder;
+
+    private List<String> jsonValues;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        jsonValues = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            SerializableTestClass value = new SerializableTestClass();
+            value.setTestValues();
+            jsonValues.add(JsonUtil.toJsonArrayElement(FIELD, value));
+        }
+    }
+
+    private Path save(String fileName) throws IOException {
+        Path filePath = testFolder.resolve(fileName);
+        assertEquals(jsonValues.size(),
+                JsonUtil.saveChecksummedRawJsonArrayFile(FIELD, jsonValues.iterator(), filePath));
+        return filePath;
+    }
+
+    /**
+     * Replaces the first {@code target} after the start of the value at {@code index} with {@code replacement}.
+     */
+    private void replaceInValue(Path filePath, int index, String target, String replacement) throws IOException {
+        String content = Files.readString(filePath);
+        int start = 0;
+        for (int i = 0; i <= index; i++) {
+            start = content.indexOf("\"name\"", start + 1);
+        }
+        int position = content.indexOf(target, start);
+        Files.writeString(filePath, content.substring(0, position) + replacement
+                + content.substring(position + target.length()));
+    }
+
+    @Test
+    public void checksum() {
+        // The standard check value of CRC32C
+        assertEquals(0xe3069283, JsonChecksums.checksum("123456789"));
+        assertEquals("0000abcd", JsonChecksums.toHex(0xabcd));
+    }
+
+    @Test
+    public void verify_savedFile_intact() throws IOException {
+        for (String fileName : List.of("values.json", "values.json.gz", "values.json.deflate")) {
+            JsonChecksums.Report report = JsonChecksums.verify(save(fileName), FIELD);
+            assertTrue(report.isIntact());
+            assertTrue(report.isChecksummed());
+            assertEquals(jsonValues.size(), report.getRecordCount());
+            assertEquals(List.of(), report.getDamagedRecords());
+        }
+    }
+
+    @Test
+    public void saveChecksummedRawJsonArrayFile_sameValuesAsRawFile() throws IOException {
+        Path filePath = save("values.json");
+        List<JsonNode> values = new ArrayList<>();
+        try (MappingIterator<JsonNode> iterator = JsonUtil.readJsonArrayFile(filePath, FIELD, JsonNode.class)) {
+            while (iterator.hasNextValue()) {
+                values.add(iterator.nextValue());
+            }
+        }
+        assertEquals(jsonValues.size(), values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(JsonUtil.fromJsonString(jsonValues.get(i), JsonNode.class), values.get(i));
+        }
+    }
+
+    @Test
+    public void verify_filesLargerThanBuffer_intactAndDamageFound() throws IOException {
+        // Many values, and one value much larger than the bytes held at a time while checking
+        for (int i = 0; i < 2000; i++) {
+            jsonValues.add(jsonValues.get(i % 5));
+        }
+        jsonValues.add(JsonUtil.toJsonArrayElement(FIELD, List.of("x".repeat(300_000))));
+        jsonValues.add(jsonValues.get(0));
+        for (String fileName : List.of("values.json", "values.json.gz")) {
+            assertTrue(JsonChecksums.verify(save(fileName), FIELD).isIntact());
+        }
+
+        Path filePath = save("values.json");
+        replaceInValue(filePath, 2004, "This is a test class", "This is a best class");
+        assertEquals(List.of(2004), JsonChecksums.verify(filePath, FIELD).getDamagedRecords());
+    }
+
+    @Test
+    public void verify_changedValue_onlyThatRecordDamaged() throws IOException {
+        Path filePath = save("values.json");
+        replaceInValue(filePath, 3, "This is a test class", "This is a best class");
+
+        JsonChecksums.Report report = JsonChecksums.verify(filePath, FIELD);
+        assertFalse(report.isIntact());
+        assertEquals(List.of(3), report.getDamagedRecords());
+        assertEquals(jsonValues.size(), report.getRecordCount());
+        assertFalse(report.getReadError().isPresent());
+    }
+
+    @Test
+    public void verify_changedBetweenRecords_fileDamaged() throws IOException {
+        Path filePath = save("values.json");
+        Files.writeString(filePath, Files.readString(filePath).replaceFirst("\\}, \\{", "},  {"));
+
+        JsonChecksums.Report report = JsonChecksums.verify(filePath, FIELD);
+        assertFalse(report.isIntact());
+        assertEquals(List.of(), report.getDamagedRecords());
+    }
+
+    @Test
+    public void verify_invalidJsonInRecord_recordDamagedAndReadError() throws IOException {
+        Path filePath = save("values.json");
+        replaceInValue(filePath, 2, "\"name\"", "\"name");
+
+        JsonChecksums.Report report = JsonChecksums.verify(filePath, FIELD);
+        assertFalse(report.isIntact());
+        assertEquals(List.of(2), report.getDamagedRecords());
+        assertEquals(2, report.getRecordCount());
+        assertTrue(report.getReadError().isPresent());
+    }
+
+    @Test
+    public void verify_truncatedFile_readError() throws IOException {
+        for (String fileName : List.of("values.json", "values.json.gz")) {
+            Path filePath = save(fileName);
+            byte[] content = Files.readAllBytes(filePath);
+            Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+
+            JsonChecksums.Report report = JsonChecksums.verify(filePath, FIELD);
+            assertFalse(report.isIntact());
+            assertTrue(report.getReadError().isPresent());
+            assertEquals(1, report.getDamagedRecords().size());
+            assertTrue(report.getRecordCount() < jsonValues.size());
+        }
+    }
+
+    @Test
+    public void verify_removedRecord_damaged() throws IOException {
+        Path filePath = save("values.json");
+        jsonValues.remove(4);
+        Path shorterPath = testFolder.resolve("shorter.json");
+        JsonUtil.saveRawJsonArrayFile(FIELD, jsonValues.iterator(), shorterPath);
+        // The shorter array with the checksums of the longer one
+        String content = Files.readString(filePath);
+        String shorter = Files.readString(shorterPath);
+        Files.writeString(filePath, shorter.substring(0, shorter.lastIndexOf(']') + 1)
+                + content.substring(content.lastIndexOf(',', content.lastIndexOf("\"" + JsonChecksums.FIELD + "\""))));
+
+        JsonChecksums.Report report = JsonChecksums.verify(filePath, FIELD);
+        assertFalse(report.isIntact());
+        assertEquals(List.of(), report.getDamagedRecords());
+        assertEquals(4, report.getRecordCount());
+    }
+
+    @Test
+    public void verify_noChecksums_intactIfReadable() throws IOException {
+        Path filePath = testFolder.resolve("values.json");
+        JsonUtil.saveRawJsonArrayFile(FIELD, jsonValues.iterator(), filePath);
+
+        JsonChecksums.Report report = JsonChecksums.verify(filePath, FIELD);
+        assertTrue(report.isIntact());
+        assertFalse(report.isChecksummed());
+        assertEquals(jsonValues.size(), report.getRecordCount());
+    }
+
+    @Test
+    public void verify_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonChecksums.verify(testFolder.resolve("missing.json"), FIELD));
+    }
+
+    @Test
+    public void verify_nonAsciiValue_intact() throws IOException {
+        jsonValues.set(0, JsonUtil.toJsonArrayElement(FIELD, List.of("Zoë", "日本")));
+        Path filePath = save("values.json");
+        assertTrue(Files.readString(filePath, StandardCharsets.UTF_8).contains("Zoë"));
+        assertTrue(JsonChecksums.verify(filePath, FIELD).isIntact());
+    }
+}
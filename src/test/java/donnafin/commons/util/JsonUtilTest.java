@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +41,26 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveRawJsonArrayFile_elementsFromToJsonArrayElement_sameAsSaveJsonArrayFile() throws IOException {
+        List<SerializableTestClass> values = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SerializableTestClass value = new SerializableTestClass();
+            value.setTestValues();
+            values.add(value);
+        }
+        Path rawFile = TestUtil.getFilePathInSandboxFolder("raw.json");
+        List<String> jsonValues = new ArrayList<>();
+        for (SerializableTestClass value : values) {
+            jsonValues.add(JsonUtil.toJsonArrayElement("values", value));
+        }
+
+        assertEquals(3, JsonUtil.saveJsonArrayFile("values", values.iterator(), SERIALIZATION_FILE));
+        assertEquals(3, JsonUtil.saveRawJsonArrayFile("values", jsonValues.iterator(), rawFile));
+
+        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), FileUtil.readFromFile(rawFile));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
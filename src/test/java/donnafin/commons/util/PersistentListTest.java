@@ -0,0 +1,109 @@
+package donnafin.commons.util;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> empty = PersistentList.empty();
+        assertEquals(List.of(), empty);
+        assertFalse(empty.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> empty.iterator().next());
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.removeAt(0));
+    }
+
+    @Test
+    public void of() {
+        List<Integer> elements = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list);
+        assertEquals(elements.hashCode(), list.hashCode());
+        assertSame(list, PersistentList.of(list));
+        assertSame(PersistentList.empty(), PersistentList.of(List.of()));
+    }
+
+    @Test
+    public void changes_oldVersionsUnchanged() {
+        PersistentList<String> first = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> second = first.update(1, "B").insert(0, "z").append("d").removeAt(2);
+
+        assertEquals(List.of("a", "b", "c"), first);
+        assertEquals(List.of("z", "a", "c", "d"), second);
+        assertThrows(IndexOutOfBoundsException.class, () -> first.insert(4, "e"));
+        assertThrows(IndexOutOfBoundsException.class, () -> first.update(3, "e"));
+    }
+
+    @Test
+    public void mutatorMethods_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void appendAndRemoveFirst_manyElements_staysBalanced() {
+        // An unbalanced tree would be 100000 nodes deep, and overflow the stack
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.append(i);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            list = list.removeAt(0);
+        }
+        assertEquals(50_000, list.size());
+        assertEquals(Integer.valueOf(75_000), list.get(25_000));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(48);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(expected.isEmpty() ? 1 : 4);
+            if (operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.insert(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.update(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.removeAt(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(List.copyOf(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        Iterator<Integer> iterator = list.iterator();
+        expected.forEach(element -> assertEquals(element, iterator.next()));
+        assertFalse(iterator.hasNext());
+        assertEquals(expectedVersions, versions);
+    }
+}
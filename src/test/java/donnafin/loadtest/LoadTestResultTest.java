@@ -0,0 +1,84 @@
+package donnafin.loadtest;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.core.Histogram;
+
+public class LoadTestResultTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void parsePercentile_validNames_success() {
+        assertEquals(99, LoadTestResult.parsePercentile("p99"));
+        assertEquals(99.9, LoadTestResult.parsePercentile("p99.9"));
+        assertEquals(0, LoadTestResult.parsePercentile("p0"));
+    }
+
+    @Test
+    public void parsePercentile_invalidNames_throwsIllegalArgumentException() {
+        for (String name : List.of("99", "max", "p", "p101", "P99", "p-1")) {
+            assertThrows(IllegalArgumentException.class, () -> LoadTestResult.parsePercentile(name));
+        }
+    }
+
+    @Test
+    public void getBudgetViolations_budgetsExceeded_violationsListed() {
+        LoadTestResult result = new LoadTestResult(Map.of("view", histogramOfMillis(1, 2, 3, 100)), 0, 0, List.of(),
+                Map.of("view", Map.of("p50", 10.0, "p99", 10.0), "home", Map.of("p99", 1.0)));
+
+        // Only p99 of view is over budget, and home never ran so it has no violation
+        assertFalse(result.isWithinBudget());
+        assertEquals(List.of(String.format(LoadTestResult.MESSAGE_BUDGET_EXCEEDED, "view", "p99", 100.0, 10.0)),
+                result.getBudgetViolations());
+    }
+
+    @Test
+    public void getBudgetViolations_failedCommands_violationListed() {
+        LoadTestResult result = new LoadTestResult(Map.of(), 0, 0, List.of("edit: invalid phone"), Map.of());
+        assertEquals(List.of(String.format(LoadTestResult.MESSAGE_FAILED_COMMANDS, 1)),
+                result.getBudgetViolations());
+    }
+
+    @Test
+    public void getBudgetViolations_withinBudget_noViolations() {
+        LoadTestResult result = new LoadTestResult(Map.of("view", histogramOfMillis(1, 2, 3)), 0, 0, List.of(),
+                Map.of("view", Map.of("p99", 10.0)));
+        assertTrue(result.isWithinBudget());
+    }
+
+    @Test
+    public void saveReport_validResult_writesPercentilesAndBytes() throws Exception {
+        LoadTestResult result = new LoadTestResult(Map.of("view", histogramOfMillis(1, 2, 3)), 1234, 0, List.of(),
+                Map.of());
+        Path reportFile = testFolder.resolve("report.json");
+        result.saveReport(reportFile);
+
+        String report = Files.readString(reportFile);
+        assertTrue(report.contains("\"bytesWritten\" : 1234"));
+        assertTrue(report.contains("\"p95\""));
+        assertTrue(report.contains("\"view\""));
+    }
+
+    private static Histogram histogramOfMillis(long... millis) {
+        Histogram histogram = new Histogram();
+        for (long value : millis) {
+            histogram.record(value * NANOS_PER_MILLI);
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,87 @@
+package donnafin.loadtest;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.core.Histogram;
+import donnafin.commons.util.JsonUtil;
+
+public class LoadTestTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "LoadTestTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_unknownCommandInMix_throwsIllegalArgumentException() {
+        LoadProfile profile = new LoadProfile();
+        profile.setCommandMix(Map.of("fly", 1));
+        assertThrows(IllegalArgumentException.class, String.format(LoadTest.MESSAGE_UNKNOWN_ACTION, "fly"), () ->
+                new LoadTest(profile, testFolder));
+    }
+
+    @Test
+    public void constructor_budgetNotForPercentile_throwsIllegalArgumentException() {
+        LoadProfile profile = new LoadProfile();
+        profile.setLatencyBudgetsInMillis(Map.of("view", Map.of("max", 10.0)));
+        assertThrows(IllegalArgumentException.class, () -> new LoadTest(profile, testFolder));
+    }
+
+    @Test
+    public void run_defaultMix_allCommandsSucceed() throws Exception {
+        LoadProfile profile = new LoadProfile();
+        profile.setClientCount(100);
+        profile.setCommandCount(300);
+
+        LoadTestResult result = new LoadTest(profile, testFolder).run();
+
+        assertEquals(300, result.getLatencies().values().stream().mapToLong(Histogram::getCount).sum());
+        assertEquals(List.of(), result.getFailures());
+        // The default mix has every kind of command, and 300 steps are enough for each to be chosen
+        for (LoadTest.Action action : LoadTest.Action.values()) {
+            assertTrue(result.getLatencies().containsKey(action.getName()), action.getName());
+        }
+        // Every command saves the address book
+        assertTrue(result.getBytesWritten() > 0);
+    }
+
+    @Test
+    public void run_shardedAddressBook_fewerBytesWritten() throws Exception {
+        LoadProfile profile = new LoadProfile();
+        profile.setClientCount(200);
+        profile.setCommandCount(100);
+        LoadTestResult singleFileResult = new LoadTest(profile, testFolder.resolve("single")).run();
+
+        profile.setShardCount(16);
+        LoadTestResult shardedResult = new LoadTest(profile, testFolder.resolve("sharded")).run();
+
+        assertEquals(List.of(), shardedResult.getFailures());
+        assertTrue(shardedResult.getBytesWritten() < singleFileResult.getBytesWritten());
+    }
+
+    @Test
+    public void run_profileFromFile_onlyMixedCommandsRun() throws Exception {
+        LoadProfile profile = JsonUtil.readJsonFile(TEST_DATA_FOLDER.resolve("profile.json"), LoadProfile.class).get();
+        assertEquals(50, profile.getClientCount());
+        assertEquals(500, profile.getCommandCount());
+
+        LoadTestResult result = new LoadTest(profile, testFolder).run();
+
+        // Each view is followed by going home
+        assertEquals(Map.of("home", 250L, "view", 250L), Map.of(
+                "home", result.getLatencies().get("home").getCount(),
+                "view", result.getLatencies().get("view").getCount()));
+        assertEquals(2, result.getLatencies().size());
+        assertTrue(result.isWithinBudget());
+    }
+}
@@ -0,0 +1,160 @@
+package donnafin.logic;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.logic.commands.HelpCommand;
+import donnafin.logic.commands.ListCommand;
+import donnafin.logic.commands.exceptions.AddressBookNotLoadedException;
+import donnafin.model.AddressBook;
+import donnafin.model.Model;
+import donnafin.model.ModelManager;
+import donnafin.model.UserPrefs;
+import donnafin.model.util.SampleDataUtil;
+import donnafin.storage.JsonAddressBookStorage;
+import donnafin.storage.JsonUserPrefsStorage;
+import donnafin.storage.StorageManager;
+
+public class AddressBookLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    // Tasks given to the app thread, which are only run when the test runs them.
+    private final Queue<Runnable> appThreadTasks = new ArrayDeque<>();
+
+    private Path dataFile;
+
+    @BeforeEach
+    public void setUp() {
+        appThreadTasks.clear();
+        dataFile = temporaryFolder.resolve("addressBook.json");
+    }
+
+    private Model createModel(Path addressBookFile) {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        return new ModelManager(new AddressBook(), new UserPrefs(), storage);
+    }
+
+    private AddressBookLoader createLoader(Model model, Path addressBookFile) {
+        return new AddressBookLoader(model, new JsonAddressBookStorage(addressBookFile), appThreadTasks::add, 3);
+    }
+
+    private void runAppThreadTasks() {
+        while (!appThreadTasks.isEmpty()) {
+            appThreadTasks.remove().run();
+        }
+    }
+
+    @Test
+    public void load_typicalPersons_addedInBatchesOnAppThread() throws Exception {
+        AddressBook typical = getTypicalAddressBook();
+        new JsonAddressBookStorage(dataFile).saveAddressBook(typical);
+        Model model = createModel(dataFile);
+        AddressBookLoader loader = createLoader(model, dataFile);
+
+        loader.load();
+        // Nothing is added until the app thread runs the batches
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals((typical.getPersonList().size() + 2) / 3 + 1, appThreadTasks.size());
+
+        appThreadTasks.remove().run();
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertFalse(loader.isLoaded());
+
+        runAppThreadTasks();
+        assertTrue(loader.isLoaded());
+        assertEquals(typical, model.getAddressBook());
+    }
+
+    @Test
+    public void load_missingFile_sampleAddressBook() {
+        Model model = createModel(dataFile);
+        AddressBookLoader loader = createLoader(model, dataFile);
+
+        loader.load();
+        runAppThreadTasks();
+        assertTrue(loader.isLoaded());
+        assertEquals(SampleDataUtil.getSampleAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void load_invalidPersons_validPersonsOnly() throws Exception {
+        Path invalidFile = Files.copy(TEST_DATA_FOLDER.resolve("someInvalidPersonsAddressBook.json"), dataFile);
+        Model model = createModel(invalidFile);
+        AddressBookLoader loader = createLoader(model, invalidFile);
+
+        loader.load();
+        runAppThreadTasks();
+        assertTrue(loader.isLoaded());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertTrue(Files.exists(JsonAddressBookStorage.getQuarantineFile(invalidFile)));
+    }
+
+    @Test
+    public void load_notJsonFile_emptyAddressBook() throws Exception {
+        Path invalidFile = Files.copy(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json"), dataFile);
+        Model model = createModel(invalidFile);
+        AddressBookLoader loader = createLoader(model, invalidFile);
+
+        loader.load();
+        runAppThreadTasks();
+        assertTrue(loader.isLoaded());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void whenLoaded_beforeAndAfterLoading_runOnceLoaded() {
+        Model model = createModel(dataFile);
+        AddressBookLoader loader = createLoader(model, dataFile);
+        List<String> actions = new ArrayList<>();
+
+        loader.whenLoaded(() -> actions.add("before"));
+        loader.load();
+        assertEquals(List.of(), actions);
+        runAppThreadTasks();
+        assertEquals(List.of("before"), actions);
+
+        loader.whenLoaded(() -> actions.add("after"));
+        assertEquals(List.of("before", "after"), actions);
+    }
+
+    @Test
+    public void execute_whileLoading_onlyCommandsNotNeedingFullAddressBook() throws Exception {
+        new JsonAddressBookStorage(dataFile).saveAddressBook(getTypicalAddressBook());
+        String savedData = Files.readString(dataFile);
+        Model model = createModel(dataFile);
+        AddressBookLoader loader = createLoader(model, dataFile);
+        LogicManager logic = new LogicManager(model, loader);
+
+        loader.load();
+        appThreadTasks.remove().run();
+        String expectedMessage = String.format(LogicManager.MESSAGE_ADDRESS_BOOK_LOADING, 3);
+        assertThrows(AddressBookNotLoadedException.class, expectedMessage, () -> logic.execute(
+                ListCommand.COMMAND_WORD));
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+        // The partly loaded address book is not saved over the data file
+        assertEquals(savedData, Files.readString(dataFile));
+
+        runAppThreadTasks();
+        logic.execute(ListCommand.COMMAND_WORD);
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import donnafin.commons.core.MetricsCenter;
 import donnafin.logic.commands.AddCommand;
 import donnafin.logic.commands.CommandResult;
 import donnafin.logic.commands.ListCommand;
@@ -70,6 +71,19 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_NO_CLIENTS_FOUND, model);
     }
 
+    @Test
+    public void execute_validCommand_timedUnderCommandWord() throws Exception {
+        MetricsCenter.clear();
+        logic.execute("  LIST ");
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+
+        assertEquals(1, MetricsCenter.getTimer(MetricsCenter.COMMAND_TIMER_PREFIX + ListCommand.COMMAND_WORD)
+                .getCount());
+        assertEquals(1, MetricsCenter.getTimer(MetricsCenter.INVALID_COMMAND_TIMER).getCount());
+        assertEquals(1, MetricsCenter.getTimer(MetricsCenter.SAVE_TIMER).getCount());
+        assertEquals(1, MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).getCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
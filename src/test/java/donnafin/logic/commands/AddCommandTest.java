@@ -18,10 +18,15 @@ import org.junit.jupiter.api.Test;
 import donnafin.commons.core.GuiSettings;
 import donnafin.logic.commands.exceptions.CommandException;
 import donnafin.model.AddressBook;
+import donnafin.model.AddressBookSnapshot;
 import donnafin.model.Model;
+import donnafin.model.ModelChangeListener;
+import donnafin.model.PersonChangePublisher;
 import donnafin.model.ReadOnlyAddressBook;
 import donnafin.model.ReadOnlyUserPrefs;
+import donnafin.model.person.MergeResult;
 import donnafin.model.person.Person;
+import donnafin.model.person.PersonChanges;
 import donnafin.testutil.PersonBuilder;
 import javafx.collections.ObservableList;
 
@@ -131,16 +136,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public MergeResult mergeAddressBook(ReadOnlyAddressBook base, ReadOnlyAddressBook changed) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addModelChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeModelChangeListener(ModelChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonChangePublisher getPersonChangePublisher() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyChanges(PersonChanges changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Returns the AddressBook
          */
@@ -0,0 +1,158 @@
+package donnafin.logic.commands;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.model.AddressBook;
+import donnafin.model.Model;
+import donnafin.model.ModelManager;
+import donnafin.model.UserPrefs;
+import donnafin.model.person.Person;
+import donnafin.storage.ClientExporter;
+import donnafin.testutil.DummyUiForCommands;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullTarget_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand((Path) null, true));
+        assertThrows(NullPointerException.class, () -> new ExportCommand((ClientExporter) null, true));
+    }
+
+    @Test
+    public void execute_displayedClients_onlyFilteredListExported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
+        model.updateFilteredPersonList(person -> person.isSamePerson(ALICE));
+        Path target = testFolder.resolve("displayed.jsonl");
+        RecordingExporter exporter = new RecordingExporter(target);
+        ExportCommand command = new ExportCommand(exporter, false);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, target), result.getFeedbackToUser());
+        assertEquals(1, (int) exporter.export.get());
+        assertEquals(1, Files.readAllLines(target).size());
+    }
+
+    @Test
+    public void execute_allClients_wholeBookExported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
+        model.updateFilteredPersonList(person -> person.isSamePerson(ALICE));
+        int bookSize = model.getAddressBook().getPersonList().size();
+        Path target = testFolder.resolve("all.jsonl");
+        RecordingExporter exporter = new RecordingExporter(target);
+        ExportCommand command = new ExportCommand(exporter, true);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, bookSize, target), result.getFeedbackToUser());
+        assertEquals(bookSize, (int) exporter.export.get());
+        assertEquals(bookSize, Files.readAllLines(target).size());
+    }
+
+    @Test
+    public void execute_modelChangedDuringExport_snapshotExported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
+        int bookSize = model.getAddressBook().getPersonList().size();
+        // Exported on the export thread, so that the model can be changed before the export starts
+        CompletableFuture<Integer> export = new CompletableFuture<>();
+        ClientExporter exporter = new ClientExporter(testFolder.resolve("snapshot.jsonl")) {
+            @Override
+            public CompletableFuture<Integer> exportInBackground(List<Person> persons) {
+                CompletableFuture<Integer> started = super.exportInBackground(persons);
+                started.whenComplete((count, error) -> export.complete(count));
+                return started;
+            }
+        };
+
+        new ExportCommand(exporter, true).execute(model);
+        model.setAddressBook(new AddressBook());
+
+        assertEquals(bookSize, (int) export.get());
+    }
+
+    @Test
+    public void execute_succeeds_noMessageShown() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
+        RecordingExporter exporter = new RecordingExporter(testFolder.resolve("all.jsonl"));
+        DummyUiForCommands ui = new DummyUiForCommands();
+
+        new ExportCommand(exporter, true).execute(model).getUiAction().accept(ui);
+
+        assertEquals(List.of(), ui.getMessages());
+    }
+
+    @Test
+    public void execute_exportFails_failureShownToUser() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
+        // A folder of CSV files cannot be made where there is already a file
+        Path target = testFolder.resolve("export");
+        Files.writeString(target, "");
+        RecordingExporter exporter = new RecordingExporter(target);
+        DummyUiForCommands ui = new DummyUiForCommands();
+
+        new ExportCommand(exporter, true).execute(model).getUiAction().accept(ui);
+
+        assertEquals(1, ui.getMessages().size());
+        assertTrue(ui.getMessages().get(0).startsWith(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, target, "")));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportA = new ExportCommand(Paths.get("a"), false);
+        ExportCommand exportB = new ExportCommand(Paths.get("b"), false);
+
+        // same object -> returns true
+        assertEquals(exportA, exportA);
+
+        // same values -> returns true
+        assertEquals(exportA, new ExportCommand(Paths.get("a"), false));
+
+        // different types -> returns false
+        assertNotEquals(1, exportA);
+
+        // null -> returns false
+        assertNotEquals(null, exportA);
+
+        // different target -> returns false
+        assertNotEquals(exportA, exportB);
+
+        // different scope -> returns false
+        assertNotEquals(exportA, new ExportCommand(Paths.get("a"), true));
+    }
+
+    /**
+     * An exporter that waits for each background export to finish before returning it, so that the export is
+     * finished as soon as the command returns, and keeps the last export.
+     */
+    private static class RecordingExporter extends ClientExporter {
+        private CompletableFuture<Integer> export;
+
+        RecordingExporter(Path target) {
+            super(target);
+        }
+
+        @Override
+        public CompletableFuture<Integer> exportInBackground(List<Person> persons) {
+            export = super.exportInBackground(persons);
+            export.handle((count, error) -> count).join();
+            return export;
+        }
+    }
+}
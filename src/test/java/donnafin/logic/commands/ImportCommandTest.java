@@ -0,0 +1,79 @@
+package donnafin.logic.commands;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.logic.commands.exceptions.CommandException;
+import donnafin.model.AddressBook;
+import donnafin.model.Model;
+import donnafin.model.ModelManager;
+import donnafin.model.UserPrefs;
+
+public class ImportCommandTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvClientImporterTest");
+
+    @Test
+    public void constructor_nullDirectory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFiles_clientsAdded() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), null);
+
+        CommandResult result = new ImportCommand(TEST_DATA_FOLDER.resolve("valid")).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 3), result.getFeedbackToUser());
+        assertEquals(2, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_clientsAlreadyInModel_rejectedRowsReported() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
+        int initialSize = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ImportCommand(TEST_DATA_FOLDER.resolve("valid")).execute(model);
+
+        // Alice and Benson are both typical persons, so nothing is imported
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 0, 0)));
+        assertTrue(result.getFeedbackToUser().contains("5 rows were rejected"));
+        assertEquals(initialSize, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_missingFiles_throwsCommandException() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs(), null);
+        Path missing = TEST_DATA_FOLDER.resolve("missingClients");
+        ImportCommand command = new ImportCommand(missing);
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importA = new ImportCommand(Paths.get("a"));
+        ImportCommand importB = new ImportCommand(Paths.get("b"));
+
+        // same object -> returns true
+        assertEquals(importA, importA);
+
+        // same values -> returns true
+        assertEquals(importA, new ImportCommand(Paths.get("a")));
+
+        // different types -> returns false
+        assertNotEquals(1, importA);
+
+        // null -> returns false
+        assertNotEquals(null, importA);
+
+        // different directory -> returns false
+        assertNotEquals(importA, importB);
+    }
+}
@@ -0,0 +1,42 @@
+package donnafin.logic.commands;
+
+import static donnafin.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import donnafin.commons.core.MetricsCenter;
+import donnafin.model.AddressBook;
+import donnafin.model.Model;
+import donnafin.model.ModelManager;
+import donnafin.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs(), null);
+    private final Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs(), null);
+
+    @BeforeEach
+    public void clearMetrics() {
+        MetricsCenter.clear();
+    }
+
+    @Test
+    public void execute_nothingTimed_showsNoStats() {
+        assertCommandSuccess(new StatsCommand(), model, StatsCommand.MESSAGE_NO_STATS, expectedModel);
+    }
+
+    @Test
+    public void execute_timersAndSizes_showsMillisecondsAndBytes() {
+        MetricsCenter.getTimer("command.list").record(2_000_000);
+        MetricsCenter.getTimer("command.add").record(1_500_000);
+        MetricsCenter.getSize(MetricsCenter.SAVE_SIZE).record(20);
+
+        String expectedMessage = StatsCommand.MESSAGE_LATENCY_HEADER
+                + "\ncommand.add: 1, 1.50, 1.50, 1.50"
+                + "\ncommand.list: 1, 2.00, 2.00, 2.00"
+                + "\n" + StatsCommand.MESSAGE_SIZE_HEADER
+                + "\n" + MetricsCenter.SAVE_SIZE + ": 1, 20, 20, 20";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -8,6 +8,7 @@ import static donnafin.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,11 +20,14 @@ import donnafin.logic.commands.ClearCommand;
 import donnafin.logic.commands.DeleteCommand;
 import donnafin.logic.commands.EditCommand;
 import donnafin.logic.commands.ExitCommand;
+import donnafin.logic.commands.ExportCommand;
 import donnafin.logic.commands.FindCommand;
 import donnafin.logic.commands.HelpCommand;
 import donnafin.logic.commands.HomeCommand;
+import donnafin.logic.commands.ImportCommand;
 import donnafin.logic.commands.ListCommand;
 import donnafin.logic.commands.RemoveCommand;
+import donnafin.logic.commands.StatsCommand;
 import donnafin.logic.commands.SwitchTabCommand;
 import donnafin.logic.commands.ViewCommand;
 import donnafin.logic.parser.exceptions.ParseException;
@@ -55,6 +59,18 @@ public class AddressBookParserTest {
                 parser.parseCommand(ClearCommand.COMMAND_WORD, "task"));
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/import");
+        assertEquals(new ImportCommand(Paths.get("data", "import")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " all data/export");
+        assertEquals(new ExportCommand(Paths.get("data", "export"), true), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -82,6 +98,13 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertThrows(ParseException.class, MESSAGE_USE_HELP_COMMAND, () ->
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -124,6 +147,17 @@ public class AddressBookParserTest {
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_multiLineInput_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand("find alex\nbernice"));
+    }
+
+    @Test
+    public void parseCommand_commandWordFollowedByTabOrMixedCase_parsed() throws Exception {
+        assertEquals(new ViewCommand(INDEX_FIRST_PERSON), parser.parseCommand("  VIEW\t1  "));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, ()-> parser.parseCommand("unknownCommand"));
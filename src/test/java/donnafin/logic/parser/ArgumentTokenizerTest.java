@@ -136,6 +136,33 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAtStartOrAfterOtherWhitespace_notRecognized() {
+        // prefixes must follow a space, so a prefix at index 0 or after a tab belongs to the preamble
+        String argsString = "p/ start\t-t tabbed -t spaced";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "p/ start\t-t tabbed");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "spaced");
+    }
+
+    @Test
+    public void tokenize_valueWithOtherWhitespace_trimmed() {
+        String argsString = " p/\t value\n -t\n";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "value");
+        assertArgumentPresent(argMultimap, dashT, "");
+    }
+
+    @Test
+    public void tokenize_prefixDirectlyAfterPrefix_emptyValue() {
+        String argsString = " p/ -t p/x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertArgumentPresent(argMultimap, pSlash, "", "x");
+        assertArgumentPresent(argMultimap, dashT, "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -18,6 +18,7 @@ import donnafin.logic.commands.AppendCommand;
 import donnafin.logic.commands.ClearCommand;
 import donnafin.logic.commands.DeleteCommand;
 import donnafin.logic.commands.EditCommand;
+import donnafin.logic.commands.ExitCommand;
 import donnafin.logic.commands.FindCommand;
 import donnafin.logic.commands.HelpCommand;
 import donnafin.logic.commands.HomeCommand;
@@ -64,7 +65,7 @@ public class AssetsTabParserTest {
 
     @Test
     public void parserCommand_appendCommand() throws CommandException, ParseException {
-        parser.tabSpecificHandler(AppendCommand.COMMAND_WORD,
+        parser.parseCommand(AppendCommand.COMMAND_WORD,
                 "append n/Good Class Bungalow ty/Property v/$10000000 r/newly bought with bank loan")
                         .execute(model);
         Asset addedAsset = new Asset("Good Class Bungalow", "Property", "$10000000",
@@ -74,104 +75,101 @@ public class AssetsTabParserTest {
 
     @Test
     public void parserCommand_appendCommandInvalidInput_throwsException() {
-        assertThrows(ParseException.class, () -> parser.tabSpecificHandler(AppendCommand.COMMAND_WORD,
+        assertThrows(ParseException.class, () -> parser.parseCommand(AppendCommand.COMMAND_WORD,
                         "append ty/Property v/$10000000 r/newly bought with bank loan").execute(model));
-        assertThrows(ParseException.class, () -> parser.tabSpecificHandler(AppendCommand.COMMAND_WORD,
+        assertThrows(ParseException.class, () -> parser.parseCommand(AppendCommand.COMMAND_WORD,
                 "append n/Good Class Bungalow v/$10000000 r/newly bought with bank loan").execute(model));
-        assertThrows(ParseException.class, () -> parser.tabSpecificHandler("append",
+        assertThrows(ParseException.class, () -> parser.parseCommand("append",
                 "append n/Good Class Bungalow ty/Property r/newly bought with bank loan").execute(model));
-        assertThrows(ParseException.class, () -> parser.tabSpecificHandler(AppendCommand.COMMAND_WORD,
+        assertThrows(ParseException.class, () -> parser.parseCommand(AppendCommand.COMMAND_WORD,
                 "append n/Property debt with DBS ty/debt v/$100000").execute(model));
     }
 
     @Test
     public void parserCommand_removeCommand() throws CommandException, ParseException {
-        parser.tabSpecificHandler(AppendCommand.COMMAND_WORD,
+        parser.parseCommand(AppendCommand.COMMAND_WORD,
                         "append n/Good Class Bungalow ty/Property v/$10000000 r/newly bought with bank loan")
                         .execute(model);
         Asset addedAsset = new Asset("Good Class Bungalow", "Property", "$10000000",
                 "newly bought with bank loan");
-        parser.tabSpecificHandler(RemoveCommand.COMMAND_WORD, "1").execute(model);
+        parser.parseCommand(RemoveCommand.COMMAND_WORD, "1").execute(model);
         assertFalse(model.getFilteredPersonList().get(0).getAssets().contains(addedAsset));
     }
 
     @Test
     public void parserCommand_removeCommandInvalidInput_throwsParseException() {
-        assertThrows(ParseException.class, () -> parser.tabSpecificHandler(RemoveCommand.COMMAND_WORD, "p"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(RemoveCommand.COMMAND_WORD, "p"));
     }
 
     @Test
     public void parserCommand_editCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(EditCommand.COMMAND_WORD, "").execute(model));
+                parser.parseCommand(EditCommand.COMMAND_WORD, "").execute(model));
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(EditCommand.COMMAND_WORD, "edit").execute(model));
+                parser.parseCommand(EditCommand.COMMAND_WORD, "edit").execute(model));
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(EditCommand.COMMAND_WORD, "edit m/Benson").execute(model));
+                parser.parseCommand(EditCommand.COMMAND_WORD, "edit m/Benson").execute(model));
     }
 
     @Test
     public void parserCommand_invalidCommands_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ViewCommand.COMMAND_WORD, "").execute(model));
+                parser.parseCommand(ViewCommand.COMMAND_WORD, "").execute(model));
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ViewCommand.COMMAND_WORD, "view").execute(model));
+                parser.parseCommand(ViewCommand.COMMAND_WORD, "view").execute(model));
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ViewCommand.COMMAND_WORD, "view 1").execute(model));
+                parser.parseCommand(ViewCommand.COMMAND_WORD, "view 1").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_addCommand_throwsParseException() {
+    public void parseCommand_addCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(AddCommand.COMMAND_WORD, "n/john p/998 e/john@mail.com a/cck")
+                parser.parseCommand(AddCommand.COMMAND_WORD, "n/john p/998 e/john@mail.com a/cck")
                         .execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_deleteCommand_throwsParseException() {
+    public void parseCommand_deleteCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(DeleteCommand.COMMAND_WORD, "1").execute(model));
+                parser.parseCommand(DeleteCommand.COMMAND_WORD, "1").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_listCommand_throwsParseException() {
+    public void parseCommand_listCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ListCommand.COMMAND_WORD, "").execute(model));
+                parser.parseCommand(ListCommand.COMMAND_WORD, "").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_findCommand_throwsParseException() {
+    public void parseCommand_findCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(FindCommand.COMMAND_WORD, "alex").execute(model));
+                parser.parseCommand(FindCommand.COMMAND_WORD, "alex").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_clearCommand_throwsParseException() {
+    public void parseCommand_clearCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ClearCommand.COMMAND_WORD, "").execute(model));
+                parser.parseCommand(ClearCommand.COMMAND_WORD, "").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_homeCommand_throwsParseException() {
-        assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(HomeCommand.COMMAND_WORD, "").execute(model));
+    public void parseCommand_homeCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(HomeCommand.COMMAND_WORD, "") instanceof HomeCommand);
     }
 
     @Test
-    public void tabSpecificHandler_helpCommand_throwsParseException() {
-        assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(HelpCommand.COMMAND_WORD, "").execute(model));
+    public void parseCommand_helpCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD, "") instanceof HelpCommand);
     }
 
     @Test
-    public void tabSpecificHandler_exitCommand_throwsParseException() {
-        assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(HelpCommand.COMMAND_WORD, "").execute(model));
+    public void parseCommand_exitCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD, "") instanceof ExitCommand);
     }
 
     @Test
-    public void tabSpecificHandler_unknownCommand_throwsParseException() {
+    public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler("unknown command", "").execute(model));
+                parser.parseCommand("unknown command", "").execute(model));
     }
 }
@@ -15,7 +15,6 @@ import donnafin.commons.core.Messages;
 import donnafin.logic.PersonAdapter;
 import donnafin.logic.commands.AddCommand;
 import donnafin.logic.commands.ClearCommand;
-import donnafin.logic.commands.Command;
 import donnafin.logic.commands.DeleteCommand;
 import donnafin.logic.commands.ExitCommand;
 import donnafin.logic.commands.FindCommand;
@@ -29,6 +28,7 @@ import donnafin.model.Model;
 import donnafin.model.ModelManager;
 import donnafin.model.UserPrefs;
 import donnafin.model.person.Person;
+import donnafin.ui.Ui;
 
 public class ClientViewParserTest {
 
@@ -40,11 +40,8 @@ public class ClientViewParserTest {
         Person person = getTypicalPersons().get(0);
         Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), null);
         personAdapter = new PersonAdapter(model, person);
-        parser = new ClientViewParser(personAdapter) {
-            protected Command tabSpecificHandler(String commandWord, String arguments) throws ParseException {
-                throw new ParseException(Messages.MESSAGE_COMMAND_NOT_IN_CLIENT_WINDOW);
-            };
-        };
+        parser = new ClientViewParser(personAdapter, Ui.ViewFinderState.NOTES,
+                Messages.MESSAGE_NO_CLIENT_WINDOW_COMMANDS_SUPPORTED) {};
     }
 
     @Test
@@ -126,7 +123,7 @@ public class ClientViewParserTest {
 
     @Test
     public void parseCommand_findCommand_failure() throws ParseException {
-        String userInput = "alex";
+        String userInput = " alex";
 
         assertNotNull(new FindCommandParser().parse(userInput));
         assertParseFailure(parser, FindCommand.COMMAND_WORD + userInput,
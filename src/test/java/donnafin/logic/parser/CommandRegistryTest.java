@@ -0,0 +1,121 @@
+package donnafin.logic.parser;
+
+import static donnafin.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static donnafin.commons.core.Messages.MESSAGE_USE_HELP_COMMAND;
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.commons.core.Messages;
+import donnafin.logic.commands.ClearCommand;
+import donnafin.logic.commands.Command;
+import donnafin.logic.commands.DeleteCommand;
+import donnafin.logic.commands.EditCommand;
+import donnafin.logic.commands.HelpCommand;
+import donnafin.logic.commands.SwitchTabCommand;
+import donnafin.logic.parser.exceptions.ParseException;
+import donnafin.ui.Ui;
+
+public class CommandRegistryTest {
+
+    private final DeleteCommandParser deleteParser = new DeleteCommandParser();
+
+    @Test
+    public void register_nullArguments_throwsNullPointerException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(NullPointerException.class, () -> registry.register(null, deleteParser));
+        assertThrows(NullPointerException.class, () -> registry.register("delete", null));
+    }
+
+    @Test
+    public void parse_registeredCommand_parsedByRegisteredParser() throws Exception {
+        CommandRegistry registry = new CommandRegistry().register(DeleteCommand.COMMAND_WORD, deleteParser);
+
+        assertTrue(registry.contains(DeleteCommand.COMMAND_WORD));
+        assertSame(deleteParser, registry.getParser(DeleteCommand.COMMAND_WORD));
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), registry.parse(DeleteCommand.COMMAND_WORD, " 1"));
+    }
+
+    @Test
+    public void parse_unknownCommand_throwsParseException() {
+        CommandRegistry registry = new CommandRegistry().register(DeleteCommand.COMMAND_WORD, deleteParser);
+
+        assertFalse(registry.contains("unknown"));
+        assertNull(registry.getParser("unknown"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("unknown", ""));
+    }
+
+    @Test
+    public void registerWithoutArguments_newCommandForEveryInput() throws Exception {
+        CommandRegistry registry = new CommandRegistry()
+                .registerWithoutArguments(ClearCommand.COMMAND_WORD, ClearCommand::new);
+
+        Command first = registry.parse(ClearCommand.COMMAND_WORD, "");
+        Command second = registry.parse(ClearCommand.COMMAND_WORD, "");
+        assertTrue(first instanceof ClearCommand);
+        assertNotSame(first, second);
+        assertThrows(ParseException.class, MESSAGE_USE_HELP_COMMAND, () ->
+                registry.parse(ClearCommand.COMMAND_WORD, " now"));
+    }
+
+    @Test
+    public void reject_throwsParseExceptionWithMessage() {
+        CommandRegistry registry = new CommandRegistry().reject(DeleteCommand.COMMAND_WORD, "Not here");
+
+        assertTrue(registry.contains(DeleteCommand.COMMAND_WORD));
+        assertThrows(ParseException.class, "Not here", () -> registry.parse(DeleteCommand.COMMAND_WORD, " 1"));
+    }
+
+    @Test
+    public void registerAll_copiesAndOverridesParsers() throws Exception {
+        CommandRegistry base = new CommandRegistry()
+                .reject(DeleteCommand.COMMAND_WORD, "Not here")
+                .registerWithoutArguments(ClearCommand.COMMAND_WORD, ClearCommand::new);
+        CommandRegistry registry = new CommandRegistry()
+                .registerAll(base)
+                .register(DeleteCommand.COMMAND_WORD, deleteParser);
+
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), registry.parse(DeleteCommand.COMMAND_WORD, " 1"));
+        assertTrue(registry.parse(ClearCommand.COMMAND_WORD, "") instanceof ClearCommand);
+        // the registry that was copied from is unchanged
+        assertThrows(ParseException.class, "Not here", () -> base.parse(DeleteCommand.COMMAND_WORD, " 1"));
+    }
+
+    @Test
+    public void registerAll_registrations_onlyAvailableCommandsParsed() throws Exception {
+        List<CommandRegistration> registrations = List.of(DeleteCommand.REGISTRATION, HelpCommand.REGISTRATION,
+                SwitchTabCommand.REGISTRATION, EditCommand.REGISTRATION);
+        CommandRegistry home = new CommandRegistry().registerAll(registrations,
+                Ui.ViewFinderState.PERSON_LIST_PANEL, null, null);
+        CommandRegistry policies = new CommandRegistry().registerAll(registrations,
+                Ui.ViewFinderState.POLICIES, null, "Other tab");
+
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), home.parse(DeleteCommand.COMMAND_WORD, " 1"));
+        assertTrue(home.parse(HelpCommand.COMMAND_WORD, "") instanceof HelpCommand);
+        assertThrows(ParseException.class, Messages.MESSAGE_COMMAND_NOT_IN_HOME_WINDOW, () ->
+                home.parse(SwitchTabCommand.COMMAND_WORD, " p"));
+        assertThrows(ParseException.class, Messages.MESSAGE_COMMAND_NOT_IN_HOME_WINDOW, () ->
+                home.parse(EditCommand.COMMAND_WORD, ""));
+
+        assertTrue(policies.parse(HelpCommand.COMMAND_WORD, "") instanceof HelpCommand);
+        assertThrows(ParseException.class, Messages.MESSAGE_COMMAND_NOT_IN_CLIENT_WINDOW, () ->
+                policies.parse(DeleteCommand.COMMAND_WORD, " 1"));
+        // Edit can only be used in the contact tab
+        assertThrows(ParseException.class, "Other tab", () -> policies.parse(EditCommand.COMMAND_WORD, ""));
+    }
+
+    @Test
+    public void allCommands_eachCommandWordRegisteredOnce() {
+        assertEquals(CommandRegistry.ALL_COMMANDS.size(), CommandRegistry.ALL_COMMANDS.stream()
+                .map(CommandRegistration::getCommandWord).distinct().count());
+    }
+}
@@ -121,70 +121,67 @@ public class ContactTabParserTest {
     }
 
     @Test
-    public void tabSpecificHandler_addCommand_throwsParseException() {
+    public void parseCommand_addCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(AddCommand.COMMAND_WORD, "n/john p/998 e/john@mail.com a/cck")
+                parser.parseCommand(AddCommand.COMMAND_WORD, "n/john p/998 e/john@mail.com a/cck")
                         .execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_deleteCommand_throwsParseException() {
+    public void parseCommand_deleteCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(DeleteCommand.COMMAND_WORD, "1").execute(model));
+                parser.parseCommand(DeleteCommand.COMMAND_WORD, "1").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_listCommand_throwsParseException() {
+    public void parseCommand_listCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ListCommand.COMMAND_WORD, "").execute(model));
+                parser.parseCommand(ListCommand.COMMAND_WORD, "").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_findCommand_throwsParseException() {
+    public void parseCommand_findCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(FindCommand.COMMAND_WORD, "alex").execute(model));
+                parser.parseCommand(FindCommand.COMMAND_WORD, "alex").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_clearCommand_throwsParseException() {
+    public void parseCommand_clearCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(ClearCommand.COMMAND_WORD, "").execute(model));
+                parser.parseCommand(ClearCommand.COMMAND_WORD, "").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_homeCommand_throwsParseException() {
-        assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(HomeCommand.COMMAND_WORD, "").execute(model));
+    public void parseCommand_homeCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(HomeCommand.COMMAND_WORD, "") instanceof HomeCommand);
     }
 
     @Test
-    public void tabSpecificHandler_helpCommand_throwsParseException() {
-        assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(HelpCommand.COMMAND_WORD, "").execute(model));
+    public void parseCommand_helpCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD, "") instanceof HelpCommand);
     }
 
     @Test
-    public void tabSpecificHandler_exitCommand_throwsParseException() {
-        assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(HelpCommand.COMMAND_WORD, "").execute(model));
+    public void parseCommand_exitCommand_success() throws ParseException {
+        assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD, "") instanceof ExitCommand);
     }
 
     @Test
-    public void tabSpecificHandler_appendCommand_throwsParseException() {
+    public void parseCommand_appendCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(AppendCommand.COMMAND_WORD, "n/asset ty/house v/$10000 r/debt")
+                parser.parseCommand(AppendCommand.COMMAND_WORD, "n/asset ty/house v/$10000 r/debt")
                         .execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_removeCommand_throwsParseException() {
+    public void parseCommand_removeCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler(RemoveCommand.COMMAND_WORD, "1").execute(model));
+                parser.parseCommand(RemoveCommand.COMMAND_WORD, "1").execute(model));
     }
 
     @Test
-    public void tabSpecificHandler_unknownCommand_throwsParseException() {
+    public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, () ->
-                parser.tabSpecificHandler("unknown command", "").execute(model));
+                parser.parseCommand("unknown command", "").execute(model));
     }
 }
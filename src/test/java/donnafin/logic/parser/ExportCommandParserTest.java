@@ -0,0 +1,42 @@
+package donnafin.logic.parser;
+
+import static donnafin.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static donnafin.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static donnafin.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_pathOnly_returnsExportCommandForDisplayedClients() {
+        assertParseSuccess(parser, " data/export ", new ExportCommand(Paths.get("data", "export"), false));
+    }
+
+    @Test
+    public void parse_allKeyword_returnsExportCommandForAllClients() {
+        assertParseSuccess(parser, " all  clients.jsonl", new ExportCommand(Paths.get("clients.jsonl"), true));
+    }
+
+    @Test
+    public void parse_pathNamedAll_returnsExportCommandForDisplayedClients() {
+        assertParseSuccess(parser, "all", new ExportCommand(Paths.get("all"), false));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "all data/\0export",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,126 @@
+package donnafin.management;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.core.MetricsCenter;
+import donnafin.model.AddressBook;
+import donnafin.model.Model;
+import donnafin.model.ModelManager;
+import donnafin.model.UserPrefs;
+import donnafin.model.person.Person;
+import donnafin.storage.JsonAddressBookStorage;
+import donnafin.storage.JsonUserPrefsStorage;
+import donnafin.storage.StorageManager;
+
+public class DonnaFinMonitorTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private StorageManager storage;
+    private Model model;
+    private DonnaFinMonitor monitor;
+
+    @BeforeEach
+    public void setUp() {
+        MetricsCenter.clear();
+        storage = new StorageManager(new JsonAddressBookStorage(tempDir.resolve("donnafin.json")),
+                new JsonUserPrefsStorage(tempDir.resolve("prefs.json")));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), storage);
+        monitor = new DonnaFinMonitor(model, storage, () -> "CONTACT", () -> "ContactTabParser", Runnable::run);
+    }
+
+    @Test
+    public void getCounts_typicalAddressBook_countsAllClients() {
+        AddressBook addressBook = getTypicalAddressBook();
+        int policies = 0;
+        int assets = 0;
+        int liabilities = 0;
+        for (Person person : addressBook.getPersonList()) {
+            policies += person.getPolicies().size();
+            assets += person.getAssets().size();
+            liabilities += person.getLiabilities().size();
+        }
+
+        assertEquals(addressBook.getPersonList().size(), monitor.getClientCount());
+        assertEquals(policies, monitor.getPolicyCount());
+        assertEquals(assets, monitor.getAssetCount());
+        assertEquals(liabilities, monitor.getLiabilityCount());
+        assertEquals("CONTACT", monitor.getUiState());
+        assertEquals("ContactTabParser", monitor.getParserState());
+    }
+
+    @Test
+    public void save_thenReload_restoresSavedClients() throws Exception {
+        monitor.save();
+        assertEquals(1, monitor.getSaveCount());
+        assertTrue(monitor.getLastSaveSizeBytes() > 0);
+
+        model.deletePerson(ALICE);
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1, monitor.getClientCount());
+
+        monitor.reload();
+        assertEquals(1, monitor.getLoadCount());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void reload_noDataFile_throwsIoException() {
+        String expectedMessage = String.format(DonnaFinMonitor.MESSAGE_DATA_FILE_NOT_FOUND,
+                storage.getAddressBookFilePath());
+        assertThrows(IOException.class, expectedMessage, monitor::reload);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void save_runsOnAppThread() throws Exception {
+        Thread[] appThread = new Thread[1];
+        Executor recordingExecutor = task -> {
+            Thread thread = new Thread(task);
+            appThread[0] = thread;
+            thread.start();
+        };
+        DonnaFinMonitor threadedMonitor = new DonnaFinMonitor(model, storage, () -> "", () -> "",
+                recordingExecutor);
+
+        threadedMonitor.save();
+
+        assertTrue(appThread[0] != null && appThread[0] != Thread.currentThread());
+        assertEquals(1, threadedMonitor.getSaveCount());
+    }
+
+    @Test
+    public void register_platformServer_attributesReadable() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(DonnaFinMonitor.OBJECT_NAME);
+        try {
+            monitor.register(server);
+            // Registering again replaces the first registration.
+            monitor.register(server);
+
+            assertEquals(monitor.getClientCount(), server.getAttribute(name, "ClientCount"));
+            assertEquals("CONTACT", server.getAttribute(name, "UiState"));
+            server.invoke(name, "save", null, null);
+            assertEquals(1L, server.getAttribute(name, "SaveCount"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
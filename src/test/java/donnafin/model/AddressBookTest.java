@@ -3,19 +3,26 @@ package donnafin.model;
 import static donnafin.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static donnafin.testutil.Assert.assertThrows;
 import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BENSON;
+import static donnafin.testutil.TypicalPersons.CARL;
+import static donnafin.testutil.TypicalPersons.HOON;
 import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import donnafin.model.person.Person;
+import donnafin.model.person.PersonChanges;
 import donnafin.model.person.exceptions.DuplicatePersonException;
 import donnafin.testutil.PersonBuilder;
 import javafx.collections.FXCollections;
@@ -80,6 +87,104 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_afterEachChange_sameClientsAndOldSnapshotsUnchanged() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            persons.add(new PersonBuilder().withName("Client " + i).build());
+        }
+        addressBook.addPersons(persons);
+        AddressBookSnapshot first = addressBook.getSnapshot();
+        assertEquals(persons, first.getPersonList());
+
+        // Changes to a few clients of many are made to the versioned clients one client at a time
+        List<AddressBookSnapshot> snapshots = new ArrayList<>();
+        List<List<Person>> expectedClients = new ArrayList<>();
+        Runnable checkSnapshot = () -> {
+            AddressBookSnapshot snapshot = addressBook.getSnapshot();
+            assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+            snapshots.add(snapshot);
+            expectedClients.add(List.copyOf(addressBook.getPersonList()));
+        };
+        addressBook.addPerson(ALICE);
+        checkSnapshot.run();
+        addressBook.setPerson(persons.get(10), new PersonBuilder(persons.get(10)).withNotes("Changed").build());
+        checkSnapshot.run();
+        addressBook.removePerson(persons.get(20));
+        checkSnapshot.run();
+        AddressBook merged = new AddressBook(addressBook);
+        merged.removePerson(persons.get(0));
+        merged.setPerson(ALICE, new PersonBuilder(ALICE).withNotes("Merged").build());
+        merged.addPerson(BENSON);
+        addressBook.mergeData(addressBook.getSnapshot(), merged);
+        checkSnapshot.run();
+
+        assertEquals(persons, first.getPersonList());
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertEquals(expectedClients.get(i), snapshots.get(i).getPersonList());
+            assertEquals(first.getVersion() + i + 1, snapshots.get(i).getVersion());
+        }
+    }
+
+    @Test
+    public void getSnapshot_failedChange_sameSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertSame(snapshot, addressBook.getSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void changeListener_changes_oneEventPerChange() {
+        addressBook.addPersons(List.of(ALICE, BENSON));
+        List<ModelChangeEvent> events = new ArrayList<>();
+        addressBook.addChangeListener(events::add);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Renamed").build();
+
+        addressBook.addPerson(CARL);
+        addressBook.applyChanges(new PersonChanges()
+                .set(ALICE, editedAlice)
+                .set(BENSON, renamedBenson)
+                .add(HOON)
+                .remove(CARL));
+        // Nothing changes, so there is no event
+        addressBook.mergeData(addressBook.getSnapshot(), new AddressBook(addressBook));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(HOON));
+
+        assertEquals(2, events.size());
+        ModelChangeEvent added = events.get(0);
+        assertEquals(List.of(CARL), added.getAdded());
+        assertEquals(List.of(), added.getRemoved());
+        assertEquals(Map.of(), added.getUpdated());
+        ModelChangeEvent applied = events.get(1);
+        assertEquals(List.of(renamedBenson, HOON), applied.getAdded());
+        assertEquals(List.of(BENSON, CARL), applied.getRemoved());
+        assertEquals(Map.of(ALICE, editedAlice), applied.getUpdated());
+        assertEquals(added.getVersion() + 1, applied.getVersion());
+        assertSame(addressBook.getSnapshot(), applied.getSnapshot());
+    }
+
+    @Test
+    public void changeListener_listenerThrows_otherListenersToldAndChangeMade() {
+        List<ModelChangeEvent> events = new ArrayList<>();
+        addressBook.addChangeListener(event -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        addressBook.addChangeListener(events::add);
+        addressBook.addPerson(ALICE);
+        assertEquals(1, events.size());
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+
+        ModelChangeListener listener = events::add;
+        addressBook.addChangeListener(listener);
+        addressBook.removeChangeListener(listener);
+        addressBook.removePerson(ALICE);
+        assertEquals(2, events.size());
+        assertEquals(List.of(ALICE), events.get(1).getRemoved());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
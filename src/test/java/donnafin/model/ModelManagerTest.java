@@ -7,17 +7,24 @@ import static donnafin.testutil.TypicalPersons.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
 import donnafin.commons.core.GuiSettings;
 import donnafin.model.person.NameContainsKeywordsPredicate;
+import donnafin.model.person.Person;
 import donnafin.testutil.AddressBookBuilder;
+import donnafin.testutil.PersonBuilder;
+import javafx.collections.ListChangeListener;
 
 public class ModelManagerTest {
 
@@ -94,6 +101,65 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getAddressBookSnapshot_unchangedAddressBook_sameSnapshot() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getAddressBookSnapshot_changedAddressBook_newSnapshotAndOldUnchanged() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot before = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+        AddressBookSnapshot after = modelManager.getAddressBookSnapshot();
+
+        assertEquals(List.of(ALICE), before.getPersonList());
+        assertEquals(List.of(ALICE, BENSON), after.getPersonList());
+        assertTrue(after.getVersion() > before.getVersion());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_fromListenerDuringChange_includesChange() {
+        List<AddressBookSnapshot> seenByListener = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                seenByListener.add(modelManager.getAddressBookSnapshot()));
+
+        modelManager.addPerson(ALICE);
+        assertEquals(1, seenByListener.size());
+        assertEquals(List.of(ALICE), seenByListener.get(0).getPersonList());
+        assertEquals(List.of(ALICE), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_whileChangedOnAnotherThread_consistentSnapshots() throws Exception {
+        int changeCount = 500;
+        long firstVersion = modelManager.getAddressBookSnapshot().getVersion();
+        AtomicBoolean isDone = new AtomicBoolean(false);
+        List<String> inconsistencies = new ArrayList<>();
+        Thread reader = new Thread(() -> {
+            while (!isDone.get()) {
+                AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+                // Each change adds one client, so the version tells how many clients the snapshot should have
+                if (snapshot.getPersonList().size() != snapshot.getVersion() - firstVersion) {
+                    inconsistencies.add(snapshot.toString());
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < changeCount; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Client " + i).build());
+        }
+        isDone.set(true);
+        reader.join();
+
+        assertEquals(List.of(), inconsistencies);
+        assertEquals(changeCount, modelManager.getAddressBookSnapshot().getPersonList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,171 @@
+package donnafin.model;
+
+import static donnafin.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BENSON;
+import static donnafin.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.model.PersonChangeEvent.PersonAdded;
+import donnafin.model.PersonChangeEvent.PersonRemoved;
+import donnafin.model.PersonChangeEvent.PersonReplaced;
+import donnafin.model.person.Person;
+import donnafin.model.person.PersonChanges;
+import donnafin.testutil.PersonBuilder;
+
+public class PersonChangePublisherTest {
+
+    // Runs each delivery on the thread that publishes it, so that tests can check deliveries as soon as they are made
+    private static final Executor DIRECT = Runnable::run;
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_invalidBufferCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonChangePublisher(addressBook, DIRECT, 0));
+    }
+
+    @Test
+    public void subscribe_changes_typedEventsInOrder() {
+        PersonChangePublisher publisher = new PersonChangePublisher(addressBook, DIRECT, 16);
+        addressBook.addPerson(ALICE);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.addPerson(BENSON);
+        addressBook.applyChanges(new PersonChanges().add(CARL).set(ALICE, editedAlice).remove(BENSON));
+
+        long version = addressBook.getSnapshot().getVersion();
+        assertEquals(List.of(new PersonAdded(version - 1, BENSON), new PersonRemoved(version, BENSON),
+                new PersonReplaced(version, ALICE, editedAlice), new PersonAdded(version, CARL)),
+                subscriber.events);
+
+        publisher.close();
+        assertTrue(subscriber.isComplete);
+    }
+
+    @Test
+    public void subscribe_requestedOneAtATime_onlyRequestedEventsDelivered() {
+        PersonChangePublisher publisher = new PersonChangePublisher(addressBook, DIRECT, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        addressBook.addPersons(List.of(ALICE, BENSON, CARL));
+        assertEquals(1, subscriber.events.size());
+        subscriber.subscription.request(2);
+        assertEquals(3, subscriber.events.size());
+    }
+
+    @Test
+    public void subscribe_subscriberFallsBehind_onErrorAndOthersUnaffected() {
+        PersonChangePublisher publisher = new PersonChangePublisher(addressBook, DIRECT, 2);
+        RecordingSubscriber slow = new RecordingSubscriber(0);
+        RecordingSubscriber fast = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(slow);
+        publisher.subscribe(fast);
+
+        addressBook.addPersons(List.of(ALICE, BENSON, CARL));
+        assertTrue(slow.error instanceof IllegalStateException);
+        assertEquals(3, fast.events.size());
+        assertEquals(1, publisher.getSubscriberCount());
+    }
+
+    @Test
+    public void subscribe_cancelled_noMoreEvents() {
+        PersonChangePublisher publisher = new PersonChangePublisher(addressBook, DIRECT, 16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+        addressBook.addPerson(ALICE);
+        subscriber.subscription.cancel();
+        addressBook.addPerson(BENSON);
+
+        assertEquals(List.of(new PersonAdded(addressBook.getSnapshot().getVersion() - 1, ALICE)), subscriber.events);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    public void subscribe_slowSubscriberOnOwnExecutor_changesNotHeldUp() throws Exception {
+        PersonChangePublisher publisher = new PersonChangePublisher(addressBook, DIRECT, 16);
+        CountDownLatch isReleased = new CountDownLatch(1);
+        CountDownLatch isAllDelivered = new CountDownLatch(3);
+        RecordingSubscriber slow = new RecordingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(PersonChangeEvent item) {
+                try {
+                    isReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onNext(item);
+                isAllDelivered.countDown();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            publisher.subscribe(slow, executor);
+            addressBook.addPerson(ALICE);
+            addressBook.addPerson(BENSON);
+            addressBook.addPerson(CARL);
+            // The changes are made while the subscriber is still waiting on its first event
+            assertEquals(List.of(), slow.events);
+
+            isReleased.countDown();
+            assertTrue(isAllDelivered.await(10, TimeUnit.SECONDS));
+            assertEquals(3, slow.events.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A subscriber that records what it is sent, and requests a number of events when it subscribes.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<PersonChangeEvent> {
+        private final long initialRequest;
+        private final List<PersonChangeEvent> events = new CopyOnWriteArrayList<>();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean isComplete;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(PersonChangeEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            isComplete = true;
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class AssetTest {
 
     @Test
     public void constructor_allNull_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Asset(null, null, null,
+        assertThrows(NullPointerException.class, () -> new Asset(null, null, (String) null,
                 null));
     }
 
@@ -32,7 +32,7 @@ public class AssetTest {
                 VALID_REMARKS));
         assertThrows(NullPointerException.class, () -> new Asset(VALID_NAME, null, VALID_VALUE,
                 VALID_REMARKS));
-        assertThrows(NullPointerException.class, () -> new Asset(VALID_NAME, VALID_TYPE, null,
+        assertThrows(NullPointerException.class, () -> new Asset(VALID_NAME, VALID_TYPE, (String) null,
                 VALID_REMARKS));
         assertThrows(NullPointerException.class, () -> new Asset(VALID_NAME, VALID_TYPE, VALID_VALUE,
                 null));
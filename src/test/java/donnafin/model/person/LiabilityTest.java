@@ -22,7 +22,7 @@ public class LiabilityTest {
 
     @Test
     public void constructor_allNull_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Liability(null, null, null,
+        assertThrows(NullPointerException.class, () -> new Liability(null, null, (String) null,
                 null));
     }
 
@@ -32,7 +32,7 @@ public class LiabilityTest {
                 VALID_REMARKS));
         assertThrows(NullPointerException.class, () -> new Liability(VALID_NAME, null, VALID_VALUE,
                 VALID_REMARKS));
-        assertThrows(NullPointerException.class, () -> new Liability(VALID_NAME, VALID_TYPE, null,
+        assertThrows(NullPointerException.class, () -> new Liability(VALID_NAME, VALID_TYPE, (String) null,
                 VALID_REMARKS));
         assertThrows(NullPointerException.class, () -> new Liability(VALID_NAME, VALID_TYPE, VALID_VALUE,
                 null));
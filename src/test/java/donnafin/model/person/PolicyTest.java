@@ -24,7 +24,7 @@ public class PolicyTest {
 
     @Test
     public void constructor_allNull_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Policy(null, null, null,
+        assertThrows(NullPointerException.class, () -> new Policy(null, null, (String) null,
                 null, null));
     }
 
@@ -3,11 +3,16 @@ package donnafin.model.person;
 import static donnafin.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static donnafin.testutil.Assert.assertThrows;
 import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BENSON;
 import static donnafin.testutil.TypicalPersons.BOB;
+import static donnafin.testutil.TypicalPersons.CARL;
+import static donnafin.testutil.TypicalPersons.HOON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import donnafin.model.person.exceptions.DuplicatePersonException;
 import donnafin.model.person.exceptions.PersonNotFoundException;
 import donnafin.testutil.PersonBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniquePersonListTest {
 
@@ -56,6 +62,32 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(ALICE, BOB, ALICE)));
+    }
+
+    @Test
+    public void addAll_uniquePersons_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -159,6 +191,145 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void mergePersons_changedElsewhereOnly_onlyChangedPersonsReplaced() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person equalCarl = new PersonBuilder(CARL).build();
+
+        // Alice is replaced, Benson is removed and Hoon is added
+        MergeResult result = uniquePersonList.mergePersons(List.of(ALICE, BENSON, CARL),
+                List.of(editedAlice, equalCarl, HOON));
+        assertEquals(3, result.getChangedCount());
+        assertEquals(List.of(), result.getConflicts());
+        assertFalse(result.hasLocalChanges());
+        assertEquals(List.of(editedAlice, CARL, HOON), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(CARL, uniquePersonList.asUnmodifiableObservableList().get(1));
+    }
+
+    @Test
+    public void mergePersons_changedHereAndElsewhere_localChangesKept() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.add(BOB);
+
+        MergeResult result = uniquePersonList.mergePersons(List.of(ALICE, BENSON, CARL),
+                List.of(editedAlice, BENSON, HOON));
+        assertEquals(3, result.getChangedCount());
+        assertEquals(List.of(), result.getConflicts());
+        assertTrue(result.hasLocalChanges());
+        assertEquals(List.of(editedAlice, editedBenson, BOB, HOON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_changedDifferently_conflictsReportedAndNoEditLost() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        Person aliceHere = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person aliceElsewhere = new PersonBuilder(ALICE).withNotes("Edited elsewhere").build();
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, aliceHere);
+        uniquePersonList.remove(BENSON);
+
+        // Alice keeps the edit made here, and Benson, removed here but edited elsewhere, is added back
+        MergeResult result = uniquePersonList.mergePersons(List.of(ALICE, BENSON),
+                List.of(aliceElsewhere, editedBenson));
+        assertEquals(List.of(ALICE.getName(), BENSON.getName()), result.getConflicts());
+        assertTrue(result.hasLocalChanges());
+        assertEquals(List.of(aliceHere, editedBenson), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_removedHereOnly_staysRemoved() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        uniquePersonList.remove(BENSON);
+
+        MergeResult result = uniquePersonList.mergePersons(List.of(ALICE, BENSON), List.of(ALICE, BENSON));
+        assertEquals(0, result.getChangedCount());
+        assertTrue(result.hasLocalChanges());
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_reorderedElsewhere_orderKept() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        MergeResult result = uniquePersonList.mergePersons(List.of(ALICE, BENSON, CARL), List.of(CARL, ALICE, BENSON));
+        assertEquals(0, result.getChangedCount());
+        assertFalse(result.hasLocalChanges());
+        assertEquals(List.of(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.mergePersons(List.of(ALICE),
+                List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_changedList_listenersToldOnce() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        List<Integer> sizesOnChange = recordChanges();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.mergePersons(List.of(ALICE, BENSON, CARL), List.of(editedAlice, CARL, HOON));
+        assertEquals(List.of(3), sizesOnChange);
+    }
+
+    @Test
+    public void applyChanges_validChanges_changesMadeInOrderAndListenersToldOnce() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        List<Integer> sizesOnChange = recordChanges();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person renamedHoon = new PersonBuilder(HOON).withName("Hoon Renamed").build();
+
+        uniquePersonList.applyChanges(new PersonChanges()
+                .add(HOON)
+                .set(ALICE, editedAlice)
+                .remove(BENSON)
+                .set(HOON, renamedHoon)
+                .add(BOB)
+                .remove(BOB)
+                .add(BENSON));
+        assertEquals(List.of(editedAlice, CARL, renamedHoon, BENSON),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(4), sizesOnChange);
+
+        uniquePersonList.applyChanges(new PersonChanges());
+        assertEquals(List.of(4), sizesOnChange);
+    }
+
+    @Test
+    public void applyChanges_invalidChange_listUnchanged() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        List<Integer> sizesOnChange = recordChanges();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.applyChanges(
+                new PersonChanges().remove(BENSON).add(HOON).add(HOON)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.applyChanges(
+                new PersonChanges().set(ALICE, new PersonBuilder(BENSON).withNotes("Edited").build())));
+        // Alice must be replaced by the person equal to her, not just one with her name
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.applyChanges(
+                new PersonChanges().set(ALICE, editedAlice).remove(ALICE)));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.applyChanges(
+                new PersonChanges().add(HOON).remove(CARL)));
+
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(), sizesOnChange);
+    }
+
+    /**
+     * Returns a list that a listener adds the size of the list to, each time it is told of a change.
+     */
+    private List<Integer> recordChanges() {
+        List<Integer> sizes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                sizes.add(change.getList().size()));
+        return sizes;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
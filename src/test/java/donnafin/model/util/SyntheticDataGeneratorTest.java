@@ -0,0 +1,79 @@
+package donnafin.model.util;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final long SEED = 42;
+
+    @Test
+    public void generate_sameSeed_sameClients() {
+        List<Person> first = new SyntheticDataGenerator(SEED).generate(100).collect(Collectors.toList());
+        List<Person> second = new SyntheticDataGenerator(SEED).generate(100).collect(Collectors.toList());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void generate_differentSeeds_differentClients() {
+        List<Person> first = new SyntheticDataGenerator(SEED).generate(100).collect(Collectors.toList());
+        List<Person> second = new SyntheticDataGenerator(SEED + 1).generate(100).collect(Collectors.toList());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void generatePerson_anyOrder_sameAsGenerated() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        List<Person> generated = generator.generate(50).collect(Collectors.toList());
+        for (int i = 49; i >= 0; i--) {
+            assertEquals(generated.get(i), generator.generatePerson(i));
+        }
+    }
+
+    @Test
+    public void generate_moreClientsThanNames_namesUnique() {
+        int count = 5000;
+        Set<Name> names = new SyntheticDataGenerator(SEED).generate(count)
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        assertEquals(count, names.size());
+    }
+
+    @Test
+    public void generateAddressBook_validCount_containsAllClients() {
+        assertEquals(200, new SyntheticDataGenerator(SEED).generateAddressBook(200).getPersonList().size());
+    }
+
+    @Test
+    public void generate_manyClients_realisticDistributions() {
+        List<Person> persons = new SyntheticDataGenerator(SEED).generate(1000).collect(Collectors.toList());
+        long withPolicies = persons.stream().filter(person -> !person.getPolicies().isEmpty()).count();
+        long withoutLiabilities = persons.stream().filter(person -> person.getLiabilities().isEmpty()).count();
+        long insurers = persons.stream()
+                .flatMap(person -> person.getPolicies().stream())
+                .map(policy -> policy.getInsurer())
+                .distinct()
+                .count();
+
+        // Most clients hold a policy, many have no liabilities, and policies are spread across insurers
+        assertTrue(withPolicies > 700 && withPolicies < 900);
+        assertTrue(withoutLiabilities > 300 && withoutLiabilities < 500);
+        assertTrue(insurers > 5);
+    }
+
+    @Test
+    public void generate_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(SEED).generate(-1));
+    }
+}
@@ -0,0 +1,155 @@
+package donnafin.storage;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.HOON;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.model.AddressBook;
+import donnafin.testutil.PersonBuilder;
+
+public class BackupStoreTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T10:15:30.123Z"), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    private long countRecords() throws IOException {
+        Path objects = testFolder.resolve(BackupStore.OBJECTS_DIRECTORY);
+        try (Stream<Path> paths = Files.walk(objects)) {
+            return paths.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private List<String> getIds(BackupStore backupStore) throws IOException {
+        return backupStore.getSnapshots().stream().map(BackupStore.Snapshot::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void constructor_noRetention_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackupStore(testFolder, 0));
+    }
+
+    @Test
+    public void getBackupDirectory() {
+        assertEquals(Path.of("data", "donnafin-backups"),
+                BackupStore.getBackupDirectory(Path.of("data", "donnafin.json")));
+        assertEquals(Path.of("data", "donnafin-backups"),
+                BackupStore.getBackupDirectory(Path.of("data", "donnafin.json.gz")));
+    }
+
+    @Test
+    public void backUpAndRestore_typicalAddressBook_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BackupStore backupStore = new BackupStore(testFolder, 5, CLOCK);
+
+        BackupStore.Snapshot snapshot = backupStore.backUp(original).get();
+        assertEquals("20261019T101530123Z", snapshot.getId());
+        assertEquals(original.getPersonList().size(), snapshot.getClientCount());
+        assertEquals(original.getPersonList().size(), countRecords());
+        assertEquals(original, backupStore.restore(snapshot.getId()));
+
+        // A new store finds the snapshot
+        assertEquals(List.of(snapshot.getId()), getIds(new BackupStore(testFolder, 5, CLOCK)));
+        assertEquals(original, new BackupStore(testFolder, 5, CLOCK).restore(snapshot.getId()));
+    }
+
+    @Test
+    public void backUp_unchangedAddressBook_noSnapshot() throws Exception {
+        BackupStore backupStore = new BackupStore(testFolder, 5, CLOCK);
+        assertTrue(backupStore.backUp(getTypicalAddressBook()).isPresent());
+        assertFalse(backupStore.backUp(getTypicalAddressBook()).isPresent());
+        assertFalse(new BackupStore(testFolder, 5, CLOCK).backUp(getTypicalAddressBook()).isPresent());
+        assertEquals(1, backupStore.getSnapshots().size());
+    }
+
+    @Test
+    public void backUp_changedClients_onlyChangedRecordsWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        BackupStore backupStore = new BackupStore(testFolder, 5, CLOCK);
+        String firstId = backupStore.backUp(addressBook).get().getId();
+        AddressBook first = new AddressBook(addressBook);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withNotes("Changed").build());
+        addressBook.addPerson(HOON);
+        String secondId = backupStore.backUp(addressBook).get().getId();
+
+        // Snapshots made in the same millisecond are still named in order
+        assertEquals(List.of(firstId, secondId), getIds(backupStore));
+        assertEquals(first.getPersonList().size() + 2, countRecords());
+        assertEquals(first, backupStore.restore(firstId));
+        assertEquals(addressBook, backupStore.restore(secondId));
+    }
+
+    @Test
+    public void backUp_moreThanRetained_oldestSnapshotsAndTheirRecordsDeleted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        BackupStore backupStore = new BackupStore(testFolder, 2, CLOCK);
+        String firstId = backupStore.backUp(addressBook).get().getId();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withNotes("Second").build());
+        String secondId = backupStore.backUp(addressBook).get().getId();
+        addressBook.addPerson(HOON);
+        String thirdId = backupStore.backUp(addressBook).get().getId();
+
+        assertEquals(List.of(secondId, thirdId), getIds(backupStore));
+        assertEquals(List.of(secondId, thirdId), getIds(new BackupStore(testFolder, 2, CLOCK)));
+        // Only the first Alice is no longer in a kept snapshot
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, countRecords());
+        assertThrows(DataConversionException.class, () -> backupStore.restore(firstId));
+        assertEquals(addressBook, backupStore.restore(thirdId));
+    }
+
+    @Test
+    public void restore_missingRecord_throwsDataConversionException() throws Exception {
+        BackupStore backupStore = new BackupStore(testFolder, 5, CLOCK);
+        String id = backupStore.backUp(getTypicalAddressBook()).get().getId();
+        Optional<Path> record;
+        try (Stream<Path> paths = Files.walk(testFolder.resolve(BackupStore.OBJECTS_DIRECTORY))) {
+            record = paths.filter(Files::isRegularFile).findFirst();
+        }
+        Files.delete(record.get());
+        assertThrows(DataConversionException.class, () -> backupStore.restore(id));
+    }
+
+    @Test
+    public void backedUpAddressBookStorage_readAndSave_backedUpBeforeSave() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        BackupStore backupStore = new BackupStore(testFolder.resolve("backups"), 5, CLOCK);
+        BackedUpAddressBookStorage storage = new BackedUpAddressBookStorage(
+                new JsonAddressBookStorage(filePath), backupStore);
+
+        // The address book as it was read is backed up
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(1, backupStore.getSnapshots().size());
+
+        AddressBook changed = new AddressBook(original);
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+        List<BackupStore.Snapshot> snapshots = backupStore.getSnapshots();
+        assertEquals(2, snapshots.size());
+        assertEquals(original, backupStore.restore(snapshots.get(0).getId()));
+        assertEquals(changed, backupStore.restore(snapshots.get(1).getId()));
+        assertEquals(changed, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -0,0 +1,119 @@
+package donnafin.storage;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.getTypicalPersons;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.util.JsonUtil;
+import donnafin.model.person.Person;
+import donnafin.testutil.PersonBuilder;
+
+public class ClientExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullTarget_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ClientExporter(null));
+    }
+
+    @Test
+    public void isJsonLines() {
+        assertTrue(new ClientExporter(Paths.get("clients.jsonl")).isJsonLines());
+        assertTrue(new ClientExporter(Paths.get("data", "CLIENTS.JSONL")).isJsonLines());
+        assertFalse(new ClientExporter(Paths.get("data", "export")).isJsonLines());
+        assertFalse(new ClientExporter(Paths.get("clients.json")).isJsonLines());
+    }
+
+    @Test
+    public void export_csv_canBeImportedAgain() throws Exception {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Quoted Client").withAddress("1, \"The\" Road")
+                .withNotes("Line one\nLine two, with a comma").build());
+
+        new ClientExporter(testFolder).export(persons);
+        CsvClientImporter.Result result = new CsvClientImporter(testFolder).importClients(Set.of());
+
+        assertEquals(persons, result.getPersons());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void export_csvIntoNewFolder_folderCreated() throws Exception {
+        Path target = testFolder.resolve("new").resolve("folder");
+
+        new ClientExporter(target).export(List.of(ALICE));
+
+        assertEquals(List.of("name,phone,email,address,notes"),
+                Files.readAllLines(target.resolve(CsvClientImporter.CLIENTS_FILE)).subList(0, 1));
+        assertTrue(Files.exists(target.resolve(CsvClientImporter.LIABILITIES_FILE)));
+    }
+
+    @Test
+    public void export_jsonLines_oneClientPerLine() throws Exception {
+        Path target = testFolder.resolve("nested").resolve("clients.jsonl");
+        List<Person> persons = getTypicalPersons();
+
+        new ClientExporter(target).export(persons);
+
+        List<String> lines = Files.readAllLines(target);
+        assertEquals(persons.size(), lines.size());
+        for (int i = 0; i < persons.size(); i++) {
+            Person read = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPerson.class).toModelType();
+            assertEquals(persons.get(i), read);
+        }
+    }
+
+    @Test
+    public void exportInBackground_success() throws Exception {
+        Path target = testFolder.resolve("clients.jsonl");
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+
+        int exported = new ClientExporter(target).exportInBackground(persons).get();
+
+        assertEquals(persons.size(), exported);
+        assertEquals(persons.size(), Files.readAllLines(target).size());
+    }
+
+    @Test
+    public void exportInBackground_listChangedAfterCall_snapshotExported() throws Exception {
+        Path target = testFolder.resolve("clients.jsonl");
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        int expectedSize = persons.size();
+
+        CompletableFuture<Integer> pendingExport = new ClientExporter(target).exportInBackground(persons);
+        persons.clear();
+
+        assertEquals(expectedSize, (int) pendingExport.get());
+    }
+
+    @Test
+    public void exportInBackground_unwritableTarget_completesExceptionally() throws Exception {
+        Path file = testFolder.resolve("file");
+        Files.createFile(file);
+
+        // a folder cannot be created where a file already exists
+        CompletableFuture<Integer> pendingExport =
+                new ClientExporter(file.resolve("export")).exportInBackground(List.of(ALICE));
+
+        assertThrows(ExecutionException.class, pendingExport::get);
+        assertTrue(pendingExport.handle((count, e) -> e.getCause() instanceof IOException).get());
+    }
+}
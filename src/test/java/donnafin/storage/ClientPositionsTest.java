@@ -0,0 +1,41 @@
+package donnafin.storage;
+
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import donnafin.model.person.Person;
+
+public class ClientPositionsTest {
+
+    @Test
+    public void assign_knownInOrder_keptAndGapsFilled() {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        long gap = ClientPositions.GAP;
+        Map<Person, Long> known = new HashMap<>();
+        known.put(persons.get(0), 10L);
+        known.put(persons.get(2), 14L);
+        // Out of order, so given a new position
+        known.put(persons.get(3), 12L);
+
+        long[] positions = ClientPositions.assign(persons.subList(0, 5), known);
+
+        assertArrayEquals(new long[] {10, 12, 14, 14 + gap, 14 + 2 * gap}, positions);
+    }
+
+    @Test
+    public void assign_noRoomBetweenNeighbours_renumbered() {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        long gap = ClientPositions.GAP;
+        Map<Person, Long> known = Map.of(persons.get(0), 10L, persons.get(2), 11L);
+
+        long[] positions = ClientPositions.assign(persons.subList(0, 3), known);
+
+        assertArrayEquals(new long[] {gap, 2 * gap, 3 * gap}, positions);
+    }
+}
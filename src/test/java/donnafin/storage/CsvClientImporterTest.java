@@ -0,0 +1,159 @@
+package donnafin.storage;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.ASSETS_INPUT;
+import static donnafin.testutil.TypicalPersons.BENSON;
+import static donnafin.testutil.TypicalPersons.LIABILITIES_INPUT;
+import static donnafin.testutil.TypicalPersons.POLICIES_INPUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.commons.util.CsvUtil;
+import donnafin.model.person.Name;
+import donnafin.model.person.Person;
+import donnafin.testutil.PersonBuilder;
+
+public class CsvClientImporterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvClientImporterTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDirectory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvClientImporter(null));
+    }
+
+    @Test
+    public void importClients_missingClientsFile_throwsIoException() {
+        CsvClientImporter importer = new CsvClientImporter(TEST_DATA_FOLDER.resolve("missingClients"));
+        assertThrows(IOException.class, () -> importer.importClients(Set.of()));
+    }
+
+    @Test
+    public void importClients_validFiles_success() throws Exception {
+        CsvClientImporter.Result result = new CsvClientImporter(TEST_DATA_FOLDER.resolve("valid"))
+                .importClients(Set.of());
+
+        Person expectedAlice = new PersonBuilder(ALICE).withLiability(Set.of()).build();
+        Person expectedBenson = new PersonBuilder(BENSON).withPolicies(Set.of()).withAssets(Set.of()).build();
+        assertEquals(List.of(expectedAlice, expectedBenson), result.getPersons());
+        assertEquals(POLICIES_INPUT, result.getPersons().get(0).getPolicies());
+        assertEquals(ASSETS_INPUT, result.getPersons().get(0).getAssets());
+        assertEquals(LIABILITIES_INPUT, result.getPersons().get(1).getLiabilities());
+        assertEquals(3, result.getAttributeCount());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void importClients_existingClient_reportedAsError() throws Exception {
+        CsvClientImporter.Result result = new CsvClientImporter(TEST_DATA_FOLDER.resolve("valid"))
+                .importClients(Set.of(new Name("Benson Meier")));
+
+        assertEquals(1, result.getPersons().size());
+        // Benson's liability is also rejected as Benson was not imported
+        assertEquals(List.of(
+                String.format(CsvClientImporter.MESSAGE_ROW_ERROR, CsvClientImporter.CLIENTS_FILE, 3,
+                        String.format(CsvClientImporter.MESSAGE_DUPLICATE_CLIENT, "Benson Meier")),
+                String.format(CsvClientImporter.MESSAGE_ROW_ERROR, CsvClientImporter.LIABILITIES_FILE, 2,
+                        String.format(CsvClientImporter.MESSAGE_UNKNOWN_CLIENT, "Benson Meier"))),
+                result.getErrors());
+    }
+
+    @Test
+    public void importClients_invalidRows_skippedAndReported() throws Exception {
+        CsvClientImporter.Result result = new CsvClientImporter(TEST_DATA_FOLDER.resolve("withErrors"))
+                .importClients(Set.of());
+
+        assertEquals(2, result.getPersons().size());
+        assertEquals("Alice Pauline", result.getPersons().get(0).getName().fullName);
+        assertEquals(1, result.getPersons().get(0).getPolicies().size());
+        assertEquals("Elle Meyer", result.getPersons().get(1).getName().fullName);
+        assertEquals(1, result.getAttributeCount());
+
+        List<String> errors = result.getErrors();
+        assertEquals(6, errors.size());
+        assertTrue(errors.get(0).startsWith("clients.csv line 3: "));
+        assertTrue(errors.get(1).startsWith("clients.csv line 4: "));
+        assertTrue(errors.get(2).startsWith("clients.csv line 5: "));
+        assertTrue(errors.get(3).startsWith("policies.csv line 3: "));
+        assertTrue(errors.get(4).startsWith("policies.csv line 4: "));
+        assertTrue(errors.get(5).startsWith("policies.csv line 5: "));
+    }
+
+    @Test
+    public void importClients_moreRowsThanOneBatch_allRowsRead() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone,email,address");
+        int clientCount = 2500;
+        for (int i = 0; i < clientCount; i++) {
+            lines.add("Client " + i + ",9" + i + "00,client" + i + "@example.com,Block " + i);
+        }
+        Files.write(testFolder.resolve(CsvClientImporter.CLIENTS_FILE), lines);
+
+        CsvClientImporter.Result result = new CsvClientImporter(testFolder).importClients(Set.of());
+
+        assertEquals(clientCount, result.getPersons().size());
+        assertEquals("Client 2499", result.getPersons().get(clientCount - 1).getName().fullName);
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void importClients_lineBreakInQuotedField_readAsOneRow() throws Exception {
+        CsvClientImporter.Result result = new CsvClientImporter(TEST_DATA_FOLDER.resolve("multiLineNotes"))
+                .importClients(Set.of());
+
+        assertEquals(2, result.getPersons().size());
+        assertEquals("Prefers calls\nin the evening", result.getPersons().get(0).getNotes().notes);
+        assertEquals("Elle Meyer", result.getPersons().get(1).getName().fullName);
+        // the row with an invalid email is reported by the line it starts on
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("clients.csv line 6: "));
+    }
+
+    @Test
+    public void importClients_quoteInsideUnquotedField_rowsAfterItRead() throws Exception {
+        Files.write(testFolder.resolve(CsvClientImporter.CLIENTS_FILE), List.of(
+                "name,phone,email,address",
+                "Alice Pauline,94351253,alice@example.com,Blk 5 \"The Pines\"",
+                "Benson Meier,98765432,benson@example.com,311 Clementi Ave 2",
+                "Carl Kurz,95352563,carl@example.com,\"wall street\""));
+
+        CsvClientImporter.Result result = new CsvClientImporter(testFolder).importClients(Set.of());
+
+        assertEquals(3, result.getPersons().size());
+        assertEquals("Blk 5 \"The Pines\"", result.getPersons().get(0).getAddress().value);
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    public void importClients_unterminatedQuotedField_onlyThatRowReported() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone,email,address");
+        lines.add("Alice Pauline,94351253,alice@example.com,\"never closed");
+        int clientCount = 150;
+        for (int i = 0; i < clientCount; i++) {
+            lines.add("Client " + i + ",9" + i + "00,client" + i + "@example.com,Block " + i);
+        }
+        Files.write(testFolder.resolve(CsvClientImporter.CLIENTS_FILE), lines);
+
+        CsvClientImporter.Result result = new CsvClientImporter(testFolder).importClients(Set.of());
+
+        assertEquals(clientCount, result.getPersons().size());
+        assertEquals("Client 0", result.getPersons().get(0).getName().fullName);
+        assertEquals(List.of(String.format(CsvClientImporter.MESSAGE_ROW_ERROR, CsvClientImporter.CLIENTS_FILE, 2,
+                CsvUtil.MESSAGE_UNTERMINATED_QUOTE)), result.getErrors());
+    }
+}
@@ -2,22 +2,34 @@ package donnafin.storage;
 
 import static donnafin.testutil.Assert.assertThrows;
 import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BENSON;
 import static donnafin.testutil.TypicalPersons.HOON;
 import static donnafin.testutil.TypicalPersons.IDA;
 import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+
 import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.JsonUtil;
 import donnafin.model.AddressBook;
 import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -96,6 +108,242 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamedPersons_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("StreamedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        long count = jsonAddressBookStorage.saveAddressBook(original.getPersonList().iterator(), filePath);
+        assertEquals(original.getPersonList().size(), count);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Streamed and non-streamed saves of the same clients write the same file
+        Path nonStreamedFilePath = testFolder.resolve("NonStreamedAddressBook.json");
+        jsonAddressBookStorage.saveAddressBook(original, nonStreamedFilePath);
+        assertEquals(Files.readString(nonStreamedFilePath), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_clientsChangedSinceLastSave_sameAsUncachedSave() throws Exception {
+        Path filePath = testFolder.resolve("CachedAddressBook.json");
+        Path uncachedFilePath = testFolder.resolve("UncachedAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(addressBook);
+
+        new JsonAddressBookStorage(uncachedFilePath).saveAddressBook(addressBook);
+        assertEquals(Files.readString(uncachedFilePath), Files.readString(filePath));
+        assertEquals(addressBook, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noStreamedPersons_readBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("EmptyAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        assertEquals(0, jsonAddressBookStorage.saveAddressBook(Collections.emptyIterator(), filePath));
+        assertEquals(new AddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBookInBatches_typicalPersons_sameAsWholeRead() throws Exception {
+        Path filePath = testFolder.resolve("BatchedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+
+        List<List<Person>> batches = new ArrayList<>();
+        assertTrue(jsonAddressBookStorage.readAddressBook(3, batches::add));
+
+        // Every batch is full except possibly the last one
+        int personCount = original.getPersonList().size();
+        assertEquals((personCount + 2) / 3, batches.size());
+        batches.subList(0, batches.size() - 1).forEach(batch -> assertEquals(3, batch.size()));
+        AddressBook readBack = new AddressBook();
+        batches.forEach(readBack::addPersons);
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path uncompressedPath = testFolder.resolve("AddressBook.json");
+        new JsonAddressBookStorage(uncompressedPath).saveAddressBook(original);
+
+        for (String extension : List.of(".gz", ".deflate")) {
+            Path filePath = testFolder.resolve("AddressBook.json" + extension);
+            JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+            jsonAddressBookStorage.saveAddressBook(original);
+            assertTrue(Files.size(filePath) < Files.size(uncompressedPath));
+
+            assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+            List<List<Person>> batches = new ArrayList<>();
+            assertTrue(jsonAddressBookStorage.readAddressBook(3, batches::add));
+            AddressBook readBack = new AddressBook();
+            batches.forEach(readBack::addPersons);
+            assertEquals(original, readBack);
+        }
+    }
+
+    @Test
+    public void readAddressBookInBatches_missingFile_falseWithoutBatches() throws Exception {
+        List<List<Person>> batches = new ArrayList<>();
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBook(3, batches::add));
+        assertEquals(List.of(), batches);
+    }
+
+    @Test
+    public void readAddressBookInBatches_invalidFile_throwDataConversionException() {
+        for (String file : List.of("notJsonFormatAddressBook.json", "invalidAndValidPersonAddressBook.json",
+                "duplicatePersonAddressBook.json")) {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve(file));
+            assertThrows(DataConversionException.class, () -> storage.readAddressBook(1, unused -> { }));
+        }
+    }
+
+    @Test
+    public void readAddressBookInBatches_invalidBatchSize_throwsIllegalArgumentException() {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("SomeFile.json"));
+        assertThrows(IllegalArgumentException.class, () -> storage.readAddressBook(0, unused -> { }));
+    }
+
+    /**
+     * Copies the test data file {@code fileName} into the temporary folder, so that files written next to it are
+     * cleaned up.
+     */
+    private Path copyTestDataFile(String fileName) throws IOException {
+        return Files.copy(TEST_DATA_FOLDER.resolve(fileName), testFolder.resolve(fileName));
+    }
+
+    private List<JsonQuarantinedRecord> readQuarantinedRecords(Path filePath) throws IOException {
+        List<JsonQuarantinedRecord> records = new ArrayList<>();
+        try (MappingIterator<JsonQuarantinedRecord> iterator = JsonUtil.readJsonArrayFile(
+                JsonAddressBookStorage.getQuarantineFile(filePath), JsonAddressBookStorage.QUARANTINED_FIELD,
+                JsonQuarantinedRecord.class)) {
+            while (iterator.hasNextValue()) {
+                records.add(iterator.nextValue());
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void getQuarantineFile() {
+        assertEquals(Paths.get("data", "donnafin.json.quarantine.json"),
+                JsonAddressBookStorage.getQuarantineFile(Paths.get("data", "donnafin.json")));
+        assertEquals(Paths.get("data", "donnafin.json.quarantine.json"),
+                JsonAddressBookStorage.getQuarantineFile(Paths.get("data", "donnafin.json.gz")));
+    }
+
+    @Test
+    public void salvageAddressBook_validFile_sameAsReadWithoutQuarantine() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, storage.salvageAddressBook().get());
+        assertFalse(Files.exists(JsonAddressBookStorage.getQuarantineFile(filePath)));
+    }
+
+    @Test
+    public void salvageAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .salvageAddressBook().isPresent());
+    }
+
+    @Test
+    public void salvageAddressBook_invalidPersons_validLoadedAndInvalidQuarantined() throws Exception {
+        Path filePath = copyTestDataFile("someInvalidPersonsAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        List<Person> persons = storage.salvageAddressBook().get().getPersonList();
+        assertEquals(2, persons.size());
+        assertEquals("First Valid Person", persons.get(0).getName().fullName);
+        assertEquals("Last Valid Person", persons.get(1).getName().fullName);
+
+        List<JsonQuarantinedRecord> records = readQuarantinedRecords(filePath);
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).getIndex());
+        assertEquals("Person With Invalid Phone Field", records.get(0).getRecord().get("name").asText());
+        assertEquals(2, records.get(1).getIndex());
+        assertEquals("Person With Invalid Policy Field", records.get(1).getRecord().get("name").asText());
+        records.forEach(record -> assertFalse(record.getError().isEmpty()));
+
+        // Records quarantined before are kept
+        storage.salvageAddressBook();
+        assertEquals(4, readQuarantinedRecords(filePath).size());
+    }
+
+    @Test
+    public void salvageAddressBook_duplicatePersons_laterDuplicateQuarantined() throws Exception {
+        Path filePath = copyTestDataFile("duplicatePersonAddressBook.json");
+
+        assertEquals(1, new JsonAddressBookStorage(filePath).salvageAddressBook().get().getPersonList().size());
+        List<JsonQuarantinedRecord> records = readQuarantinedRecords(filePath);
+        assertEquals(1, records.size());
+        assertEquals(1, records.get(0).getIndex());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, records.get(0).getError());
+    }
+
+    @Test
+    public void salvageAddressBook_truncatedFile_personsBeforeErrorLoadedAndFileCopied() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+
+        List<Person> persons = new JsonAddressBookStorage(filePath).salvageAddressBook().get().getPersonList();
+        assertFalse(persons.isEmpty());
+        assertTrue(persons.size() < original.getPersonList().size());
+        assertEquals(original.getPersonList().subList(0, persons.size()), persons);
+
+        Path copy = JsonAddressBookStorage.getUnreadableCopyFile(filePath);
+        assertEquals(Files.readString(filePath), Files.readString(copy));
+        List<JsonQuarantinedRecord> records = readQuarantinedRecords(filePath);
+        assertEquals(1, records.size());
+        assertEquals(persons.size(), records.get(0).getIndex());
+        assertTrue(records.get(0).getError().contains(copy.toString()));
+    }
+
+    @Test
+    public void salvageAddressBook_notJsonFormat_throwsIoExceptionAndFileCopied() throws Exception {
+        Path filePath = copyTestDataFile("notJsonFormatAddressBook.json");
+        assertThrows(IOException.class, () -> new JsonAddressBookStorage(filePath).salvageAddressBook());
+        assertEquals(Files.readString(filePath),
+                Files.readString(JsonAddressBookStorage.getUnreadableCopyFile(filePath)));
+    }
+
+    @Test
+    public void verifyAddressBook_savedAndEditedFile_editedClientDamaged() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertTrue(storage.verifyAddressBook().get().isIntact());
+
+        // The file is still valid, so it is read as usual
+        Person benson = original.getPersonList().get(1);
+        String phone = benson.getPhone().value;
+        Files.writeString(filePath, Files.readString(filePath).replace(phone, "91234567"));
+        assertEquals(original.getPersonList().size(), storage.readAddressBook().get().getPersonList().size());
+        assertEquals(List.of(1), storage.verifyAddressBook().get().getDamagedRecords());
+    }
+
+    @Test
+    public void verifyAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .verifyAddressBook().isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
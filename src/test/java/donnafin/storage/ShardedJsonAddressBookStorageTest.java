@@ -0,0 +1,309 @@
+package donnafin.storage;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BENSON;
+import static donnafin.testutil.TypicalPersons.HOON;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.JsonUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.testutil.PersonBuilder;
+
+public class ShardedJsonAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonShardManifest readManifest(Path manifestPath) throws Exception {
+        return JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class).get();
+    }
+
+    /**
+     * Returns the file of shard {@code shard} that the manifest at {@code manifestPath} lists.
+     */
+    private Path getShardPath(Path manifestPath, int shard) throws Exception {
+        return manifestPath.resolveSibling(readManifest(manifestPath).getShards().get(shard));
+    }
+
+    /**
+     * Returns the names of the files in the shard directory of the manifest at {@code manifestPath}.
+     */
+    private Set<String> getShardDirectoryFiles(Path manifestPath) throws Exception {
+        try (Stream<Path> files = Files.list(getShardPath(manifestPath, 0).getParent())) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Sets the modified time of every shard to long ago, so that rewritten shards can be told apart.
+     */
+    private void ageShards(Path manifestPath) throws Exception {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Files.setLastModifiedTime(getShardPath(manifestPath, i), OLD_TIME);
+        }
+    }
+
+    private List<Integer> getRewrittenShards(Path manifestPath) throws Exception {
+        List<Integer> rewritten = new ArrayList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (!Files.getLastModifiedTime(getShardPath(manifestPath, i)).equals(OLD_TIME)) {
+                rewritten.add(i);
+            }
+        }
+        return rewritten;
+    }
+
+    @Test
+    public void constructor_noShards_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedJsonAddressBookStorage(testFolder.resolve("donnafin.json"), 0));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedManifest_compressedShards() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertTrue(Files.exists(getShardPath(filePath, i)));
+            assertTrue(getShardPath(filePath, i).toString().endsWith(".json.gz"));
+        }
+        assertEquals(original, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedJsonAddressBookStorage(testFolder.resolve("donnafin.json"), SHARD_COUNT)
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+
+        storage.saveAddressBook(original);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertTrue(Files.exists(getShardPath(filePath, i)));
+        }
+        // A new storage has nothing cached, and keeps the order of the clients
+        assertEquals(original, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_oneClientEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        ageShards(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(List.of(ShardedJsonAddressBookStorage.getShard(BENSON, SHARD_COUNT)),
+                getRewrittenShards(filePath));
+        AddressBook readBack = new AddressBook(new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT)
+                .readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        // The edited client keeps its place
+        assertEquals(addressBook.getPersonList().indexOf(editedBenson),
+                readBack.getPersonList().indexOf(editedBenson));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_unchangedShardsNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        ageShards(filePath);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertEquals(List.of(), getRewrittenShards(filePath));
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(List.of(ShardedJsonAddressBookStorage.getShard(ALICE, SHARD_COUNT)),
+                getRewrittenShards(filePath));
+    }
+
+    @Test
+    public void readAddressBook_singleFileLayout_splitIntoShards() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        String singleFile = Files.readString(filePath);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        assertEquals(original, storage.readAddressBook().get());
+
+        assertEquals(singleFile, Files.readString(
+                filePath.resolveSibling("donnafin.json" + ShardedJsonAddressBookStorage.BACKUP_SUFFIX)));
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertTrue(Files.exists(getShardPath(filePath, i)));
+        }
+        assertEquals(original, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_differentShardCount_reshardedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT * 2).saveAddressBook(original);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        storage.saveAddressBook(new AddressBook(storage.readAddressBook().get()));
+
+        assertEquals(SHARD_COUNT, getShardDirectoryFiles(filePath).size());
+        assertEquals(original, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_everySave_newGenerationAndReplacedShardsDeleted() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, readManifest(filePath).getGeneration());
+
+        // Renamed so that the client moves to another shard, so that two shards are rewritten
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Renamed").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+
+        JsonShardManifest manifest = readManifest(filePath);
+        assertEquals(3, manifest.getGeneration());
+        assertEquals(manifest.getShards().stream().map(shard -> Path.of(shard).getFileName().toString())
+                .collect(Collectors.toSet()), getShardDirectoryFiles(filePath));
+        assertEquals(addressBook, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_saveStoppedBeforeManifest_previousSaveRead() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+
+        // A save that wrote a shard holding clients already in another, and had begun writing a second, but
+        // stopped before replacing the manifest
+        Files.copy(getShardPath(filePath, ShardedJsonAddressBookStorage.getShard(ALICE, SHARD_COUNT)),
+                filePath.resolveSibling("donnafin-shards/shard-999-2.json"));
+        Files.writeString(filePath.resolveSibling("donnafin-shards/~shard-002-2.json"), "{");
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        assertEquals(original, storage.readAddressBook().get());
+        // Shard files that are not listed are deleted by the next save
+        storage.saveAddressBook(original);
+        assertEquals(SHARD_COUNT, getShardDirectoryFiles(filePath).size());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(getShardPath(filePath, 1));
+
+        assertThrows(DataConversionException.class, () ->
+                new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void salvageAddressBook_invalidPersonInShard_validLoadedAndInvalidQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+        Path aliceShard = null;
+        for (int i = 0; i < SHARD_COUNT && aliceShard == null; i++) {
+            JsonNode shard = JsonUtil.readJsonFile(getShardPath(filePath, i), JsonNode.class).get();
+            for (JsonNode record : shard.get(JsonSerializableAddressBook.PERSONS_FIELD)) {
+                if (record.get("name").asText().equals(ALICE.getName().fullName)) {
+                    ((ObjectNode) record).put("phone", "not a phone");
+                    aliceShard = getShardPath(filePath, i);
+                    JsonUtil.saveJsonFile(shard, aliceShard);
+                }
+            }
+        }
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        ReadOnlyAddressBook salvaged = storage.salvageAddressBook().get();
+        assertEquals(expected, salvaged);
+        try (MappingIterator<JsonQuarantinedRecord> records = JsonUtil.readJsonArrayFile(
+                JsonAddressBookStorage.getQuarantineFile(filePath), JsonAddressBookStorage.QUARANTINED_FIELD,
+                JsonQuarantinedRecord.class)) {
+            JsonQuarantinedRecord record = records.nextValue();
+            assertEquals(aliceShard.getFileName().toString(), record.getSource());
+            assertEquals(ALICE.getName().fullName, record.getRecord().get("name").asText());
+            assertFalse(records.hasNextValue());
+        }
+
+        // The next save rewrites every shard without the client left out
+        storage.saveAddressBook(salvaged);
+        assertEquals(expected, new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook().get());
+    }
+
+    @Test
+    public void salvageAddressBook_unreadableManifest_manifestAndShardsCopied() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Set<String> shardFiles = getShardDirectoryFiles(filePath);
+        Path shardDirectory = getShardPath(filePath, 0).getParent();
+        Files.writeString(filePath, "not a manifest");
+
+        assertThrows(IOException.class, () ->
+                new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).salvageAddressBook());
+        assertEquals("not a manifest", Files.readString(JsonAddressBookStorage.getUnreadableCopyFile(filePath)));
+        try (Stream<Path> files = Files.list(JsonAddressBookStorage.getUnreadableCopyFile(shardDirectory))) {
+            assertEquals(shardFiles, files.map(file -> file.getFileName().toString()).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void readAddressBookInBatches_typicalPersons_inOrder() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+
+        List<Person> persons = new ArrayList<>();
+        assertTrue(new ShardedJsonAddressBookStorage(filePath, SHARD_COUNT).readAddressBook(2, persons::addAll));
+        assertEquals(original.getPersonList(), persons);
+    }
+}
@@ -0,0 +1,222 @@
+package donnafin.storage;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.BENSON;
+import static donnafin.testutil.TypicalPersons.CARL;
+import static donnafin.testutil.TypicalPersons.HOON;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import donnafin.commons.exceptions.DataConversionException;
+import donnafin.commons.util.JsonUtil;
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.model.person.Policy;
+import donnafin.testutil.PersonBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Path.of("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private ReadOnlyAddressBook readWithNewStorage(Path filePath) throws Exception {
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            return storage.readAddressBook().get();
+        }
+    }
+
+    @Test
+    public void getDatabaseFile_jsonFile_besideJsonFile() {
+        assertEquals(Path.of("data", "donnafin.mv.db"),
+                SqlAddressBookStorage.getDatabaseFile(Path.of("data", "donnafin.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingDatabase_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            assertFalse(storage.readAddressBook().isPresent());
+        }
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFile(filePath)));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(original);
+            assertTrue(Files.exists(SqlAddressBookStorage.getDatabaseFile(filePath)));
+            assertEquals(original, storage.readAddressBook().get());
+        }
+        // A new storage keeps the order of the clients
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonAddressBook_imported() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, readWithNewStorage(filePath));
+        assertTrue(Files.exists(SqlAddressBookStorage.getDatabaseFile(filePath)));
+
+        // The database is read from now on, not the Json file
+        Files.delete(filePath);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidJsonAddressBook_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json"), filePath);
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            assertThrows(DataConversionException.class, storage::readAddressBook);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_changedClients_onlyChangesSaved() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(addressBook);
+
+            // Edit, delete and add clients, and rename a client to the name of a deleted client
+            Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").withNotes("Changed")
+                    .withPolicies(Set.of(new Policy("Diamond", "AIA", "$100000", "$20", "$1"))).build();
+            addressBook.setPerson(ALICE, editedAlice);
+            addressBook.removePerson(BENSON);
+            addressBook.setPerson(CARL, new PersonBuilder(CARL).withName(BENSON.getName().fullName).build());
+            addressBook.addPerson(HOON);
+            storage.saveAddressBook(addressBook);
+            assertEquals(addressBook, readWithNewStorage(filePath));
+
+            // A storage that has read the address book saves its changes as well
+            ReadOnlyAddressBook read = storage.readAddressBook().get();
+            AddressBook changed = new AddressBook(read);
+            changed.removePerson(HOON);
+            storage.saveAddressBook(changed);
+            assertEquals(changed, readWithNewStorage(filePath));
+        }
+    }
+
+    @Test
+    public void salvageAddressBook_invalidClient_validLoadedAndInvalidQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        String databasePath = SqlAddressBookStorage.getDatabaseFile(filePath).toAbsolutePath().toString();
+        String url = "jdbc:h2:file:" + databasePath.substring(0, databasePath.length() - ".mv.db".length());
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(getTypicalAddressBook());
+            try (Connection connection = DriverManager.getConnection(url);
+                    Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE clients SET phone = 'not a phone' WHERE name = '"
+                        + ALICE.getName() + "'");
+            }
+            assertThrows(DataConversionException.class, storage::readAddressBook);
+
+            ReadOnlyAddressBook salvaged = storage.salvageAddressBook().get();
+            assertEquals(expected, salvaged);
+            try (MappingIterator<JsonQuarantinedRecord> records = JsonUtil.readJsonArrayFile(
+                    JsonAddressBookStorage.getQuarantineFile(filePath), JsonAddressBookStorage.QUARANTINED_FIELD,
+                    JsonQuarantinedRecord.class)) {
+                JsonQuarantinedRecord record = records.nextValue();
+                assertEquals(SqlAddressBookStorage.DATABASE_TABLE_CLIENTS, record.getSource());
+                assertEquals(ALICE.getName().fullName, record.getRecord().get("name").asText());
+                assertEquals("not a phone", record.getRecord().get("phone").asText());
+                assertFalse(records.hasNextValue());
+            }
+
+            // The next save rewrites every client, without the client left out
+            storage.saveAddressBook(salvaged);
+        }
+        assertEquals(expected, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_failedSave_nextSaveWritesEveryClient() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        String databasePath = SqlAddressBookStorage.getDatabaseFile(filePath).toAbsolutePath().toString();
+        String url = "jdbc:h2:file:" + databasePath.substring(0, databasePath.length() - ".mv.db".length());
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(addressBook);
+
+            // Another connection takes the name of a client about to be added, so the save is rolled back
+            try (Connection connection = DriverManager.getConnection(url);
+                    Statement statement = connection.createStatement()) {
+                statement.executeUpdate("INSERT INTO clients (id, list_position, name, phone, email, address, notes) "
+                        + "VALUES (1000, 0, '" + HOON.getName() + "', '', '', '', '')");
+            }
+            addressBook.removePerson(ALICE);
+            addressBook.addPerson(HOON);
+            assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+
+            try (Connection connection = DriverManager.getConnection(url);
+                    Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM clients WHERE id = 1000");
+            }
+            storage.saveAddressBook(addressBook);
+            assertEquals(addressBook, readWithNewStorage(filePath));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_everyClientSaved() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook original = getTypicalAddressBook();
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(original);
+            storage.saveAddressBook(original, otherFilePath);
+        }
+        assertEquals(original, readWithNewStorage(otherFilePath));
+    }
+
+    @Test
+    public void findClientNames_keywords_matchingClientsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(getTypicalAddressBook());
+            assertEquals(List.of("Benson Meier", "Daniel Meier"), storage.findClientNames(List.of("MEIER")));
+            assertEquals(List.of("Alice Pauline", "Carl Kurz"), storage.findClientNames(List.of("kurz", "alice")));
+            assertEquals(List.of(), storage.findClientNames(List.of("Meie")));
+            assertEquals(List.of(), storage.findClientNames(List.of()));
+        }
+    }
+
+    @Test
+    public void getTotals_typicalAddressBook_sumsOfEveryClient() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        try (SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath)) {
+            storage.saveAddressBook(getTypicalAddressBook());
+            // Each of the 7 typical clients has a commission of $0.50, an asset of $3000 and a liability of $30
+            assertEquals(7 * 50, storage.getTotalCommission());
+            assertEquals(7 * 300000, storage.getTotalAssetValue());
+            assertEquals(7 * 3000, storage.getTotalLiabilityValue());
+        }
+    }
+}
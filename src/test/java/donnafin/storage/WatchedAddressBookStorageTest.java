@@ -0,0 +1,168 @@
+package donnafin.storage;
+
+import static donnafin.testutil.Assert.assertThrows;
+import static donnafin.testutil.TypicalPersons.ALICE;
+import static donnafin.testutil.TypicalPersons.HOON;
+import static donnafin.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import donnafin.model.AddressBook;
+import donnafin.model.ReadOnlyAddressBook;
+import donnafin.model.person.Person;
+import donnafin.testutil.PersonBuilder;
+
+public class WatchedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WatchedAddressBookStorage createStorage(Path filePath) {
+        return new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    private AddressBook getChangedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        return addressBook;
+    }
+
+    /**
+     * Returns the clients of {@code first} followed by those of {@code second}.
+     */
+    private static List<Person> concat(ReadOnlyAddressBook first, ReadOnlyAddressBook second) {
+        List<Person> persons = new ArrayList<>(first.getPersonList());
+        persons.addAll(second.getPersonList());
+        return persons;
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        AddressBook original = getTypicalAddressBook();
+        WatchedAddressBookStorage storage = createStorage(filePath);
+
+        assertFalse(storage.readAddressBook().isPresent());
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(WatchedAddressBookStorage.getLockFile(filePath)));
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(original, createStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changedByAnotherCopy_throwsIoExceptionUntilMerged() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        WatchedAddressBookStorage otherCopy = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        otherCopy.readAddressBook();
+
+        AddressBook changed = getChangedAddressBook();
+        storage.saveAddressBook(changed);
+        assertThrows(IOException.class, String.format(WatchedAddressBookStorage.MESSAGE_CHANGED_ELSEWHERE, filePath),
+                () -> otherCopy.saveAddressBook(getTypicalAddressBook()));
+        assertEquals(changed, createStorage(filePath).readAddressBook().get());
+
+        List<List<Person>> merged = new ArrayList<>();
+        BiConsumer<ReadOnlyAddressBook, ReadOnlyAddressBook> onChange = (base, changedAddressBook) ->
+                merged.add(concat(base, changedAddressBook));
+        assertTrue(otherCopy.checkForChanges(Runnable::run, onChange));
+        // The address book last read is given as the base to merge the changes against
+        assertEquals(List.of(concat(getTypicalAddressBook(), changed)), merged);
+        // The change is only handed over once
+        assertFalse(otherCopy.checkForChanges(Runnable::run, onChange));
+
+        // Once merged, saving is allowed again
+        otherCopy.saveAddressBook(changed);
+    }
+
+    @Test
+    public void checkForChanges_ownSave_noChange() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        List<ReadOnlyAddressBook> merged = new ArrayList<>();
+        assertFalse(storage.checkForChanges(Runnable::run, (base, changed) -> merged.add(changed)));
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(storage.checkForChanges(Runnable::run, (base, changed) -> merged.add(changed)));
+        assertTrue(merged.isEmpty());
+    }
+
+    @Test
+    public void checkForChanges_shardChangedByAnotherCopy_changeGiven() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(
+                new ShardedJsonAddressBookStorage(filePath, 4));
+        WatchedAddressBookStorage otherCopy = new WatchedAddressBookStorage(
+                new ShardedJsonAddressBookStorage(filePath, 4));
+        storage.saveAddressBook(getTypicalAddressBook());
+        otherCopy.readAddressBook();
+
+        // Only the shard of the edited client is written, but the manifest is rewritten too
+        AddressBook changed = getTypicalAddressBook();
+        changed.setPerson(ALICE, new PersonBuilder(ALICE).withNotes("Changed").build());
+        Thread.sleep(10);
+        storage.saveAddressBook(changed);
+        List<ReadOnlyAddressBook> merged = new ArrayList<>();
+        assertTrue(otherCopy.checkForChanges(Runnable::run, (base, changedAddressBook) ->
+                merged.add(changedAddressBook)));
+        assertEquals(List.of(changed), merged);
+    }
+
+    @Test
+    public void startWatching_changedByAnotherCopy_changeGiven() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        BlockingQueue<ReadOnlyAddressBook> merged = new LinkedBlockingQueue<>();
+        try (WatchedAddressBookStorage storage = createStorage(filePath)) {
+            storage.saveAddressBook(getTypicalAddressBook());
+            storage.startWatching(Runnable::run, (base, changed) -> merged.add(changed));
+
+            AddressBook changed = getChangedAddressBook();
+            WatchedAddressBookStorage otherCopy = createStorage(filePath);
+            otherCopy.readAddressBook();
+            otherCopy.saveAddressBook(changed);
+            assertEquals(changed, merged.poll(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void checkForChanges_changedAgainBeforeMerge_eachMergedAgainstThePrevious() throws Exception {
+        Path filePath = testFolder.resolve("donnafin.json");
+        WatchedAddressBookStorage storage = createStorage(filePath);
+        WatchedAddressBookStorage otherCopy = createStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        otherCopy.readAddressBook();
+
+        List<Runnable> appThreadTasks = new ArrayList<>();
+        List<List<Person>> merges = new ArrayList<>();
+        AddressBook changed = getChangedAddressBook();
+        otherCopy.saveAddressBook(changed);
+        assertTrue(storage.checkForChanges(appThreadTasks::add, (base, changedAddressBook) ->
+                merges.add(concat(base, changedAddressBook))));
+        AddressBook changedAgain = new AddressBook(changed);
+        changedAgain.removePerson(HOON);
+        // Makes sure that the file stamp changes, on file systems with coarse modification times
+        Thread.sleep(10);
+        otherCopy.saveAddressBook(changedAgain);
+        assertTrue(storage.checkForChanges(appThreadTasks::add, (base, changedAddressBook) ->
+                merges.add(concat(base, changedAddressBook))));
+
+        appThreadTasks.forEach(Runnable::run);
+        assertEquals(List.of(concat(getTypicalAddressBook(), changed), concat(changed, changedAgain)), merges);
+    }
+}
@@ -14,6 +14,7 @@ public class DummyUiForCommands implements Ui {
     private int countExit = 0;
     private int countView = 0;
     private final List<ViewFinderState> tabSwitches = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
     private ViewFinderState curr = ViewFinderState.CONTACT;
 
     @Override
@@ -50,6 +51,15 @@ public class DummyUiForCommands implements Ui {
         countHome++;
     }
 
+    @Override
+    public void showMessage(String message) {
+        messages.add(message);
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
     private boolean isValid(
             int countHome, int countExit, int countHelp,
             int countView, List<ViewFinderState> tabSwitches) {